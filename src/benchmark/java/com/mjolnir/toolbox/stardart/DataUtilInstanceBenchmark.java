@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ *     JMH benchmark of the access to {@link DataUtil} by 32 threads: the former {@code synchronized}
+ *     {@code getInstance()}, reproduced by {@link SynchronizedInstance}, against the lock-free
+ *     {@link DataUtil#getInstance()} and the static facade {@link Dates}.
+ * </p>
+ * <p>
+ *     Kept out of the default build: compile with {@code mvn -Pbenchmark test-compile} and run the
+ *     {@link #main(String[])} method, or {@code org.openjdk.jmh.Main DataUtilInstanceBenchmark}, on the test
+ *     classpath of the profile.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(32)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DataUtilInstanceBenchmark {
+
+    private final Date initialDate = new Date(1_577_934_245_123L);
+    private final Date endDate = new Date(1_609_556_645_123L);
+
+    /**
+     * <p>
+     *     The {@code getInstance()} of DataUtil before it became lock-free: lazy and {@code synchronized}.
+     * </p>
+     */
+    static final class SynchronizedInstance {
+
+        private static DataUtil instance;
+
+        private SynchronizedInstance() {}
+
+        static synchronized DataUtil getInstance() {
+            if (instance == null) {
+                instance = DataUtil.getInstance();
+            }
+            return instance;
+        }
+    }
+
+    @Benchmark
+    public DataUtil synchronizedGetInstance() {
+        return SynchronizedInstance.getInstance();
+    }
+
+    @Benchmark
+    public DataUtil lockFreeGetInstance() {
+        return DataUtil.getInstance();
+    }
+
+    @Benchmark
+    public boolean synchronizedIsEndDateHigher() {
+        return SynchronizedInstance.getInstance().isEndDateHigher(initialDate, endDate);
+    }
+
+    @Benchmark
+    public boolean datesIsEndDateHigher() {
+        return Dates.isEndDateHigher(initialDate, endDate);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DataUtilInstanceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ *     Escritor de payloads BR Code (EMV MPM) em um buffer reutilizável. Cada campo é gravado no formato TLV:
+ *     ID(2) + tamanho(2) + valor. Templates (campos compostos, como o 26 e o 62) são abertos com
+ *     {@link #abrirTemplate(int)} e fechados com {@link #fecharTemplate()}, que grava o tamanho do template.
+ * </p>
+ * <p>
+ *     Os valores devem conter apenas caracteres ASCII; remova acentos antes, por exemplo com
+ *     {@code StringUtil.removeSpecialCharacters}. Instâncias não são thread-safe; utilize {@link #limpar()} para
+ *     reaproveitar o buffer em um novo payload.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+public final class BRCodeEscritor {
+
+    private static final int CAPACIDADE_INICIAL = 512;
+    private static final int TAMANHO_MAXIMO_VALOR = 99;
+    private static final int MAXIMO_ASCII = 0x7F;
+    private static final int PROFUNDIDADE_MAXIMA = 2;
+    private static final char[] HEXADECIMAL = "0123456789ABCDEF".toCharArray();
+
+    private char[] buffer = new char[CAPACIDADE_INICIAL];
+    private int tamanho;
+    private final int[] templates = new int[PROFUNDIDADE_MAXIMA];
+    private int profundidade;
+
+    /**
+     * <p>
+     *     Descarta o conteúdo gravado, mantendo o buffer para reutilização.
+     * </p>
+     *
+     * @return Este escritor
+     */
+    public BRCodeEscritor limpar() {
+        this.tamanho = 0;
+        this.profundidade = 0;
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Grava um campo.
+     * </p>
+     *
+     * @param id ID do campo (0 a 99)
+     * @param valor Valor do campo, com até 99 caracteres ASCII
+     * @return Este escritor
+     */
+    public BRCodeEscritor campo(int id, CharSequence valor) {
+        final int tamanhoValor = valor.length();
+        if (tamanhoValor > TAMANHO_MAXIMO_VALOR) {
+            throw new IllegalArgumentException("ERRO: Valor do campo " + id + " excede 99 caracteres.");
+        }
+        garantirCapacidade(4 + tamanhoValor);
+        escreverDoisDigitos(id);
+        escreverDoisDigitos(tamanhoValor);
+        for (int i = 0; i < tamanhoValor; ++i) {
+            final char c = valor.charAt(i);
+            if (c > MAXIMO_ASCII) {
+                throw new IllegalArgumentException("ERRO: Caractere não ASCII no campo " + id + ": " + c);
+            }
+            buffer[tamanho++] = c;
+        }
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Grava um campo de valor monetário no formato do BR Code (ponto como separador decimal, 2 casas).
+     * </p>
+     *
+     * @param id ID do campo
+     * @param centavos Valor em centavos, maior que zero
+     * @return Este escritor
+     */
+    public BRCodeEscritor campoValor(int id, long centavos) {
+        if (centavos <= 0) {
+            throw new IllegalArgumentException("ERRO: Valor deve ser maior que zero: " + centavos);
+        }
+        int digitosInteiros = 1;
+        for (long inteiro = centavos / 100; inteiro >= 10; inteiro /= 10) {
+            ++digitosInteiros;
+        }
+        final int tamanhoValor = digitosInteiros + 3;
+        garantirCapacidade(4 + tamanhoValor);
+        escreverDoisDigitos(id);
+        escreverDoisDigitos(tamanhoValor);
+        long valor = centavos;
+        for (int i = tamanho + tamanhoValor - 1; i >= tamanho; --i) {
+            if (i == tamanho + digitosInteiros) {
+                buffer[i] = '.';
+            } else {
+                buffer[i] = (char) ('0' + valor % 10);
+                valor /= 10;
+            }
+        }
+        tamanho += tamanhoValor;
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Abre um template. Os campos gravados até {@link #fecharTemplate()} compõem o valor do template.
+     * </p>
+     *
+     * @param id ID do template
+     * @return Este escritor
+     */
+    public BRCodeEscritor abrirTemplate(int id) {
+        if (profundidade == PROFUNDIDADE_MAXIMA) {
+            throw new IllegalStateException("ERRO: Profundidade máxima de templates excedida.");
+        }
+        garantirCapacidade(4);
+        escreverDoisDigitos(id);
+        templates[profundidade++] = tamanho;
+        tamanho += 2;
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Fecha o último template aberto, gravando o seu tamanho.
+     * </p>
+     *
+     * @return Este escritor
+     */
+    public BRCodeEscritor fecharTemplate() {
+        if (profundidade == 0) {
+            throw new IllegalStateException("ERRO: Nenhum template aberto.");
+        }
+        final int posicaoTamanho = templates[--profundidade];
+        final int tamanhoValor = tamanho - posicaoTamanho - 2;
+        if (tamanhoValor > TAMANHO_MAXIMO_VALOR) {
+            throw new IllegalArgumentException("ERRO: Template excede 99 caracteres.");
+        }
+        buffer[posicaoTamanho] = (char) ('0' + tamanhoValor / 10);
+        buffer[posicaoTamanho + 1] = (char) ('0' + tamanhoValor % 10);
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Grava o campo de CRC (ID 63) com o CRC16-CCITT de todo o payload.
+     * </p>
+     *
+     * @return Este escritor
+     */
+    public BRCodeEscritor finalizar() {
+        if (profundidade != 0) {
+            throw new IllegalStateException("ERRO: Template não fechado.");
+        }
+        garantirCapacidade(8);
+        escreverDoisDigitos(BRCodeUtil.ID_CRC);
+        escreverDoisDigitos(4);
+        final int crc = BRCodeUtil.crc16(buffer, 0, tamanho);
+        for (int deslocamento = 12; deslocamento >= 0; deslocamento -= 4) {
+            buffer[tamanho++] = HEXADECIMAL[crc >>> deslocamento & 0xF];
+        }
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Quantidade de caracteres gravados.
+     * </p>
+     *
+     * @return Tamanho do payload
+     */
+    public int length() {
+        return tamanho;
+    }
+
+    /**
+     * <p>
+     *     Copia o payload para o buffer informado.
+     * </p>
+     *
+     * @param destino Buffer de destino
+     * @param posicao Posição inicial de escrita
+     * @return Posição seguinte ao último caractere escrito
+     */
+    public int copiarPara(char[] destino, int posicao) {
+        System.arraycopy(buffer, 0, destino, posicao, tamanho);
+        return posicao + tamanho;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, tamanho);
+    }
+
+    private void escreverDoisDigitos(int valor) {
+        if (valor < 0 || valor > TAMANHO_MAXIMO_VALOR) {
+            throw new IllegalArgumentException("ERRO: ID ou tamanho inválido: " + valor);
+        }
+        buffer[tamanho++] = (char) ('0' + valor / 10);
+        buffer[tamanho++] = (char) ('0' + valor % 10);
+    }
+
+    private void garantirCapacidade(int adicional) {
+        if (tamanho + adicional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, tamanho + adicional));
+        }
+    }
+}
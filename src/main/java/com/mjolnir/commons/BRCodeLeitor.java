@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+/**
+ * <p>
+ *     Leitor sequencial de payloads BR Code (EMV MPM). O leitor percorre os campos TLV sobre o próprio texto,
+ *     expondo ID, posição e tamanho do valor sem criar objetos por campo; o valor só é convertido em String
+ *     quando solicitado por {@link #getValor()}.
+ * </p>
+ * <p>
+ *     Exemplo de leitura da chave PIX (campo 26, subcampo 01):
+ * </p>
+ * <pre>
+ *     BRCodeLeitor leitor = new BRCodeLeitor(payload);
+ *     while (leitor.proximo()) {
+ *         if (leitor.getId() == BRCodeUtil.ID_CONTA_PIX) {
+ *             leitor.entrar();
+ *             while (leitor.proximo()) {
+ *                 if (leitor.getId() == BRCodeUtil.ID_PIX_CHAVE) {
+ *                     chave = leitor.getValor();
+ *                 }
+ *             }
+ *             leitor.sair();
+ *         }
+ *     }
+ * </pre>
+ * <p>
+ *     Um campo malformado (ID ou tamanho não numérico, ou tamanho além do fim do payload ou do template) encerra a
+ *     leitura: {@link #proximo()} retorna False e {@link #isMalformado()} passa a retornar True, com a posição do
+ *     campo em {@link #getPosicaoErro()}.
+ * </p>
+ * <p>
+ *     Instâncias não são thread-safe; utilize {@link #reiniciar(CharSequence)} para reaproveitar o leitor.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+public final class BRCodeLeitor {
+
+    private static final int PROFUNDIDADE_MAXIMA = 2;
+
+    private CharSequence payload;
+    private int posicao;
+    private int limite;
+    private final int[] limites = new int[PROFUNDIDADE_MAXIMA];
+    private int profundidade;
+    private int id;
+    private int inicioValor;
+    private int tamanhoValor;
+    private int posicaoErro;
+
+    /**
+     * Constructor.
+     * @param payload Payload BR Code
+     */
+    public BRCodeLeitor(CharSequence payload) {
+        reiniciar(payload);
+    }
+
+    /**
+     * <p>
+     *     Reinicia o leitor sobre um novo payload.
+     * </p>
+     *
+     * @param novoPayload Payload BR Code
+     * @return Este leitor
+     */
+    public BRCodeLeitor reiniciar(CharSequence novoPayload) {
+        this.payload = novoPayload;
+        this.posicao = 0;
+        this.limite = novoPayload.length();
+        this.profundidade = 0;
+        this.id = -1;
+        this.inicioValor = 0;
+        this.tamanhoValor = 0;
+        this.posicaoErro = -1;
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Avança para o próximo campo do nivel atual.
+     * </p>
+     *
+     * @return True se houver um campo, False ao final do payload ou do template ou se o campo estiver malformado
+     */
+    public boolean proximo() {
+        if (posicaoErro >= 0 || posicao >= limite) {
+            return false;
+        }
+        final int novoId = posicao + 4 <= limite ? lerDoisDigitos(posicao) : -1;
+        final int novoTamanho = novoId >= 0 ? lerDoisDigitos(posicao + 2) : -1;
+        if (novoTamanho < 0 || posicao + 4 + novoTamanho > limite) {
+            posicaoErro = posicao;
+            return false;
+        }
+        id = novoId;
+        tamanhoValor = novoTamanho;
+        inicioValor = posicao + 4;
+        posicao = inicioValor + tamanhoValor;
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Indica se a leitura foi encerrada por um campo malformado.
+     * </p>
+     *
+     * @return True se um campo malformado foi encontrado
+     */
+    public boolean isMalformado() {
+        return posicaoErro >= 0;
+    }
+
+    /**
+     * <p>
+     *     Posição no payload do campo malformado.
+     * </p>
+     *
+     * @return Posição do campo ou -1 se nenhum campo malformado foi encontrado
+     */
+    public int getPosicaoErro() {
+        return posicaoErro;
+    }
+
+    /**
+     * <p>
+     *     Entra no template do campo atual; os próximos campos lidos são os subcampos.
+     * </p>
+     */
+    public void entrar() {
+        if (profundidade == PROFUNDIDADE_MAXIMA) {
+            throw new IllegalStateException("ERRO: Profundidade máxima de templates excedida.");
+        }
+        limites[profundidade++] = limite;
+        limite = inicioValor + tamanhoValor;
+        posicao = inicioValor;
+    }
+
+    /**
+     * <p>
+     *     Sai do template atual, posicionando o leitor após o template.
+     * </p>
+     */
+    public void sair() {
+        if (profundidade == 0) {
+            throw new IllegalStateException("ERRO: Nenhum template aberto.");
+        }
+        posicao = limite;
+        limite = limites[--profundidade];
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getInicioValor() {
+        return inicioValor;
+    }
+
+    public int getTamanhoValor() {
+        return tamanhoValor;
+    }
+
+    /**
+     * <p>
+     *     Posição do inicio do campo atual (ID) no payload.
+     * </p>
+     *
+     * @return Posição do campo
+     */
+    public int getInicioCampo() {
+        return inicioValor - 4;
+    }
+
+    /**
+     * <p>
+     *     Valor do campo atual.
+     * </p>
+     *
+     * @return Valor
+     */
+    public String getValor() {
+        return payload.subSequence(inicioValor, inicioValor + tamanhoValor).toString();
+    }
+
+    /**
+     * <p>
+     *     Compara o valor do campo atual sem criar objetos.
+     * </p>
+     *
+     * @param valor Valor esperado
+     * @return True se o valor for igual
+     */
+    public boolean valorIgual(CharSequence valor) {
+        if (valor.length() != tamanhoValor) {
+            return false;
+        }
+        for (int i = 0; i < tamanhoValor; ++i) {
+            if (payload.charAt(inicioValor + i) != valor.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Converte o valor monetário do campo atual (por exemplo "10.50") em centavos.
+     * </p>
+     *
+     * @return Valor em centavos
+     */
+    public long getValorCentavos() {
+        long centavos = 0;
+        int decimais = -1;
+        for (int i = inicioValor; i < inicioValor + tamanhoValor; ++i) {
+            final char c = payload.charAt(i);
+            if (c == '.' && decimais < 0) {
+                decimais = 0;
+            } else if (c >= '0' && c <= '9' && decimais < 2) {
+                centavos = centavos * 10 + (c - '0');
+                if (decimais >= 0) {
+                    ++decimais;
+                }
+            } else {
+                throw new IllegalArgumentException("ERRO: Valor monetário inválido no campo " + id);
+            }
+        }
+        for (int i = Math.max(decimais, 0); i < 2; ++i) {
+            centavos *= 10;
+        }
+        return centavos;
+    }
+
+    private int lerDoisDigitos(int inicio) {
+        final int dezena = payload.charAt(inicio) - '0';
+        final int unidade = payload.charAt(inicio + 1) - '0';
+        if (dezena < 0 || dezena > 9 || unidade < 0 || unidade > 9) {
+            return -1;
+        }
+        return dezena * 10 + unidade;
+    }
+}
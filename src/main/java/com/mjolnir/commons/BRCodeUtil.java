@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Classe utilitária para geração e validação de payloads BR Code (EMV MPM) do PIX, o "copia e cola".
+ * </p>
+ * <p>
+ *     A geração é feita com {@link BRCodeEscritor} e a leitura com {@link BRCodeLeitor}, ambos reutilizáveis. O
+ *     CRC16-CCITT (polinômio 0x1021, valor inicial 0xFFFF) é calculado por tabela, um byte por iteração.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BRCodeUtil {
+
+    /**
+     * Payload Format Indicator.
+     */
+    public static final int ID_FORMATO = 0;
+    /**
+     * Point of Initiation Method (11 estático, 12 dinâmico).
+     */
+    public static final int ID_INICIACAO = 1;
+    /**
+     * Merchant Account Information do PIX.
+     */
+    public static final int ID_CONTA_PIX = 26;
+    /**
+     * Subcampo GUI do PIX.
+     */
+    public static final int ID_PIX_GUI = 0;
+    /**
+     * Subcampo chave PIX.
+     */
+    public static final int ID_PIX_CHAVE = 1;
+    /**
+     * Subcampo informação adicional.
+     */
+    public static final int ID_PIX_DESCRICAO = 2;
+    /**
+     * Subcampo URL do payload dinâmico.
+     */
+    public static final int ID_PIX_URL = 25;
+    /**
+     * Merchant Category Code.
+     */
+    public static final int ID_MCC = 52;
+    /**
+     * Transaction Currency.
+     */
+    public static final int ID_MOEDA = 53;
+    /**
+     * Transaction Amount.
+     */
+    public static final int ID_VALOR = 54;
+    /**
+     * Country Code.
+     */
+    public static final int ID_PAIS = 58;
+    /**
+     * Merchant Name.
+     */
+    public static final int ID_NOME = 59;
+    /**
+     * Merchant City.
+     */
+    public static final int ID_CIDADE = 60;
+    /**
+     * Additional Data Field Template.
+     */
+    public static final int ID_DADOS_ADICIONAIS = 62;
+    /**
+     * Subcampo Reference Label (txid).
+     */
+    public static final int ID_TXID = 5;
+    /**
+     * CRC16.
+     */
+    public static final int ID_CRC = 63;
+
+    /**
+     * GUI do arranjo PIX.
+     */
+    public static final String GUI_PIX = "br.gov.bcb.pix";
+
+    private static final String FORMATO = "01";
+    private static final String MCC_NAO_INFORMADO = "0000";
+    private static final String MOEDA_REAL = "986";
+    private static final String PAIS_BRASIL = "BR";
+    private static final String TXID_NAO_INFORMADO = "***";
+    private static final int TAMANHO_MAXIMO_NOME = 25;
+    private static final int TAMANHO_MAXIMO_CIDADE = 15;
+    private static final int TAMANHO_CAMPO_CRC = 8;
+    private static final int POLINOMIO = 0x1021;
+    private static final int VALOR_INICIAL = 0xFFFF;
+    private static final int[] TABELA_CRC = new int[256];
+    private static final long OBRIGATORIOS = 1L << ID_FORMATO | 1L << ID_CONTA_PIX | 1L << ID_MCC | 1L << ID_MOEDA
+            | 1L << ID_PAIS | 1L << ID_NOME | 1L << ID_CIDADE;
+
+    static {
+        for (int i = 0; i < TABELA_CRC.length; ++i) {
+            int crc = i << 8;
+            for (int bit = 0; bit < 8; ++bit) {
+                crc = (crc & 0x8000) != 0 ? crc << 1 ^ POLINOMIO : crc << 1;
+            }
+            TABELA_CRC[i] = crc & 0xFFFF;
+        }
+    }
+
+    /**
+     * <p>
+     *     Calcula o CRC16-CCITT de um trecho de texto ASCII.
+     * </p>
+     *
+     * @param texto Texto
+     * @param posicao Posição inicial
+     * @param tamanho Quantidade de caracteres
+     * @return CRC de 16 bits
+     */
+    public static int crc16(CharSequence texto, int posicao, int tamanho) {
+        int crc = VALOR_INICIAL;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            crc = (crc << 8 ^ TABELA_CRC[(crc >>> 8 ^ texto.charAt(i)) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    /**
+     * <p>
+     *     Calcula o CRC16-CCITT de um trecho de buffer ASCII.
+     * </p>
+     *
+     * @param texto Buffer
+     * @param posicao Posição inicial
+     * @param tamanho Quantidade de caracteres
+     * @return CRC de 16 bits
+     */
+    public static int crc16(char[] texto, int posicao, int tamanho) {
+        int crc = VALOR_INICIAL;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            crc = (crc << 8 ^ TABELA_CRC[(crc >>> 8 ^ texto[i]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    /**
+     * <p>
+     *     Calcula o CRC16-CCITT de um trecho de bytes.
+     * </p>
+     *
+     * @param dados Bytes
+     * @param posicao Posição inicial
+     * @param tamanho Quantidade de bytes
+     * @return CRC de 16 bits
+     */
+    public static int crc16(byte[] dados, int posicao, int tamanho) {
+        int crc = VALOR_INICIAL;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            crc = (crc << 8 ^ TABELA_CRC[(crc >>> 8 ^ dados[i]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    /**
+     * <p>
+     *     Verifica se o payload termina com o campo de CRC (6304) e se o CRC confere.
+     * </p>
+     *
+     * @param payload Payload BR Code
+     * @return True se o CRC for válido
+     */
+    public static boolean isCrcValido(CharSequence payload) {
+        if (payload == null || payload.length() < TAMANHO_CAMPO_CRC) {
+            return false;
+        }
+        final int inicioCrc = payload.length() - 4;
+        if (payload.charAt(inicioCrc - 4) != '6' || payload.charAt(inicioCrc - 3) != '3'
+                || payload.charAt(inicioCrc - 2) != '0' || payload.charAt(inicioCrc - 1) != '4') {
+            return false;
+        }
+        int informado = 0;
+        for (int i = inicioCrc; i < payload.length(); ++i) {
+            final int digito = Character.digit(payload.charAt(i), 16);
+            if (digito < 0) {
+                return false;
+            }
+            informado = informado << 4 | digito;
+        }
+        return informado == crc16(payload, 0, inicioCrc);
+    }
+
+    /**
+     * <p>
+     *     Valida o payload: estrutura TLV, CRC e os campos obrigatórios do BR Code, Payload Format Indicator (00)
+     *     como primeiro campo, conta PIX (26) com o GUI {@value #GUI_PIX}, MCC (52) com 4 digitos, moeda (53)
+     *     986, país (58) BR, nome (59) com até 25 caracteres, cidade (60) com até 15 caracteres e CRC (63) como
+     *     último campo.
+     * </p>
+     *
+     * @param payload Payload BR Code
+     * @return True se o payload for válido
+     */
+    public static boolean validar(CharSequence payload) {
+        if (!isCrcValido(payload)) {
+            return false;
+        }
+        final BRCodeLeitor leitor = new BRCodeLeitor(payload);
+        long presentes = 0;
+        int ultimoId = -1;
+        while (leitor.proximo()) {
+            if (ultimoId == ID_CRC) {
+                return false;
+            }
+            ultimoId = leitor.getId();
+            final boolean valido;
+            switch (ultimoId) {
+                case ID_FORMATO:
+                    valido = leitor.getInicioCampo() == 0 && leitor.valorIgual(FORMATO);
+                    break;
+                case ID_CONTA_PIX:
+                    leitor.entrar();
+                    valido = leitor.proximo() && leitor.getId() == ID_PIX_GUI && leitor.valorIgual(GUI_PIX);
+                    leitor.sair();
+                    break;
+                case ID_MCC:
+                    valido = leitor.getTamanhoValor() == MCC_NAO_INFORMADO.length() && isNumerico(leitor, payload);
+                    break;
+                case ID_MOEDA:
+                    valido = leitor.valorIgual(MOEDA_REAL);
+                    break;
+                case ID_PAIS:
+                    valido = leitor.valorIgual(PAIS_BRASIL);
+                    break;
+                case ID_NOME:
+                    valido = leitor.getTamanhoValor() > 0 && leitor.getTamanhoValor() <= TAMANHO_MAXIMO_NOME;
+                    break;
+                case ID_CIDADE:
+                    valido = leitor.getTamanhoValor() > 0 && leitor.getTamanhoValor() <= TAMANHO_MAXIMO_CIDADE;
+                    break;
+                default:
+                    continue;
+            }
+            if (!valido || (presentes & 1L << ultimoId) != 0) {
+                return false;
+            }
+            presentes |= 1L << ultimoId;
+        }
+        return !leitor.isMalformado() && ultimoId == ID_CRC && presentes == OBRIGATORIOS;
+    }
+
+    /**
+     * <p>
+     *     Gera o payload de um PIX estático.
+     * </p>
+     *
+     * @param chave Chave PIX do recebedor
+     * @param nome Nome do recebedor (até 25 caracteres)
+     * @param cidade Cidade do recebedor (até 15 caracteres)
+     * @param valorCentavos Valor em centavos, ou 0 para valor livre
+     * @param txid Identificador da transação, ou null
+     * @param descricao Informação adicional, ou null
+     * @return Payload BR Code
+     */
+    public static String gerarPix(String chave, String nome, String cidade, long valorCentavos, String txid,
+                                  String descricao) {
+        return gerarPix(new BRCodeEscritor(), chave, nome, cidade, valorCentavos, txid, descricao).toString();
+    }
+
+    /**
+     * <p>
+     *     Gera o payload de um PIX estático no escritor informado, que é limpo antes da gravação.
+     * </p>
+     *
+     * @param escritor Escritor reutilizável
+     * @param chave Chave PIX do recebedor
+     * @param nome Nome do recebedor (até 25 caracteres)
+     * @param cidade Cidade do recebedor (até 15 caracteres)
+     * @param valorCentavos Valor em centavos, ou 0 para valor livre
+     * @param txid Identificador da transação, ou null
+     * @param descricao Informação adicional, ou null
+     * @return O escritor com o payload finalizado
+     */
+    public static BRCodeEscritor gerarPix(BRCodeEscritor escritor, String chave, String nome, String cidade,
+                                          long valorCentavos, String txid, String descricao) {
+        if (nome.length() > TAMANHO_MAXIMO_NOME || cidade.length() > TAMANHO_MAXIMO_CIDADE) {
+            throw new IllegalArgumentException("ERRO: Nome limitado a 25 e cidade a 15 caracteres.");
+        }
+        escritor.limpar()
+                .campo(ID_FORMATO, FORMATO)
+                .abrirTemplate(ID_CONTA_PIX)
+                .campo(ID_PIX_GUI, GUI_PIX)
+                .campo(ID_PIX_CHAVE, chave);
+        if (descricao != null && !descricao.isEmpty()) {
+            escritor.campo(ID_PIX_DESCRICAO, descricao);
+        }
+        escritor.fecharTemplate()
+                .campo(ID_MCC, MCC_NAO_INFORMADO)
+                .campo(ID_MOEDA, MOEDA_REAL);
+        if (valorCentavos > 0) {
+            escritor.campoValor(ID_VALOR, valorCentavos);
+        }
+        return escritor.campo(ID_PAIS, PAIS_BRASIL)
+                .campo(ID_NOME, nome)
+                .campo(ID_CIDADE, cidade)
+                .abrirTemplate(ID_DADOS_ADICIONAIS)
+                .campo(ID_TXID, txid == null || txid.isEmpty() ? TXID_NAO_INFORMADO : txid)
+                .fecharTemplate()
+                .finalizar();
+    }
+
+    private static boolean isNumerico(BRCodeLeitor leitor, CharSequence payload) {
+        for (int i = leitor.getInicioValor(); i < leitor.getInicioValor() + leitor.getTamanhoValor(); ++i) {
+            if (payload.charAt(i) < '0' || payload.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
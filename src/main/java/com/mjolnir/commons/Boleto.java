@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumTipoBoleto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * <p>
+ *     Dados de um boleto lido por {@link BoletoUtil}. A mesma instância pode ser reutilizada para a leitura de
+ *     vários boletos: cada leitura sobrescreve todos os campos, sem criar novos objetos.
+ * </p>
+ * <p>
+ *     Instâncias não são thread-safe; em processamento paralelo utilize uma instância por thread.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+public final class Boleto {
+
+    /**
+     * Indica a ausência de data de vencimento (fator de vencimento zerado).
+     */
+    public static final long SEM_VENCIMENTO = Long.MIN_VALUE;
+
+    private final char[] codigoBarras = new char[BoletoUtil.TAMANHO_CODIGO_BARRAS];
+    private final char[] digitos = new char[BoletoUtil.TAMANHO_LINHA_ARRECADACAO];
+    private EnumTipoBoleto tipo;
+    private boolean valido;
+    private int codigoBanco;
+    private int segmento;
+    private int fatorVencimento;
+    private long vencimento;
+    private long valorCentavos;
+
+    /**
+     * Constructor.
+     */
+    public Boleto() {
+        limpar();
+    }
+
+    public EnumTipoBoleto getTipo() {
+        return this.tipo;
+    }
+
+    public boolean isValido() {
+        return this.valido;
+    }
+
+    /**
+     * <p>
+     *     Código do banco (boleto bancário) ou 0 para boletos de arrecadação.
+     * </p>
+     * @return Código do banco
+     */
+    public int getCodigoBanco() {
+        return this.codigoBanco;
+    }
+
+    /**
+     * <p>
+     *     Segmento (boleto de arrecadação) ou 0 para boletos bancários.
+     * </p>
+     * @return Segmento
+     */
+    public int getSegmento() {
+        return this.segmento;
+    }
+
+    public int getFatorVencimento() {
+        return this.fatorVencimento;
+    }
+
+    /**
+     * <p>
+     *     Data de vencimento em dias desde 1970-01-01 ({@link LocalDate#toEpochDay()}).
+     * </p>
+     * @return Vencimento ou {@link #SEM_VENCIMENTO}
+     */
+    public long getVencimentoEpochDay() {
+        return this.vencimento;
+    }
+
+    /**
+     * <p>
+     *     Data de vencimento.
+     * </p>
+     * @return Vencimento ou null quando o boleto não possui vencimento
+     */
+    public LocalDate getVencimento() {
+        return this.vencimento == SEM_VENCIMENTO ? null : LocalDate.ofEpochDay(this.vencimento);
+    }
+
+    public long getValorCentavos() {
+        return this.valorCentavos;
+    }
+
+    /**
+     * <p>
+     *     Valor como {@link BigDecimal} com 2 casas decimais.
+     * </p>
+     * @return Valor do boleto
+     */
+    public BigDecimal getValor() {
+        return BigDecimal.valueOf(this.valorCentavos, 2);
+    }
+
+    /**
+     * <p>
+     *     Código de barras (44 digitos) do último boleto válido lido.
+     * </p>
+     * @return Código de barras
+     */
+    public String getCodigoBarras() {
+        return this.valido ? new String(this.codigoBarras) : null;
+    }
+
+    char[] codigoBarras() {
+        return this.codigoBarras;
+    }
+
+    char[] digitos() {
+        return this.digitos;
+    }
+
+    void limpar() {
+        this.tipo = null;
+        this.valido = false;
+        this.codigoBanco = 0;
+        this.segmento = 0;
+        this.fatorVencimento = 0;
+        this.vencimento = SEM_VENCIMENTO;
+        this.valorCentavos = 0;
+    }
+
+    void preencher(EnumTipoBoleto tipo, int codigoBanco, int segmento, int fatorVencimento, long vencimento,
+                   long valorCentavos) {
+        this.tipo = tipo;
+        this.valido = true;
+        this.codigoBanco = codigoBanco;
+        this.segmento = segmento;
+        this.fatorVencimento = fatorVencimento;
+        this.vencimento = vencimento;
+        this.valorCentavos = valorCentavos;
+    }
+
+    @Override
+    public String toString() {
+        return "Boleto{tipo=" + tipo + ", valido=" + valido + ", codigoBanco=" + codigoBanco + ", segmento="
+                + segmento + ", vencimento=" + getVencimento() + ", valorCentavos=" + valorCentavos + "}";
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumTipoBoleto;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Classe utilitária para leitura e validação de boletos: código de barras (44 digitos), linha digitável de
+ *     boleto bancário (47 digitos) e linha digitável de boleto de arrecadação / convênio (48 digitos).
+ * </p>
+ * <p>
+ *     Boleto bancário (código de barras):
+ * </p>
+ * <pre>
+ *     banco(3) + moeda(1) + DV geral(1) + fator de vencimento(4) + valor(10) + campo livre(25)
+ * </pre>
+ * <p>
+ *     Os campos 1 a 3 da linha digitável possuem DV modulo 10 e o DV geral é modulo 11 (pesos 2 a 9, resto 0, 1
+ *     ou 10 resulta em 1).
+ * </p>
+ * <p>
+ *     Boleto de arrecadação (código de barras):
+ * </p>
+ * <pre>
+ *     produto(1) = 8 + segmento(1) + identificador de valor(1) + DV geral(1) + valor(11)
+ *     + empresa e campo livre(29)
+ * </pre>
+ * <p>
+ *     O identificador de valor define o modulo dos DVs: 6 e 7 modulo 10, 8 e 9 modulo 11. A linha digitável é
+ *     formada por 4 blocos de 11 digitos, cada um seguido do seu DV.
+ * </p>
+ * <p>
+ *     O fator de vencimento conta os dias a partir de 07/10/1997 e, ao atingir 9999 em 21/02/2025, foi reiniciado
+ *     em 1000 a partir de 22/02/2025. Como o mesmo fator representa datas a cada 9000 dias, a data é resolvida
+ *     no ciclo mais próximo da data de referência informada (por padrão, a data atual).
+ * </p>
+ * <p>
+ *     A leitura é feita sobre uma instância reutilizável de {@link Boleto}, sem criação de objetos por linha.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoletoUtil {
+
+    /**
+     * Tamanho do código de barras.
+     */
+    public static final int TAMANHO_CODIGO_BARRAS = 44;
+
+    /**
+     * Tamanho da linha digitável do boleto bancário.
+     */
+    public static final int TAMANHO_LINHA_BANCARIA = 47;
+
+    /**
+     * Tamanho da linha digitável do boleto de arrecadação.
+     */
+    public static final int TAMANHO_LINHA_ARRECADACAO = 48;
+
+    private static final long DATA_BASE_FATOR = LocalDate.of(1997, 10, 7).toEpochDay();
+    private static final int CICLO_FATOR = 9000;
+    private static final int MINIMO_FATOR = 1000;
+
+    private static final char PRODUTO_ARRECADACAO = '8';
+    private static final int POSICAO_DV_BANCARIO = 4;
+    private static final int POSICAO_DV_ARRECADACAO = 3;
+    private static final int TAMANHO_BLOCO_ARRECADACAO = 11;
+    private static final int MODULO_ONZE = 11;
+    private static final int MODULO_DEZ = 10;
+
+    /**
+     * <p>
+     *     Lê e valida um código de barras ou linha digitável, utilizando a data atual como referência do fator de
+     *     vencimento.
+     * </p>
+     *
+     * @param codigo Código de barras ou linha digitável, com ou sem pontos e espaços
+     * @return {@link Boleto} lido; verifique {@link Boleto#isValido()}
+     */
+    public static Boleto ler(CharSequence codigo) {
+        final Boleto boleto = new Boleto();
+        ler(codigo, LocalDate.now().toEpochDay(), boleto);
+        return boleto;
+    }
+
+    /**
+     * <p>
+     *     Lê e valida um código de barras ou linha digitável no boleto informado.
+     * </p>
+     *
+     * @param codigo Código de barras ou linha digitável, com ou sem pontos e espaços
+     * @param dataReferencia Data de referência para o fator de vencimento, em {@link LocalDate#toEpochDay()}
+     * @param destino Boleto reutilizável que recebe os dados lidos
+     * @return True se o código for válido
+     */
+    public static boolean ler(CharSequence codigo, long dataReferencia, Boleto destino) {
+        destino.limpar();
+        if (codigo == null) {
+            return false;
+        }
+        final char[] digitos = destino.digitos();
+        int tamanho = 0;
+        for (int i = 0; i < codigo.length(); ++i) {
+            final char c = codigo.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (tamanho == digitos.length) {
+                    return false;
+                }
+                digitos[tamanho++] = c;
+            } else if (c != ' ' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+
+        final char[] codigoBarras = destino.codigoBarras();
+        final boolean estruturaValida;
+        switch (tamanho) {
+            case TAMANHO_CODIGO_BARRAS:
+                System.arraycopy(digitos, 0, codigoBarras, 0, TAMANHO_CODIGO_BARRAS);
+                estruturaValida = true;
+                break;
+            case TAMANHO_LINHA_BANCARIA:
+                estruturaValida = linhaBancariaParaCodigo(digitos, codigoBarras);
+                break;
+            case TAMANHO_LINHA_ARRECADACAO:
+                estruturaValida = digitos[0] == PRODUTO_ARRECADACAO
+                        && linhaArrecadacaoParaCodigo(digitos, codigoBarras);
+                break;
+            default:
+                estruturaValida = false;
+        }
+        return estruturaValida && lerCodigoBarras(codigoBarras, dataReferencia, destino);
+    }
+
+    /**
+     * <p>
+     *     Valida um código de barras ou linha digitável.
+     * </p>
+     *
+     * @param codigo Código de barras ou linha digitável
+     * @return True se o código for válido
+     */
+    public static boolean isValido(CharSequence codigo) {
+        return ler(codigo).isValido();
+    }
+
+    /**
+     * <p>
+     *     Lê um lote de boletos, gravando valor e vencimento em colunas. Posições inválidas recebem valor -1 e
+     *     vencimento {@link Boleto#SEM_VENCIMENTO}.
+     * </p>
+     *
+     * @param codigos Códigos de barras ou linhas digitáveis
+     * @param dataReferencia Data de referência para o fator de vencimento, em {@link LocalDate#toEpochDay()}
+     * @param valoresCentavos Valor em centavos de cada boleto
+     * @param vencimentos Vencimento de cada boleto, em {@link LocalDate#toEpochDay()}
+     * @return Quantidade de boletos válidos
+     */
+    public static int ler(CharSequence[] codigos, long dataReferencia, long[] valoresCentavos, long[] vencimentos) {
+        final Boleto boleto = new Boleto();
+        int validos = 0;
+        for (int i = 0; i < codigos.length; ++i) {
+            if (ler(codigos[i], dataReferencia, boleto)) {
+                valoresCentavos[i] = boleto.getValorCentavos();
+                vencimentos[i] = boleto.getVencimentoEpochDay();
+                ++validos;
+            } else {
+                valoresCentavos[i] = -1;
+                vencimentos[i] = Boleto.SEM_VENCIMENTO;
+            }
+        }
+        return validos;
+    }
+
+    /**
+     * <p>
+     *     Lê um lote de boletos entregando cada leitura ao consumidor. A mesma instância de {@link Boleto} é
+     *     reutilizada em todas as chamadas e não deve ser mantida pelo consumidor.
+     * </p>
+     *
+     * @param codigos Códigos de barras ou linhas digitáveis
+     * @param dataReferencia Data de referência para o fator de vencimento, em {@link LocalDate#toEpochDay()}
+     * @param consumidor Consumidor de cada boleto lido, válido ou não
+     */
+    public static void ler(Iterable<? extends CharSequence> codigos, long dataReferencia,
+                           Consumer<Boleto> consumidor) {
+        final Boleto boleto = new Boleto();
+        for (CharSequence codigo : codigos) {
+            ler(codigo, dataReferencia, boleto);
+            consumidor.accept(boleto);
+        }
+    }
+
+    /**
+     * <p>
+     *     Converte o fator de vencimento em data, no ciclo mais próximo da data de referência.
+     * </p>
+     *
+     * @param fator Fator de vencimento (1000 a 9999)
+     * @param dataReferencia Data de referência, em {@link LocalDate#toEpochDay()}
+     * @return Data de vencimento em {@link LocalDate#toEpochDay()} ou {@link Boleto#SEM_VENCIMENTO} para fator 0
+     */
+    public static long calcularVencimento(int fator, long dataReferencia) {
+        if (fator == 0) {
+            return Boleto.SEM_VENCIMENTO;
+        }
+        if (fator < MINIMO_FATOR || fator > MINIMO_FATOR + CICLO_FATOR - 1) {
+            throw new IllegalArgumentException("ERRO: Fator de vencimento inválido: " + fator);
+        }
+        final long primeiroCiclo = DATA_BASE_FATOR + fator;
+        final long ciclos = Math.max(0, Math.floorDiv(dataReferencia - primeiroCiclo + CICLO_FATOR / 2, CICLO_FATOR));
+        return primeiroCiclo + ciclos * CICLO_FATOR;
+    }
+
+    /**
+     * <p>
+     *     Calcula o fator de vencimento de uma data, considerando o reinicio em 1000 a cada 9000 dias.
+     * </p>
+     *
+     * @param vencimento Data de vencimento
+     * @return Fator de vencimento
+     */
+    public static int calcularFatorVencimento(LocalDate vencimento) {
+        final long dias = vencimento.toEpochDay() - DATA_BASE_FATOR;
+        if (dias < MINIMO_FATOR) {
+            throw new IllegalArgumentException("ERRO: Data de vencimento anterior ao fator 1000: " + vencimento);
+        }
+        return (int) ((dias - MINIMO_FATOR) % CICLO_FATOR) + MINIMO_FATOR;
+    }
+
+    /**
+     * <p>
+     *     Calcula o DV modulo 10 (pesos 2 e 1 a partir da direita) de um trecho do buffer.
+     * </p>
+     *
+     * @param digitos Buffer de digitos
+     * @param posicao Posição inicial
+     * @param tamanho Quantidade de digitos
+     * @return Digito verificador
+     */
+    public static int calcularModulo10(char[] digitos, int posicao, int tamanho) {
+        return modulo10(digitos, posicao, tamanho, -1);
+    }
+
+    private static int modulo10(char[] digitos, int posicao, int tamanho, int ignorar) {
+        int soma = 0;
+        int peso = 2;
+        for (int i = posicao + tamanho - 1; i >= posicao; --i) {
+            if (i == ignorar) {
+                continue;
+            }
+            final int produto = (digitos[i] - '0') * peso;
+            soma += produto > 9 ? produto - 9 : produto;
+            peso = 3 - peso;
+        }
+        return (MODULO_DEZ - soma % MODULO_DEZ) % MODULO_DEZ;
+    }
+
+    private static int somaModulo11(char[] digitos, int posicao, int tamanho, int ignorar) {
+        int soma = 0;
+        int peso = 2;
+        for (int i = posicao + tamanho - 1; i >= posicao; --i) {
+            if (i == ignorar) {
+                continue;
+            }
+            soma += (digitos[i] - '0') * peso;
+            peso = peso == 9 ? 2 : peso + 1;
+        }
+        return soma;
+    }
+
+    private static int modulo11Bancario(char[] codigoBarras) {
+        final int digito = MODULO_ONZE - somaModulo11(codigoBarras, 0, TAMANHO_CODIGO_BARRAS,
+                POSICAO_DV_BANCARIO) % MODULO_ONZE;
+        return digito == 0 || digito >= 10 ? 1 : digito;
+    }
+
+    private static int modulo11Arrecadacao(char[] digitos, int posicao, int tamanho, int ignorar) {
+        final int resto = somaModulo11(digitos, posicao, tamanho, ignorar) % MODULO_ONZE;
+        return resto <= 1 ? 0 : MODULO_ONZE - resto;
+    }
+
+    private static int calcularDigitoArrecadacao(boolean moduloDez, char[] digitos, int posicao, int tamanho,
+                                                 int ignorar) {
+        return moduloDez
+                ? modulo10(digitos, posicao, tamanho, ignorar)
+                : modulo11Arrecadacao(digitos, posicao, tamanho, ignorar);
+    }
+
+    private static boolean linhaBancariaParaCodigo(char[] linha, char[] codigoBarras) {
+        if (calcularModulo10(linha, 0, 9) != linha[9] - '0'
+                || calcularModulo10(linha, 10, 10) != linha[20] - '0'
+                || calcularModulo10(linha, 21, 10) != linha[31] - '0') {
+            return false;
+        }
+        System.arraycopy(linha, 0, codigoBarras, 0, 4);
+        codigoBarras[POSICAO_DV_BANCARIO] = linha[32];
+        System.arraycopy(linha, 33, codigoBarras, 5, 14);
+        System.arraycopy(linha, 4, codigoBarras, 19, 5);
+        System.arraycopy(linha, 10, codigoBarras, 24, 10);
+        System.arraycopy(linha, 21, codigoBarras, 34, 10);
+        return true;
+    }
+
+    private static boolean linhaArrecadacaoParaCodigo(char[] linha, char[] codigoBarras) {
+        final int identificador = linha[2] - '0';
+        if (identificador < 6) {
+            return false;
+        }
+        final boolean moduloDez = identificador <= 7;
+        for (int bloco = 0; bloco < 4; ++bloco) {
+            final int inicio = bloco * (TAMANHO_BLOCO_ARRECADACAO + 1);
+            if (calcularDigitoArrecadacao(moduloDez, linha, inicio, TAMANHO_BLOCO_ARRECADACAO, -1)
+                    != linha[inicio + TAMANHO_BLOCO_ARRECADACAO] - '0') {
+                return false;
+            }
+            System.arraycopy(linha, inicio, codigoBarras, bloco * TAMANHO_BLOCO_ARRECADACAO,
+                    TAMANHO_BLOCO_ARRECADACAO);
+        }
+        return true;
+    }
+
+    private static boolean lerCodigoBarras(char[] codigoBarras, long dataReferencia, Boleto destino) {
+        if (codigoBarras[0] == PRODUTO_ARRECADACAO) {
+            final int identificador = codigoBarras[2] - '0';
+            if (identificador < 6 || calcularDigitoArrecadacao(identificador <= 7, codigoBarras, 0,
+                    TAMANHO_CODIGO_BARRAS, POSICAO_DV_ARRECADACAO) != codigoBarras[POSICAO_DV_ARRECADACAO] - '0') {
+                return false;
+            }
+            destino.preencher(EnumTipoBoleto.ARRECADACAO, 0, codigoBarras[1] - '0', 0, Boleto.SEM_VENCIMENTO,
+                    numero(codigoBarras, 4, 11));
+            return true;
+        }
+        if (modulo11Bancario(codigoBarras) != codigoBarras[POSICAO_DV_BANCARIO] - '0') {
+            return false;
+        }
+        final int fator = (int) numero(codigoBarras, 5, 4);
+        if (fator != 0 && fator < MINIMO_FATOR) {
+            return false;
+        }
+        destino.preencher(EnumTipoBoleto.BANCARIO, (int) numero(codigoBarras, 0, 3), 0, fator,
+                calcularVencimento(fator, dataReferencia), numero(codigoBarras, 9, 10));
+        return true;
+    }
+
+    private static long numero(char[] digitos, int posicao, int tamanho) {
+        long numero = 0;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            numero = numero * 10 + (digitos[i] - '0');
+        }
+        return numero;
+    }
+}
@@ -7,6 +7,7 @@ package com.mjolnir.commons;
 import com.mjolnir.commons.enumerators.EnumDocumentoFiscal;
 
 import com.mjolnir.toolbox.app.PropertiesUtil;
+import com.mjolnir.toolbox.stardart.MaskFormatter;
 import com.mjolnir.toolbox.stardart.StringUtil;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,10 +31,6 @@ public class BrazilUtil {
             .getPropertieByKey("util.string.pattern.brazil.unformat.cpf");
     private static final String UNFORMAT_MASK_CNPJ = PropertiesUtil.getInstance()
             .getPropertieByKey("util.string.pattern.brazil.unformat.cnpj");
-    private static final Integer MAX_LENGTH_CPF = Integer.parseInt(PropertiesUtil.getInstance()
-            .getPropertieByKey("util.brazil.cpf.max.length"));
-    private static final Integer MAX_LENGTH_CNPJ = Integer.parseInt(PropertiesUtil.getInstance()
-            .getPropertieByKey("util.brazil.cnpj.max.length"));
     private static final Integer MAX_LENGTH_MODEL_A_IESUFRAMA = Integer.parseInt(PropertiesUtil.getInstance()
             .getPropertieByKey("util.brazil.iesuframa.model.a.max.length"));
     private static final Integer MAX_LENGTH_MODEL_B_IESUFRAMA = Integer.parseInt(PropertiesUtil.getInstance()
@@ -44,6 +41,25 @@ public class BrazilUtil {
             .getPropertieByKey("util.brazil.pais.codbacen.max.length"));
     private static final Integer LENGTH_IBGE = Integer.parseInt(PropertiesUtil.getInstance()
             .getPropertieByKey("util.brazil.municipio.codibge.length"));
+    private static final MaskFormatter MASCARA_CPF = MaskFormatter.compile(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.string.pattern.brazil.format.cpf"));
+    private static final MaskFormatter MASCARA_CNPJ = MaskFormatter.compile(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.string.pattern.brazil.format.cnpj"));
+    private static final MaskFormatter MASCARA_CEP = MaskFormatter.compile(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.string.pattern.brazil.format.cep"));
+    private static final MaskFormatter[] MASCARAS_FONE = new MaskFormatter[12];
+    private static final int[] PESOS_CPF = {11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 0};
+    private static final int[] PESOS_CNPJ = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2, 0};
+
+    static {
+        for (String chave : new String[] {"util.string.pattern.brazil.format.fone",
+                "util.string.pattern.brazil.format.celular", "util.string.pattern.brazil.format.fone.ddd",
+                "util.string.pattern.brazil.format.celular.ddd"}) {
+            MaskFormatter mascara = MaskFormatter.compile(PropertiesUtil.getInstance().getPropertieByKey(chave));
+            MASCARAS_FONE[mascara.getSlots()] = mascara;
+        }
+    }
+
     //private static final String MAX_LENGTH_DOCUMENTO_FISCAL = PropertiesUtil.getInstance()
     //        .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length");
 
@@ -56,27 +72,10 @@ public class BrazilUtil {
      * @return CNPJ formatado
      */
     private static String formatarCNPJ(String documento) {
-        final int groupOneCNPJMaxLength = 2;
-        final int groupTwoCNPJMaxLength = 5;
-        final int groupTreeCNPJMaxLength = 8;
-        final int groupFourCNPJMaxLength = 12;
-        final int groupFiveCNPJMaxLength = MAX_LENGTH_CNPJ;
         if (documento == null) {
             return null;
         }
-
-        StringBuilder auxCNPJ = new StringBuilder(documento.trim());
-
-        while (auxCNPJ.length() < MAX_LENGTH_CNPJ) {
-            auxCNPJ.insert(0, "0");
-        }
-
-        auxCNPJ = new StringBuilder(auxCNPJ.substring(0, groupOneCNPJMaxLength) + StringUtil.PONTO
-                + auxCNPJ.substring(groupOneCNPJMaxLength, groupTwoCNPJMaxLength) + StringUtil.PONTO
-                + auxCNPJ.substring(groupTwoCNPJMaxLength, groupTreeCNPJMaxLength) + StringUtil.BARRA
-                + auxCNPJ.substring(groupTreeCNPJMaxLength, groupFourCNPJMaxLength) + StringUtil.SEPARADOR
-                + auxCNPJ.substring(groupFourCNPJMaxLength, groupFiveCNPJMaxLength));
-        return auxCNPJ.toString();
+        return MASCARA_CNPJ.formatLeftPadded(documento.trim(), '0');
     }
 
     /**
@@ -88,25 +87,10 @@ public class BrazilUtil {
      * @return CPF formatado
      */
     private static String formatarCPF(String documento) {
-        final int groupOneCPFMaxLength = 3;
-        final int groupTwoCPFMaxLength = 6;
-        final int groupTreeCPFMaxLength = 9;
-        final int groupFourCPFMaxLength = MAX_LENGTH_CPF;
         if (documento == null) {
             return null;
         }
-
-        String auxCPF = documento.trim();
-
-        while (auxCPF.length() < MAX_LENGTH_CPF) {
-            auxCPF = "0" + auxCPF;
-        }
-
-        auxCPF = auxCPF.substring(0, groupOneCPFMaxLength) + StringUtil.PONTO
-                + auxCPF.substring(groupOneCPFMaxLength, groupTwoCPFMaxLength) + StringUtil.PONTO
-                + auxCPF.substring(groupTwoCPFMaxLength, groupTreeCPFMaxLength) + StringUtil.SEPARADOR
-                + auxCPF.substring(groupTreeCPFMaxLength, groupFourCPFMaxLength);
-        return auxCPF;
+        return MASCARA_CPF.formatLeftPadded(documento.trim(), '0');
     }
 
     /**
@@ -189,6 +173,83 @@ public class BrazilUtil {
         return cpf;
     }
 
+    /**
+     * <p>
+     *     Valida os digitos verificadores do CPF (modulo 11), com ou sem mascara. CPFs com todos os digitos
+     *     iguais são considerados inválidos.
+     * </p>
+     *
+     * @param cpf CPF
+     * @return True, se válido, do contrario False.
+     */
+    public static boolean validarCPF(CharSequence cpf) {
+        return validarDocumento(cpf, PESOS_CPF, false);
+    }
+
+    /**
+     * <p>
+     *     Valida os digitos verificadores do CNPJ (modulo 11), com ou sem mascara. Aceita o CNPJ alfanumérico,
+     *     em que as 12 primeiras posições podem conter letras maiúsculas com valor igual ao código ASCII menos 48.
+     *     CNPJs com todos os caracteres iguais são considerados inválidos.
+     * </p>
+     *
+     * @param cnpj CNPJ
+     * @return True, se válido, do contrario False.
+     */
+    public static boolean validarCNPJ(CharSequence cnpj) {
+        return validarDocumento(cnpj, PESOS_CNPJ, true);
+    }
+
+    private static boolean validarDocumento(CharSequence documento, int[] pesos, boolean alfanumerico) {
+        if (documento == null) {
+            return false;
+        }
+        final int tamanho = pesos.length;
+        final int moduloOnze = 11;
+        int posicao = 0;
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        int primeiroValor = -1;
+        boolean todosIguais = true;
+        int primeiroInformado = 0;
+        int segundoInformado = 0;
+        for (int i = 0; i < documento.length(); ++i) {
+            final char c = documento.charAt(i);
+            final boolean digito = c >= '0' && c <= '9';
+            if (!digito && !(alfanumerico && c >= 'A' && c <= 'Z' && posicao < tamanho - 2)) {
+                if (c == '.' || c == '-' || c == '/') {
+                    continue;
+                }
+                return false;
+            }
+            if (posicao == tamanho) {
+                return false;
+            }
+            final int valor = c - '0';
+            if (primeiroValor < 0) {
+                primeiroValor = valor;
+            }
+            todosIguais &= valor == primeiroValor;
+            if (posicao < tamanho - 2) {
+                somaPrimeiro += valor * pesos[posicao + 1];
+                somaSegundo += valor * pesos[posicao];
+            } else if (posicao == tamanho - 2) {
+                primeiroInformado = valor;
+                somaSegundo += valor * pesos[posicao];
+            } else {
+                segundoInformado = valor;
+            }
+            ++posicao;
+        }
+        if (posicao != tamanho || todosIguais) {
+            return false;
+        }
+        final int restoPrimeiro = somaPrimeiro % moduloOnze;
+        final int restoSegundo = somaSegundo % moduloOnze;
+        return primeiroInformado == (restoPrimeiro < 2 ? 0 : moduloOnze - restoPrimeiro)
+                && segundoInformado == (restoSegundo < 2 ? 0 : moduloOnze - restoSegundo);
+    }
+
     /**
      * <p>
      *     Formata o código de endereçamento postal (CEP) com a mascara padrão: ####-###.
@@ -204,6 +265,9 @@ public class BrazilUtil {
         }
 
         String cepAux = cep.trim();
+        if (cepAux.length() == MASCARA_CEP.getSlots()) {
+            return MASCARA_CEP.format(cepAux);
+        }
         return cepAux.substring(0, groupOneCepMaxLength) + StringUtil.SEPARADOR
                 + cepAux.substring(groupOneCepMaxLength);
     }
@@ -235,48 +299,17 @@ public class BrazilUtil {
      * @return Numero Formatado.
      */
     public static String formatarFone(String fone) {
-        final int maxLengthPhone = 8;
-        final int maxLengthCellPhone = 9;
-        final int maxLengthPhoneWithDDD = 10;
-        final int maxLengthCellPhoneWithDDD = 11;
         if (fone == null || fone.isEmpty()) {
             return "";
         }
 
         String foneAux = fone.trim();
-        String formatedFone;
-
-        switch (foneAux.length()) {
-            case maxLengthPhoneWithDDD: //1333481341 = (13)3348-1341
-                final int groupOneMaxLengthPhoneWithDDD = 2;
-                final int groupTwoMaxLengthPhoneWithDDD = 6;
-                formatedFone = "(" + foneAux.substring(0, groupOneMaxLengthPhoneWithDDD) + ")"
-                        + foneAux.substring(groupOneMaxLengthPhoneWithDDD,
-                                groupTwoMaxLengthPhoneWithDDD) + StringUtil.SEPARADOR
-                        + foneAux.substring(groupTwoMaxLengthPhoneWithDDD);
-                break;
-            case maxLengthCellPhoneWithDDD: //13997843354 = (13)99784-3354
-                final int groupOneMaxLengthCellPhoneWithDDD = 2;
-                final int groupTwoMaxLengthCellPhoneWithDDD = 7;
-                formatedFone = "(" + foneAux.substring(0, groupOneMaxLengthCellPhoneWithDDD) + ")"
-                        + foneAux.substring(groupOneMaxLengthCellPhoneWithDDD,
-                                groupTwoMaxLengthCellPhoneWithDDD) + StringUtil.SEPARADOR
-                        + foneAux.substring(groupTwoMaxLengthCellPhoneWithDDD);
-                break;
-            case maxLengthPhone: //33481341 = 3348-1341
-                final int groupOneMaxLengthPhone = 4;
-                formatedFone = foneAux.substring(0, groupOneMaxLengthPhone) + StringUtil.SEPARADOR
-                        + foneAux.substring(groupOneMaxLengthPhone);
-                break;
-            case maxLengthCellPhone: //997843354 = 99784-3354
-                final int groupOneMaxLengthCellPhone = 5;
-                formatedFone = foneAux.substring(0, groupOneMaxLengthCellPhone) + StringUtil.SEPARADOR
-                        + foneAux.substring(groupOneMaxLengthCellPhone);
-                break;
-            default:
-                formatedFone = foneAux;
+        // 33481341 = 3348-1341, 997843354 = 99784-3354,
+        // 1333481341 = (13)3348-1341, 13997843354 = (13)99784-3354
+        if (foneAux.length() < MASCARAS_FONE.length && MASCARAS_FONE[foneAux.length()] != null) {
+            return MASCARAS_FONE[foneAux.length()].format(foneAux);
         }
-        return formatedFone;
+        return foneAux;
     }
 
     /**
@@ -285,25 +318,21 @@ public class BrazilUtil {
      * </p>
      *
      * @param telefoneFormatado Número de Telefone
+     * @see TelefoneUtil#normalizar(CharSequence)
      * @return Numero desformatado
      */
     public static String removerFormatacaoTelefone(String telefoneFormatado) {
         if (telefoneFormatado == null) {
             throw new IllegalStateException("Telefone não pode ser nulo");
         }
-        if (telefoneFormatado.contains("(")) {
-            telefoneFormatado = telefoneFormatado.replace("(", "");
-        }
-        if (telefoneFormatado.contains(")")) {
-            telefoneFormatado = telefoneFormatado.replace(")", "");
-        }
-        if (telefoneFormatado.contains(StringUtil.SEPARADOR)) {
-            telefoneFormatado = telefoneFormatado.replace(StringUtil.SEPARADOR, "");
-        }
-        if (telefoneFormatado.contains(" ")) {
-            telefoneFormatado = telefoneFormatado.replace(" ", "");
+        final StringBuilder telefone = new StringBuilder(telefoneFormatado.length());
+        for (int i = 0; i < telefoneFormatado.length(); ++i) {
+            final char c = telefoneFormatado.charAt(i);
+            if (c != '(' && c != ')' && c != ' ' && c != StringUtil.SEPARADOR.charAt(0)) {
+                telefone.append(c);
+            }
         }
-        return telefoneFormatado;
+        return telefone.toString();
     }
 
     /**
@@ -403,44 +432,15 @@ public class BrazilUtil {
     }
 
     private static boolean verificadorDigitoNFE(String chaveAcesso) {
-        //Integer maxLengthvNum = Integer.parseInt(MAX_LENGTH_DOCUMENTO_FISCAL);
         Integer maxLengthvNum = EnumDocumentoFiscal.NFE.getMaxLength();
-        final int moduloOnze = 11;
         final int verificadorDez = 10;
-        final int multiplicadorMaximo = 9;
-        final int conversorChar = 48;
 
-        //if (vNum == null || vNum.length() < 44 || vNum.length() > 44) {
-        if (chaveAcesso == null || chaveAcesso.length() < maxLengthvNum || chaveAcesso.length() > maxLengthvNum) {
+        if (chaveAcesso == null || chaveAcesso.length() != maxLengthvNum) {
             return false;
         }
 
         int vNumDigito = Character.digit(chaveAcesso.charAt(chaveAcesso.length() - 1), verificadorDez);
-        String vNumSemDigito = chaveAcesso.substring(0, chaveAcesso.length() - 1);
-        int vSomaProduto = 0;
-        int vMultiplicador = 2; //Multiplicadores 2,3,4,5,6,7,8,9
-        int vProduto = 0;
-
-        for (int x = vNumSemDigito.length() - 1; x >= 0; --x) {
-            //Multiplicamos cada algarismo da direita para esquerda pelos multiplicadores.
-            vProduto = (vNumSemDigito.charAt(x) - conversorChar) * vMultiplicador;
-            vSomaProduto += vProduto;
-            if (vMultiplicador < multiplicadorMaximo) {
-                ++vMultiplicador;
-                continue;
-            }
-            vMultiplicador = 2;
-        }
-
-        //O Dígito Verificador será o resultado da diferença entre 11 e o resultado da divisão (11 – resto).
-        int vResto = vSomaProduto - Integer.parseInt("" + vSomaProduto / moduloOnze, verificadorDez) * moduloOnze;
-        int vDigito = moduloOnze - vResto;
-
-        if (vDigito == moduloOnze || vDigito == verificadorDez) {
-            vDigito = 0;
-        }
-
-        return vNumDigito == vDigito;
+        return vNumDigito == ChaveAcessoUtil.calcularDigitoVerificador(chaveAcesso, 0, chaveAcesso.length() - 1);
     }
 
     /**
@@ -602,37 +602,16 @@ public class BrazilUtil {
      * https://www.fazenda.sp.gov.br/nfe/perguntas_frequentes/respostas_X.asp
      *
      * @param cean Código de Barras cEAN.
+     * @see GtinUtil
      * @return True para verificado, e False para incorreto.
      */
     public static boolean digitoVerificadorCean(String cean) {
-        if (cean == null || cean.trim().length() == 0
-                || cean.equals("00000000")
-                || cean.equals("000000000000")
-                || cean.equals("0000000000000")
-                || cean.equals("00000000000000")) {
-            return false;
-        }
-        int tamanho = cean.length();
-        if (tamanho == 8 || tamanho >= 12 && tamanho <= 14) {
-            int fator = 3;
-            int soma = 0;
-            int digitoInformado = Integer.parseInt(cean.substring(tamanho - 1));
-            String numero = cean.substring(0, tamanho - 1);
-            for (int i = tamanho - 2; i >= 0; --i) {
-                if (!Character.isDigit(numero.charAt(i))) {
-                    return false;
-                }
-                soma += Integer.parseInt(String.valueOf(numero.charAt(i))) * fator;
-                fator = 4 - fator;
-            }
-            int digitoVerificado = (1000 - soma) % 10;
-            return digitoInformado == digitoVerificado;
-        }
-        return false;
+        return GtinUtil.isValido(cean);
     }
 
     /**
-     * Calcula parcelas de Boletos e/ou pagamentos.
+     * Calcula parcelas de Boletos e/ou pagamentos. Para cronogramas completos, com vencimentos, juros e IOF,
+     * utilize {@link ParcelamentoUtil}.
      *
      * @param qtdeParcelas Quantidade de parcelas
      * @param valor Valor total a ser parcelado
@@ -644,11 +623,11 @@ public class BrazilUtil {
 
     private static List<BigDecimal> calcularParcelas(Integer qtdeParcelas,
             BigDecimal valor, RoundingMode mode) {
-        ArrayList<BigDecimal> listaValores = new ArrayList<>();
-        BigDecimal valorDasParcelas = valor.divide(new BigDecimal(qtdeParcelas.toString()), 2, mode);
+        ArrayList<BigDecimal> listaValores = new ArrayList<>(qtdeParcelas);
+        BigDecimal valorDasParcelas = valor.divide(BigDecimal.valueOf(qtdeParcelas), 2, mode);
         if (!valorDasParcelas.remainder(valor).equals(BigDecimal.ZERO)) {
             BigDecimal valorDasParcelasSemAUltimaParcela = valorDasParcelas
-                    .multiply(new BigDecimal(qtdeParcelas).subtract(BigDecimal.ONE));
+                    .multiply(BigDecimal.valueOf(qtdeParcelas - 1L));
             BigDecimal valorUltimaParcela = valor.subtract(valorDasParcelasSemAUltimaParcela);
             for (int i = 0; i < qtdeParcelas - 1; ++i) {
                 listaValores.add(valorDasParcelas);
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Arrays;
+
+/**
+ * <p>
+ *     Calendário de dias úteis com os feriados nacionais e, opcionalmente, feriados estaduais e municipais.
+ * </p>
+ * <p>
+ *     Os dias úteis de {@value #ANO_MINIMO} a {@value #ANO_MAXIMO} são pré-calculados em um mapa de bits indexado
+ *     pelo epoch day (1 bit por dia, 64 dias por palavra), junto com a contagem acumulada de dias úteis por palavra.
+ *     Assim {@link #isDiaUtil(long)} e {@link #diasUteisEntre(long, long)} são O(1) e
+ *     {@link #adicionarDiasUteis(long, int)} salta palavras inteiras com {@link Long#bitCount(long)}.
+ * </p>
+ * <p>
+ *     O calendário {@link #nacional()} considera, além dos feriados fixos nacionais, a Sexta-feira Santa, o
+ *     Carnaval (segunda e terça) e Corpus Christi, calculados a partir da Páscoa, como no calendário bancário.
+ *     Feriados locais são incluídos criando um novo calendário, que deve ser mantido em constante:
+ * </p>
+ * <pre>
+ *     CalendarioDiasUteis saoPaulo = CalendarioDiasUteis.nacional()
+ *             .comFeriadoFixo(7, 9)    // Revolução Constitucionalista
+ *             .comFeriadoFixo(1, 25);  // Aniversário da cidade
+ * </pre>
+ * <p>
+ *     Instâncias são imutáveis e thread-safe.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+public final class CalendarioDiasUteis {
+
+    /**
+     * Primeiro ano do calendário.
+     */
+    public static final int ANO_MINIMO = 1970;
+    /**
+     * Último ano do calendário.
+     */
+    public static final int ANO_MAXIMO = 2199;
+    /**
+     * Deslocamento da segunda-feira de Carnaval em relação à Páscoa.
+     */
+    public static final int SEGUNDA_CARNAVAL = -48;
+    /**
+     * Deslocamento da terça-feira de Carnaval em relação à Páscoa.
+     */
+    public static final int TERCA_CARNAVAL = -47;
+    /**
+     * Deslocamento da Sexta-feira Santa em relação à Páscoa.
+     */
+    public static final int SEXTA_FEIRA_SANTA = -2;
+    /**
+     * Deslocamento de Corpus Christi em relação à Páscoa.
+     */
+    public static final int CORPUS_CHRISTI = 60;
+
+    private static final int SEMPRE = ANO_MINIMO;
+    private static final int ANO_CONSCIENCIA_NEGRA = 2024;
+    private static final int BITS_POR_PALAVRA = 64;
+    private static final int DIAS_POR_SEMANA = 7;
+    private static final int DIAS_UTEIS_POR_SEMANA = 5;
+    private static final int DIA_DA_SEMANA_EPOCH = 3;
+    private static final long PRIMEIRO_DIA = LocalDate.of(ANO_MINIMO, 1, 1).toEpochDay();
+    private static final long ULTIMO_DIA = LocalDate.of(ANO_MAXIMO, 12, 31).toEpochDay();
+    private static final int TOTAL_DIAS = (int) (ULTIMO_DIA - PRIMEIRO_DIA + 1);
+    private static final int TOTAL_PALAVRAS = (TOTAL_DIAS + BITS_POR_PALAVRA - 1) / BITS_POR_PALAVRA;
+
+    /**
+     * Feriados fixos nacionais (mês * 100 + dia) e o ano a partir do qual são feriados.
+     */
+    private static final int[][] FERIADOS_NACIONAIS = {
+        {101, SEMPRE}, {421, SEMPRE}, {501, SEMPRE}, {907, SEMPRE}, {1012, SEMPRE}, {1102, SEMPRE},
+        {1115, SEMPRE}, {1120, ANO_CONSCIENCIA_NEGRA}, {1225, SEMPRE}
+    };
+    private static final int[] FERIADOS_PASCOA = {SEGUNDA_CARNAVAL, TERCA_CARNAVAL, SEXTA_FEIRA_SANTA, CORPUS_CHRISTI};
+
+    private static final CalendarioDiasUteis NACIONAL = new CalendarioDiasUteis(FERIADOS_NACIONAIS, FERIADOS_PASCOA,
+            new long[0]);
+
+    private final int[][] feriadosFixos;
+    private final int[] feriadosPascoa;
+    private final long[] feriadosAvulsos;
+    private final long[] feriados = new long[TOTAL_PALAVRAS];
+    private final long[] diasUteis = new long[TOTAL_PALAVRAS];
+    private final int[] acumulado = new int[TOTAL_PALAVRAS + 1];
+
+    private CalendarioDiasUteis(int[][] feriadosFixos, int[] feriadosPascoa, long[] feriadosAvulsos) {
+        this.feriadosFixos = feriadosFixos;
+        this.feriadosPascoa = feriadosPascoa;
+        this.feriadosAvulsos = feriadosAvulsos;
+        for (int ano = ANO_MINIMO; ano <= ANO_MAXIMO; ++ano) {
+            for (int[] feriado : feriadosFixos) {
+                final MonthDay mesDia = MonthDay.of(feriado[0] / 100, feriado[0] % 100);
+                if (ano >= feriado[1] && mesDia.isValidYear(ano)) {
+                    marcar(feriados, mesDia.atYear(ano).toEpochDay());
+                }
+            }
+            final long pascoa = calcularPascoa(ano).toEpochDay();
+            for (int deslocamento : feriadosPascoa) {
+                marcar(feriados, pascoa + deslocamento);
+            }
+        }
+        for (long dia : feriadosAvulsos) {
+            marcar(feriados, dia);
+        }
+        for (int i = 0; i < TOTAL_DIAS; ++i) {
+            final long dia = PRIMEIRO_DIA + i;
+            if (diaDaSemana(dia) < DIAS_UTEIS_POR_SEMANA && !testar(feriados, dia)) {
+                marcar(diasUteis, dia);
+            }
+        }
+        for (int i = 0; i < TOTAL_PALAVRAS; ++i) {
+            acumulado[i + 1] = acumulado[i] + Long.bitCount(diasUteis[i]);
+        }
+    }
+
+    /**
+     * <p>
+     *     Calendário com os feriados nacionais.
+     * </p>
+     *
+     * @return Calendário nacional
+     */
+    public static CalendarioDiasUteis nacional() {
+        return NACIONAL;
+    }
+
+    /**
+     * <p>
+     *     Novo calendário incluindo um feriado de data fixa em todos os anos.
+     * </p>
+     *
+     * @param mes Mês (1 a 12)
+     * @param dia Dia do mês
+     * @return Novo calendário
+     */
+    public CalendarioDiasUteis comFeriadoFixo(int mes, int dia) {
+        final MonthDay feriado = MonthDay.of(mes, dia);
+        final int[][] fixos = Arrays.copyOf(feriadosFixos, feriadosFixos.length + 1);
+        fixos[feriadosFixos.length] = new int[] {feriado.getMonthValue() * 100 + feriado.getDayOfMonth(), SEMPRE};
+        return new CalendarioDiasUteis(fixos, feriadosPascoa, feriadosAvulsos);
+    }
+
+    /**
+     * <p>
+     *     Novo calendário incluindo um feriado móvel, definido pela quantidade de dias em relação à Páscoa.
+     * </p>
+     *
+     * @param deslocamento Dias em relação ao domingo de Páscoa
+     * @return Novo calendário
+     */
+    public CalendarioDiasUteis comFeriadoPascoa(int deslocamento) {
+        final int[] pascoa = Arrays.copyOf(feriadosPascoa, feriadosPascoa.length + 1);
+        pascoa[feriadosPascoa.length] = deslocamento;
+        return new CalendarioDiasUteis(feriadosFixos, pascoa, feriadosAvulsos);
+    }
+
+    /**
+     * <p>
+     *     Novo calendário incluindo um feriado em uma data específica, como um ponto facultativo decretado.
+     * </p>
+     *
+     * @param data Data do feriado
+     * @return Novo calendário
+     */
+    public CalendarioDiasUteis comFeriado(LocalDate data) {
+        final long dia = data.toEpochDay();
+        validarIntervalo(dia);
+        final long[] avulsos = Arrays.copyOf(feriadosAvulsos, feriadosAvulsos.length + 1);
+        avulsos[feriadosAvulsos.length] = dia;
+        return new CalendarioDiasUteis(feriadosFixos, feriadosPascoa, avulsos);
+    }
+
+    /**
+     * <p>
+     *     Calcula o domingo de Páscoa pelo algoritmo de Meeus/Jones/Butcher (calendário gregoriano).
+     * </p>
+     *
+     * @param ano Ano
+     * @return Domingo de Páscoa
+     */
+    public static LocalDate calcularPascoa(int ano) {
+        final int a = ano % 19;
+        final int b = ano / 100;
+        final int c = ano % 100;
+        final int d = b / 4;
+        final int e = b % 4;
+        final int f = (b + 8) / 25;
+        final int g = (b - f + 1) / 3;
+        final int h = (19 * a + b - d - g + 15) % 30;
+        final int i = c / 4;
+        final int k = c % 4;
+        final int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        final int m = (a + 11 * h + 22 * l) / 451;
+        final int mes = (h + l - 7 * m + 114) / 31;
+        final int dia = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(ano, mes, dia);
+    }
+
+    /**
+     * <p>
+     *     Verifica se o dia é útil (segunda a sexta e não feriado).
+     * </p>
+     *
+     * @param data Data
+     * @return True se for dia útil
+     */
+    public boolean isDiaUtil(LocalDate data) {
+        return isDiaUtil(data.toEpochDay());
+    }
+
+    /**
+     * <p>
+     *     Verifica se o dia é útil (segunda a sexta e não feriado).
+     * </p>
+     *
+     * @param epochDay Dias desde 1970-01-01
+     * @return True se for dia útil
+     */
+    public boolean isDiaUtil(long epochDay) {
+        validarIntervalo(epochDay);
+        return testar(diasUteis, epochDay);
+    }
+
+    /**
+     * <p>
+     *     Verifica se o dia é feriado, independente do dia da semana.
+     * </p>
+     *
+     * @param data Data
+     * @return True se for feriado
+     */
+    public boolean isFeriado(LocalDate data) {
+        final long dia = data.toEpochDay();
+        validarIntervalo(dia);
+        return testar(feriados, dia);
+    }
+
+    /**
+     * <p>
+     *     Soma (ou subtrai, se negativo) dias úteis a uma data. O dia inicial não é contado, de modo que somar
+     *     1 dia útil a uma sexta-feira resulta na segunda-feira seguinte; somar 0 retorna a própria data.
+     * </p>
+     *
+     * @param data Data inicial
+     * @param dias Quantidade de dias úteis
+     * @return Data resultante
+     */
+    public LocalDate adicionarDiasUteis(LocalDate data, int dias) {
+        return LocalDate.ofEpochDay(adicionarDiasUteis(data.toEpochDay(), dias));
+    }
+
+    /**
+     * <p>
+     *     Soma (ou subtrai, se negativo) dias úteis a um epoch day.
+     * </p>
+     *
+     * @param epochDay Dias desde 1970-01-01
+     * @param dias Quantidade de dias úteis
+     * @return Epoch day resultante
+     */
+    public long adicionarDiasUteis(long epochDay, int dias) {
+        validarIntervalo(epochDay);
+        if (dias == 0) {
+            return epochDay;
+        }
+        final int posicao = (int) (epochDay - PRIMEIRO_DIA);
+        int palavra = posicao / BITS_POR_PALAVRA;
+        final int bit = posicao % BITS_POR_PALAVRA;
+        int restante = Math.abs(dias);
+        if (dias > 0) {
+            long bits = bit == BITS_POR_PALAVRA - 1 ? 0 : diasUteis[palavra] & -1L << bit + 1;
+            while (Long.bitCount(bits) < restante) {
+                restante -= Long.bitCount(bits);
+                if (++palavra == TOTAL_PALAVRAS) {
+                    throw new IllegalArgumentException("ERRO: Data resultante após " + ANO_MAXIMO);
+                }
+                bits = diasUteis[palavra];
+            }
+            for (int i = 1; i < restante; ++i) {
+                bits &= bits - 1;
+            }
+            return PRIMEIRO_DIA + (long) palavra * BITS_POR_PALAVRA + Long.numberOfTrailingZeros(bits);
+        }
+        long bits = diasUteis[palavra] & (1L << bit) - 1;
+        while (Long.bitCount(bits) < restante) {
+            restante -= Long.bitCount(bits);
+            if (--palavra < 0) {
+                throw new IllegalArgumentException("ERRO: Data resultante antes de " + ANO_MINIMO);
+            }
+            bits = diasUteis[palavra];
+        }
+        for (int i = 1; i < restante; ++i) {
+            bits &= ~Long.highestOneBit(bits);
+        }
+        return PRIMEIRO_DIA + (long) palavra * BITS_POR_PALAVRA + BITS_POR_PALAVRA - 1
+                - Long.numberOfLeadingZeros(bits);
+    }
+
+    /**
+     * <p>
+     *     Quantidade de dias úteis no intervalo [inicio, fim), negativa quando o fim é anterior ao inicio.
+     * </p>
+     *
+     * @param inicio Data inicial, inclusiva
+     * @param fim Data final, exclusiva
+     * @return Dias úteis
+     */
+    public long diasUteisEntre(LocalDate inicio, LocalDate fim) {
+        return diasUteisEntre(inicio.toEpochDay(), fim.toEpochDay());
+    }
+
+    /**
+     * <p>
+     *     Quantidade de dias úteis no intervalo [inicio, fim), negativa quando o fim é anterior ao inicio.
+     * </p>
+     *
+     * @param inicio Epoch day inicial, inclusivo
+     * @param fim Epoch day final, exclusivo
+     * @return Dias úteis
+     */
+    public long diasUteisEntre(long inicio, long fim) {
+        validarIntervalo(inicio);
+        validarIntervalo(fim);
+        return ordem(fim) - ordem(inicio);
+    }
+
+    /**
+     * <p>
+     *     A própria data, se for dia útil, ou o próximo dia útil. Utilizado, por exemplo, para prorrogar
+     *     vencimentos.
+     * </p>
+     *
+     * @param data Data
+     * @return Dia útil
+     */
+    public LocalDate proximoDiaUtil(LocalDate data) {
+        return isDiaUtil(data) ? data : adicionarDiasUteis(data, 1);
+    }
+
+    /**
+     * <p>
+     *     A própria data, se for dia útil, ou o dia útil anterior.
+     * </p>
+     *
+     * @param data Data
+     * @return Dia útil
+     */
+    public LocalDate diaUtilAnterior(LocalDate data) {
+        return isDiaUtil(data) ? data : adicionarDiasUteis(data, -1);
+    }
+
+    private long ordem(long epochDay) {
+        final int posicao = (int) (epochDay - PRIMEIRO_DIA);
+        final int palavra = posicao / BITS_POR_PALAVRA;
+        final int bit = posicao % BITS_POR_PALAVRA;
+        final long bits = palavra == TOTAL_PALAVRAS ? 0 : diasUteis[palavra] & (1L << bit) - 1;
+        return acumulado[palavra] + Long.bitCount(bits);
+    }
+
+    private static int diaDaSemana(long epochDay) {
+        return Math.floorMod(epochDay + DIA_DA_SEMANA_EPOCH, DIAS_POR_SEMANA);
+    }
+
+    private static void marcar(long[] mapa, long epochDay) {
+        final int posicao = (int) (epochDay - PRIMEIRO_DIA);
+        if (posicao >= 0 && posicao < TOTAL_DIAS) {
+            mapa[posicao / BITS_POR_PALAVRA] |= 1L << posicao;
+        }
+    }
+
+    private static boolean testar(long[] mapa, long epochDay) {
+        final int posicao = (int) (epochDay - PRIMEIRO_DIA);
+        return (mapa[posicao / BITS_POR_PALAVRA] & 1L << posicao) != 0;
+    }
+
+    private static void validarIntervalo(long epochDay) {
+        if (epochDay < PRIMEIRO_DIA || epochDay > ULTIMO_DIA) {
+            throw new IllegalArgumentException("ERRO: Data fora do calendário (" + ANO_MINIMO + " a " + ANO_MAXIMO
+                    + "): " + LocalDate.ofEpochDay(epochDay));
+        }
+    }
+}
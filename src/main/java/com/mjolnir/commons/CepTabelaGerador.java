@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumUF;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     Gera o índice binário de faixas de CEP lido por {@link CepUtil} a partir do e-DNE (Diretório Nacional de
+ *     Endereços) dos Correios, arquivos delimitados por @: {@code LOG_LOCALIDADE}, {@code LOG_FAIXA_LOCALIDADE} e
+ *     {@code LOG_FAIXA_UF}.
+ * </p>
+ * <p>
+ *     Cada faixa de localidade recebe o código IBGE do seu municipio ({@code MUN_NU}, ou o da localidade
+ *     subordinante para distritos e povoados). A faixa total ({@code T}) do municipio é preferida à faixa da sede
+ *     ({@code C}), e os intervalos das faixas de UF não cobertos por nenhuma localidade recebem o código da UF, de
+ *     forma que {@link CepUtil#resolverUF(int)} continua respondendo para todo o território.
+ * </p>
+ * <p>
+ *     Uso: {@code java com.mjolnir.commons.CepTabelaGerador dne <LOG_LOCALIDADE> <LOG_FAIXA_LOCALIDADE>
+ *     <LOG_FAIXA_UF> <saida> [charset]}, com charset padrão ISO-8859-1 como distribuído pelos Correios, ou
+ *     {@code csv <entrada> <saida>} para o formato de {@link CepUtil#compilar(InputStream, OutputStream)}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CepTabelaGerador {
+
+    private static final char SEPARADOR = '@';
+    private static final String FAIXA_TOTAL = "T";
+
+    /**
+     * <p>
+     *     Gera o índice binário a partir dos arquivos do e-DNE.
+     * </p>
+     *
+     * @param localidades Arquivo LOG_LOCALIDADE
+     * @param faixasLocalidade Arquivo LOG_FAIXA_LOCALIDADE
+     * @param faixasUF Arquivo LOG_FAIXA_UF
+     * @param destino Stream de destino do recurso binário
+     * @return Quantidade de faixas gravadas
+     * @throws IOException Em falha de leitura ou escrita
+     * @throws IllegalArgumentException Se um registro for inválido ou as faixas se sobrepuserem
+     */
+    public static int gerarDne(Reader localidades, Reader faixasLocalidade, Reader faixasUF, OutputStream destino)
+            throws IOException {
+        final Map<Integer, Integer> municipios = lerMunicipios(localidades);
+
+        final Map<Integer, List<int[]>> porLocalidade = new HashMap<>();
+        final Map<Integer, Boolean> possuiTotal = new HashMap<>();
+        for (String[] campos : ler(faixasLocalidade, 4)) {
+            final int localidade = Integer.parseInt(campos[0].trim());
+            final boolean total = FAIXA_TOTAL.equals(campos[3].trim());
+            if (total && !possuiTotal.getOrDefault(localidade, false)) {
+                porLocalidade.remove(localidade);
+                possuiTotal.put(localidade, true);
+            } else if (!total && possuiTotal.getOrDefault(localidade, false)) {
+                continue;
+            }
+            final Integer municipio = municipios.get(localidade);
+            if (municipio == null) {
+                throw new IllegalArgumentException("ERRO: Faixa de localidade sem municipio IBGE: " + campos[0]);
+            }
+            porLocalidade.computeIfAbsent(localidade, chave -> new ArrayList<>())
+                    .add(faixa(campos[1], campos[2], municipio));
+        }
+        final List<int[]> faixas = new ArrayList<>();
+        porLocalidade.values().forEach(faixas::addAll);
+        faixas.sort(Comparator.comparingInt(faixa -> faixa[0]));
+
+        final List<int[]> lacunas = new ArrayList<>();
+        for (String[] campos : ler(faixasUF, 3)) {
+            final EnumUF uf = EnumUF.porSigla(campos[0].trim());
+            if (uf == null) {
+                throw new IllegalArgumentException("ERRO: UF inválida na faixa de CEP: " + campos[0]);
+            }
+            final int[] faixaUF = faixa(campos[1], campos[2], uf.getCodigoIbge());
+            int inicio = faixaUF[0];
+            for (int[] faixa : faixas) {
+                if (faixa[1] < inicio || faixa[0] > faixaUF[1]) {
+                    continue;
+                }
+                if (faixa[0] > inicio) {
+                    lacunas.add(new int[] {inicio, faixa[0] - 1, faixaUF[2]});
+                }
+                inicio = Math.max(inicio, faixa[1] + 1);
+            }
+            if (inicio <= faixaUF[1]) {
+                lacunas.add(new int[] {inicio, faixaUF[1], faixaUF[2]});
+            }
+        }
+        faixas.addAll(lacunas);
+        final List<int[]> unidas = unir(faixas);
+        CepUtil.gravar(unidas, destino);
+        return unidas.size();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && "csv".equals(args[0])) {
+            try (InputStream entrada = Files.newInputStream(Paths.get(args[1]));
+                 OutputStream saida = Files.newOutputStream(Paths.get(args[2]))) {
+                CepUtil.compilar(entrada, saida);
+            }
+            return;
+        }
+        if (args.length < 5 || !"dne".equals(args[0])) {
+            throw new IllegalArgumentException("ERRO: Uso: CepTabelaGerador dne <LOG_LOCALIDADE> "
+                    + "<LOG_FAIXA_LOCALIDADE> <LOG_FAIXA_UF> <saida> [charset] | csv <entrada> <saida>");
+        }
+        final Charset charset = args.length > 5 ? Charset.forName(args[5]) : StandardCharsets.ISO_8859_1;
+        try (Reader localidades = Files.newBufferedReader(Paths.get(args[1]), charset);
+             Reader faixasLocalidade = Files.newBufferedReader(Paths.get(args[2]), charset);
+             Reader faixasUF = Files.newBufferedReader(Paths.get(args[3]), charset);
+             OutputStream saida = Files.newOutputStream(Paths.get(args[4]))) {
+            System.out.println(gerarDne(localidades, faixasLocalidade, faixasUF, saida)
+                    + " faixas gravadas em " + args[4]);
+        }
+    }
+
+    /**
+     * <p>
+     *     Lê LOG_LOCALIDADE (LOC_NU, UFE_SG, LOC_NO, CEP, LOC_IN_SIT, LOC_IN_TIPO_LOC, LOC_NU_SUB, LOC_NO_ABREV,
+     *     MUN_NU) e resolve o código IBGE de cada localidade, seguindo LOC_NU_SUB quando MUN_NU estiver vazio.
+     * </p>
+     */
+    private static Map<Integer, Integer> lerMunicipios(Reader localidades) throws IOException {
+        final Map<Integer, Integer> codigos = new HashMap<>();
+        final Map<Integer, Integer> subordinantes = new HashMap<>();
+        for (String[] campos : ler(localidades, 7)) {
+            final int localidade = Integer.parseInt(campos[0].trim());
+            final String municipio = campos.length > 8 ? campos[8].trim() : "";
+            if (!municipio.isEmpty()) {
+                codigos.put(localidade, Integer.parseInt(municipio));
+            } else if (!campos[6].trim().isEmpty()) {
+                subordinantes.put(localidade, Integer.parseInt(campos[6].trim()));
+            }
+        }
+        for (Map.Entry<Integer, Integer> subordinada : subordinantes.entrySet()) {
+            Integer atual = subordinada.getValue();
+            for (int nivel = 0; atual != null && !codigos.containsKey(atual) && nivel < subordinantes.size();
+                    ++nivel) {
+                atual = subordinantes.get(atual);
+            }
+            if (atual != null && codigos.containsKey(atual)) {
+                codigos.putIfAbsent(subordinada.getKey(), codigos.get(atual));
+            }
+        }
+        return codigos;
+    }
+
+    private static int[] faixa(String inicio, String fim, int codigo) {
+        final int[] faixa = {CepUtil.paraCep(inicio.trim()), CepUtil.paraCep(fim.trim()), codigo};
+        if (faixa[0] < 0 || faixa[1] < faixa[0]) {
+            throw new IllegalArgumentException("ERRO: Faixa de CEP inválida: " + inicio + " - " + fim);
+        }
+        return faixa;
+    }
+
+    private static List<int[]> unir(List<int[]> faixas) {
+        faixas.sort(Comparator.comparingInt(faixa -> faixa[0]));
+        final List<int[]> unidas = new ArrayList<>(faixas.size());
+        for (int[] faixa : faixas) {
+            final int[] anterior = unidas.isEmpty() ? null : unidas.get(unidas.size() - 1);
+            if (anterior != null && anterior[2] == faixa[2] && anterior[1] + 1 == faixa[0]) {
+                anterior[1] = faixa[1];
+            } else {
+                unidas.add(faixa.clone());
+            }
+        }
+        return unidas;
+    }
+
+    private static List<String[]> ler(Reader origem, int camposMinimos) throws IOException {
+        final List<String[]> registros = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader(origem);
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            if (linha.trim().isEmpty()) {
+                continue;
+            }
+            final String[] campos = linha.split(String.valueOf(SEPARADOR), -1);
+            if (campos.length < camposMinimos) {
+                throw new IllegalArgumentException("ERRO: Registro do e-DNE inválido: " + linha);
+            }
+            registros.add(campos);
+        }
+        return registros;
+    }
+}
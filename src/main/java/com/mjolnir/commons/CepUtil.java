@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumUF;
+import com.mjolnir.toolbox.app.PropertiesUtil;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>
+ *     Índice de faixas de CEP para validação e resolução de UF e municipio (código IBGE).
+ * </p>
+ * <p>
+ *     As faixas são carregadas na primeira consulta a partir do recurso binário configurado em
+ *     {@code util.brazil.cep.faixas.resource}. Quando o recurso é um arquivo ele é mapeado em memória e
+ *     consultado diretamente no buffer mapeado, sem cópia para o heap. A resolução é uma busca binária sem
+ *     alocação.
+ * </p>
+ * <p>
+ *     O índice distribuído ({@code brazil/faixas-cep.bin}) contém apenas as faixas de CEP de cada UF e as das
+ *     capitais São Paulo e Rio de Janeiro: {@link #isCepValido(CharSequence)} confirma apenas que o CEP está na
+ *     faixa de uma UF e {@link #resolverMunicipio(int)} retorna 0 para os demais municipios. Para validação e
+ *     resolução por municipio, gere o índice completo a partir do e-DNE dos Correios com
+ *     {@link CepTabelaGerador} e configure-o em {@code util.brazil.cep.faixas.resource}.
+ * </p>
+ * <p>
+ *     Formato do recurso binário (big-endian): int {@link #ASSINATURA}, int quantidade de faixas e, para cada
+ *     faixa, int CEP inicial, int CEP final e int código (código IBGE do municipio, ou código IBGE da UF quando a
+ *     faixa não pertence a um único municipio). O recurso é gerado por {@link #compilar(InputStream, OutputStream)}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CepUtil {
+
+    /**
+     * Assinatura do recurso binário ("CEP1").
+     */
+    public static final int ASSINATURA = 0x43455031;
+
+    private static final String RESOURCE_FAIXAS = PropertiesUtil.getInstance()
+            .getPropertieByKey("util.brazil.cep.faixas.resource");
+
+    private static final int TAMANHO_CEP = 8;
+    private static final int FATOR_UF_IBGE = 100_000;
+
+    /**
+     * <p>
+     *     Converte um CEP, com ou sem mascara (#####-### ou ##.###-###), para inteiro.
+     * </p>
+     *
+     * @param cep CEP
+     * @return CEP como inteiro ou -1 se o formato for inválido
+     */
+    public static int paraCep(CharSequence cep) {
+        if (cep == null) {
+            return -1;
+        }
+        int valor = 0;
+        int digitos = 0;
+        for (int i = 0; i < cep.length(); ++i) {
+            final char c = cep.charAt(i);
+            if (c >= '0' && c <= '9') {
+                valor = valor * 10 + (c - '0');
+                ++digitos;
+            } else if (c != '-' && c != '.') {
+                return -1;
+            }
+        }
+        return digitos == TAMANHO_CEP ? valor : -1;
+    }
+
+    /**
+     * <p>
+     *     Verifica se o CEP possui formato válido e pertence a uma faixa do índice carregado. Com o índice
+     *     distribuído, por UF, isso não garante que o CEP tenha sido atribuído pelos Correios.
+     * </p>
+     *
+     * @param cep CEP, com ou sem mascara
+     * @return True se o CEP for válido
+     */
+    public static boolean isCepValido(CharSequence cep) {
+        return Faixas.posicao(paraCep(cep)) >= 0;
+    }
+
+    /**
+     * <p>
+     *     Resolve a UF do CEP.
+     * </p>
+     *
+     * @param cep CEP como inteiro
+     * @return UF ou null se o CEP não pertencer a uma faixa conhecida
+     */
+    public static EnumUF resolverUF(int cep) {
+        final int posicao = Faixas.posicao(cep);
+        return posicao >= 0 ? paraUF(Faixas.codigo(posicao)) : null;
+    }
+
+    /**
+     * <p>
+     *     Resolve a UF do CEP.
+     * </p>
+     *
+     * @param cep CEP, com ou sem mascara
+     * @return UF ou null se o CEP for inválido
+     */
+    public static EnumUF resolverUF(CharSequence cep) {
+        return resolverUF(paraCep(cep));
+    }
+
+    /**
+     * <p>
+     *     Resolve o código IBGE do municipio do CEP, quando a faixa pertence a um único municipio. Com o índice
+     *     distribuído, por UF, apenas São Paulo e Rio de Janeiro são resolvidos.
+     * </p>
+     *
+     * @param cep CEP como inteiro
+     * @return Código IBGE do municipio ou 0 se não for possível determinar
+     */
+    public static int resolverMunicipio(int cep) {
+        final int posicao = Faixas.posicao(cep);
+        final int codigo = posicao >= 0 ? Faixas.codigo(posicao) : 0;
+        return codigo >= FATOR_UF_IBGE ? codigo : 0;
+    }
+
+    /**
+     * <p>
+     *     Resolve a UF de um lote de CEPs. Posições com CEP desconhecido recebem null.
+     * </p>
+     *
+     * @param ceps CEPs como inteiro
+     * @param destino Array de destino, com pelo menos o mesmo tamanho de {@code ceps}
+     */
+    public static void resolverUF(int[] ceps, EnumUF[] destino) {
+        for (int i = 0; i < ceps.length; ++i) {
+            destino[i] = resolverUF(ceps[i]);
+        }
+    }
+
+    /**
+     * <p>
+     *     Resolve a UF de um lote de CEPs em paralelo, para lotes grandes.
+     * </p>
+     *
+     * @param ceps CEPs como inteiro
+     * @param destino Array de destino, com pelo menos o mesmo tamanho de {@code ceps}
+     */
+    public static void resolverUFParalelo(int[] ceps, EnumUF[] destino) {
+        Arrays.parallelSetAll(destino, i -> i < ceps.length ? resolverUF(ceps[i]) : destino[i]);
+    }
+
+    /**
+     * <p>
+     *     Gera o recurso binário de faixas a partir de um CSV no formato
+     *     {@code CEP inicial;CEP final;UF;código IBGE do municipio (opcional)}. Linhas iniciadas por # são
+     *     ignoradas.
+     * </p>
+     *
+     * @param csv CSV de origem
+     * @param destino Stream de destino do recurso binário
+     * @throws IOException Em falha de leitura ou escrita
+     */
+    public static void compilar(InputStream csv, OutputStream destino) throws IOException {
+        final List<int[]> faixas = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            if (linha.trim().isEmpty() || linha.charAt(0) == '#') {
+                continue;
+            }
+            final String[] campos = linha.split(";");
+            final EnumUF uf = EnumUF.porSigla(campos[2].trim());
+            if (uf == null) {
+                throw new IllegalArgumentException("ERRO: UF inválida na faixa de CEP: " + linha);
+            }
+            final int municipio = campos.length > 3 ? Integer.parseInt(campos[3].trim()) : 0;
+            faixas.add(new int[] {paraCep(campos[0].trim()), paraCep(campos[1].trim()),
+                    municipio != 0 ? municipio : uf.getCodigoIbge()});
+        }
+        gravar(faixas, destino);
+    }
+
+    /**
+     * <p>
+     *     Grava o recurso binário a partir de faixas {@code {CEP inicial, CEP final, código}}, que são ordenadas
+     *     pelo CEP inicial e não podem se sobrepor.
+     * </p>
+     */
+    static void gravar(List<int[]> faixas, OutputStream destino) throws IOException {
+        faixas.sort(Comparator.comparingInt(faixa -> faixa[0]));
+
+        final DataOutputStream out = new DataOutputStream(destino);
+        out.writeInt(ASSINATURA);
+        out.writeInt(faixas.size());
+        int fimAnterior = -1;
+        for (int[] faixa : faixas) {
+            if (faixa[0] < 0 || faixa[1] < faixa[0] || faixa[0] <= fimAnterior) {
+                throw new IllegalArgumentException("ERRO: Faixa de CEP inválida ou sobreposta: " + faixa[0]);
+            }
+            fimAnterior = faixa[1];
+            out.writeInt(faixa[0]);
+            out.writeInt(faixa[1]);
+            out.writeInt(faixa[2]);
+        }
+        out.flush();
+    }
+
+    static EnumUF paraUF(int codigo) {
+        return EnumUF.porCodigoIbge(codigo >= FATOR_UF_IBGE ? codigo / FATOR_UF_IBGE : codigo);
+    }
+
+    private static ByteBuffer mapearRecurso(String recurso) throws IOException {
+        final URL url = CepUtil.class.getClassLoader().getResource(recurso);
+        if (url == null) {
+            log.error("Sorry, unable to find file: " + recurso);
+            return null;
+        }
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException ex) {
+                log.warn("WARN: Cannot map the resource, reading as stream. ", ex);
+            }
+        }
+        try (InputStream input = url.openStream()) {
+            return ByteBuffer.wrap(input.readAllBytes());
+        }
+    }
+
+    /**
+     * <p>
+     *     Faixas de CEP, carregadas na primeira utilização e lidas diretamente do buffer do recurso: três ints por
+     *     faixa (CEP inicial, CEP final e código), ordenadas pelo CEP inicial.
+     * </p>
+     */
+    private static final class Faixas {
+
+        private static final int INTS_POR_FAIXA = 3;
+        private static final IntBuffer TABELA;
+        private static final int QUANTIDADE;
+
+        static {
+            IntBuffer tabela = IntBuffer.allocate(0);
+            try {
+                final ByteBuffer buffer = mapearRecurso(RESOURCE_FAIXAS);
+                if (buffer != null) {
+                    if (buffer.getInt() != ASSINATURA) {
+                        throw new IOException("Invalid CEP index signature.");
+                    }
+                    final int quantidade = buffer.getInt();
+                    if (quantidade < 0 || (long) quantidade * INTS_POR_FAIXA * Integer.BYTES > buffer.remaining()) {
+                        throw new IOException("Truncated CEP index.");
+                    }
+                    tabela = buffer.slice().asIntBuffer();
+                    tabela.limit(quantidade * INTS_POR_FAIXA);
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.error("Error to load CEP index.", ex);
+                tabela = IntBuffer.allocate(0);
+            }
+            TABELA = tabela;
+            QUANTIDADE = tabela.limit() / INTS_POR_FAIXA;
+        }
+
+        private static int codigo(int posicao) {
+            return TABELA.get(posicao * INTS_POR_FAIXA + 2);
+        }
+
+        private static int posicao(int cep) {
+            if (cep < 0) {
+                return -1;
+            }
+            int inferior = 0;
+            int superior = QUANTIDADE - 1;
+            while (inferior <= superior) {
+                final int meio = (inferior + superior) >>> 1;
+                if (TABELA.get(meio * INTS_POR_FAIXA) <= cep) {
+                    inferior = meio + 1;
+                } else {
+                    superior = meio - 1;
+                }
+            }
+            return superior >= 0 && cep <= TABELA.get(superior * INTS_POR_FAIXA + 1) ? superior : -1;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumDocumentoFiscal;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ *     Classe utilitária para geração da Chave de Acesso dos documentos fiscais eletrônicos (NFe, NFCe, CTe,
+ *     CTe OS e MDFe).
+ * </p>
+ * <p>
+ *     Composição da chave (44 posições):
+ * </p>
+ * <pre>
+ *     cUF(2) + AAMM(4) + CNPJ(14) + mod(2) + serie(3) + nNF(9) + tpEmis(1) + cNF(8) + cDV(1)
+ * </pre>
+ * <p>
+ *     Os métodos de geração escrevem diretamente no buffer informado pelo chamador, sem criação de objetos
+ *     intermediários, permitindo reaproveitar o mesmo buffer para a emissão de várias chaves.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChaveAcessoUtil {
+
+    /**
+     * Tamanho da chave de acesso.
+     */
+    public static final int TAMANHO_CHAVE = 44;
+
+    private static final int TAMANHO_UF = 2;
+    private static final int TAMANHO_ANO_MES = 2;
+    private static final int TAMANHO_CNPJ = 14;
+    private static final int TAMANHO_MODELO = 2;
+    private static final int TAMANHO_SERIE = 3;
+    private static final int TAMANHO_NUMERO = 9;
+    private static final int TAMANHO_TIPO_EMISSAO = 1;
+    private static final int TAMANHO_CODIGO_NUMERICO = 8;
+
+    private static final int MAXIMO_SERIE = 999;
+    private static final int MAXIMO_NUMERO = 999_999_999;
+    private static final int MAXIMO_CODIGO_NUMERICO = 99_999_999;
+    private static final int MAXIMO_MES = 12;
+
+    private static final int MODULO_ONZE = 11;
+    private static final int MULTIPLICADOR_MAXIMO = 9;
+    private static final int CONVERSOR_CHAR = '0';
+
+    /**
+     * <p>
+     *     Gera a chave de acesso no buffer informado, a partir da posição indicada.
+     * </p>
+     *
+     * @param destino Buffer de destino, com pelo menos 44 posições livres a partir de {@code posicao}
+     * @param posicao Posição inicial de escrita
+     * @param cUF Código IBGE da UF do emitente
+     * @param dataEmissao Data de emissão do documento
+     * @param cnpj CNPJ do emitente sem formatação
+     * @param docFiscal {@link EnumDocumentoFiscal} Tipo de documento fiscal
+     * @param serie Série do documento
+     * @param numero Número do documento
+     * @param tpEmis Tipo de emissão
+     * @param cNF Código numérico que compõe a chave
+     * @return Posição seguinte ao último caractere escrito
+     */
+    public static int gerarChaveAcesso(char[] destino, int posicao, int cUF, LocalDate dataEmissao,
+                                       CharSequence cnpj, EnumDocumentoFiscal docFiscal, int serie, int numero,
+                                       int tpEmis, int cNF) {
+        return gerarChaveAcesso(destino, posicao, cUF, dataEmissao.getYear(), dataEmissao.getMonthValue(),
+                cnpj, docFiscal, serie, numero, tpEmis, cNF);
+    }
+
+    /**
+     * <p>
+     *     Gera a chave de acesso no buffer informado, a partir da posição indicada.
+     * </p>
+     *
+     * @param destino Buffer de destino, com pelo menos 44 posições livres a partir de {@code posicao}
+     * @param posicao Posição inicial de escrita
+     * @param cUF Código IBGE da UF do emitente
+     * @param ano Ano de emissão (ex: 2026)
+     * @param mes Mês de emissão (1 a 12)
+     * @param cnpj CNPJ do emitente sem formatação
+     * @param docFiscal {@link EnumDocumentoFiscal} Tipo de documento fiscal
+     * @param serie Série do documento
+     * @param numero Número do documento
+     * @param tpEmis Tipo de emissão
+     * @param cNF Código numérico que compõe a chave
+     * @return Posição seguinte ao último caractere escrito
+     */
+    public static int gerarChaveAcesso(char[] destino, int posicao, int cUF, int ano, int mes,
+                                       CharSequence cnpj, EnumDocumentoFiscal docFiscal, int serie, int numero,
+                                       int tpEmis, int cNF) {
+        validarCampos(cUF, mes, cnpj, docFiscal, serie, numero, tpEmis, cNF);
+        if (destino == null || posicao < 0 || destino.length - posicao < TAMANHO_CHAVE) {
+            throw new IllegalArgumentException("ERRO: Buffer insuficiente para a chave de acesso.");
+        }
+
+        int pos = posicao;
+        pos = escreverNumero(destino, pos, cUF, TAMANHO_UF);
+        pos = escreverNumero(destino, pos, ano % 100, TAMANHO_ANO_MES);
+        pos = escreverNumero(destino, pos, mes, TAMANHO_ANO_MES);
+        for (int i = 0; i < TAMANHO_CNPJ; ++i) {
+            destino[pos++] = cnpj.charAt(i);
+        }
+        pos = escreverNumero(destino, pos, docFiscal.getModelo(), TAMANHO_MODELO);
+        pos = escreverNumero(destino, pos, serie, TAMANHO_SERIE);
+        pos = escreverNumero(destino, pos, numero, TAMANHO_NUMERO);
+        pos = escreverNumero(destino, pos, tpEmis, TAMANHO_TIPO_EMISSAO);
+        pos = escreverNumero(destino, pos, cNF, TAMANHO_CODIGO_NUMERICO);
+        destino[pos] = (char) (CONVERSOR_CHAR + calcularDigitoVerificador(destino, posicao, TAMANHO_CHAVE - 1));
+        return pos + 1;
+    }
+
+    /**
+     * <p>
+     *     Gera a chave de acesso anexando-a ao final do {@link StringBuilder} informado.
+     * </p>
+     *
+     * @param destino StringBuilder de destino
+     * @param cUF Código IBGE da UF do emitente
+     * @param ano Ano de emissão (ex: 2026)
+     * @param mes Mês de emissão (1 a 12)
+     * @param cnpj CNPJ do emitente sem formatação
+     * @param docFiscal {@link EnumDocumentoFiscal} Tipo de documento fiscal
+     * @param serie Série do documento
+     * @param numero Número do documento
+     * @param tpEmis Tipo de emissão
+     * @param cNF Código numérico que compõe a chave
+     * @return O próprio StringBuilder informado
+     */
+    public static StringBuilder gerarChaveAcesso(StringBuilder destino, int cUF, int ano, int mes,
+                                                 CharSequence cnpj, EnumDocumentoFiscal docFiscal, int serie,
+                                                 int numero, int tpEmis, int cNF) {
+        validarCampos(cUF, mes, cnpj, docFiscal, serie, numero, tpEmis, cNF);
+        final int inicio = destino.length();
+        destino.ensureCapacity(inicio + TAMANHO_CHAVE);
+
+        appendNumero(destino, cUF, TAMANHO_UF);
+        appendNumero(destino, ano % 100, TAMANHO_ANO_MES);
+        appendNumero(destino, mes, TAMANHO_ANO_MES);
+        destino.append(cnpj, 0, TAMANHO_CNPJ);
+        appendNumero(destino, docFiscal.getModelo(), TAMANHO_MODELO);
+        appendNumero(destino, serie, TAMANHO_SERIE);
+        appendNumero(destino, numero, TAMANHO_NUMERO);
+        appendNumero(destino, tpEmis, TAMANHO_TIPO_EMISSAO);
+        appendNumero(destino, cNF, TAMANHO_CODIGO_NUMERICO);
+        return destino.append((char) (CONVERSOR_CHAR
+                + calcularDigitoVerificador(destino, inicio, TAMANHO_CHAVE - 1)));
+    }
+
+    /**
+     * <p>
+     *     Calcula o digito verificador (Modulo 11, pesos 2 a 9 da direita para a esquerda) das 43 primeiras
+     *     posições da chave de acesso.
+     * </p>
+     *
+     * @param chave Buffer contendo a chave
+     * @param posicao Posição inicial da chave no buffer
+     * @param tamanho Quantidade de caracteres considerados no calculo
+     * @return Digito verificador
+     */
+    public static int calcularDigitoVerificador(char[] chave, int posicao, int tamanho) {
+        int soma = 0;
+        int multiplicador = 2;
+        for (int i = posicao + tamanho - 1; i >= posicao; --i) {
+            soma += (chave[i] - CONVERSOR_CHAR) * multiplicador;
+            multiplicador = multiplicador == MULTIPLICADOR_MAXIMO ? 2 : multiplicador + 1;
+        }
+        return digitoModuloOnze(soma);
+    }
+
+    /**
+     * <p>
+     *     Calcula o digito verificador (Modulo 11, pesos 2 a 9 da direita para a esquerda) das 43 primeiras
+     *     posições da chave de acesso.
+     * </p>
+     *
+     * @param chave Sequencia de caracteres contendo a chave
+     * @param posicao Posição inicial da chave na sequencia
+     * @param tamanho Quantidade de caracteres considerados no calculo
+     * @return Digito verificador
+     */
+    public static int calcularDigitoVerificador(CharSequence chave, int posicao, int tamanho) {
+        int soma = 0;
+        int multiplicador = 2;
+        for (int i = posicao + tamanho - 1; i >= posicao; --i) {
+            soma += (chave.charAt(i) - CONVERSOR_CHAR) * multiplicador;
+            multiplicador = multiplicador == MULTIPLICADOR_MAXIMO ? 2 : multiplicador + 1;
+        }
+        return digitoModuloOnze(soma);
+    }
+
+    /**
+     * <p>
+     *     Gera um código numérico (cNF) aleatório de 8 digitos.
+     * </p>
+     * <p>
+     *     Utiliza {@link ThreadLocalRandom}, que não possui estado compartilhado entre threads, portanto não há
+     *     disputa entre as threads emissoras.
+     * </p>
+     *
+     * @return Código numérico entre 0 e 99999999
+     */
+    public static int gerarCodigoNumerico() {
+        return ThreadLocalRandom.current().nextInt(MAXIMO_CODIGO_NUMERICO + 1);
+    }
+
+    /**
+     * <p>
+     *     Gera um código numérico (cNF) aleatório de 8 digitos diferente do número do documento, conforme
+     *     exigido pela SEFAZ.
+     * </p>
+     *
+     * @param numero Número do documento
+     * @return Código numérico entre 0 e 99999999
+     */
+    public static int gerarCodigoNumerico(int numero) {
+        int cNF;
+        do {
+            cNF = gerarCodigoNumerico();
+        } while (cNF == numero);
+        return cNF;
+    }
+
+    private static int digitoModuloOnze(int soma) {
+        final int digito = MODULO_ONZE - soma % MODULO_ONZE;
+        return digito >= 10 ? 0 : digito;
+    }
+
+    private static void validarCampos(int cUF, int mes, CharSequence cnpj, EnumDocumentoFiscal docFiscal,
+                                      int serie, int numero, int tpEmis, int cNF) {
+        if (cUF < 10 || cUF > 99) {
+            throw new IllegalArgumentException("ERRO: Código da UF inválido.");
+        }
+        if (mes < 1 || mes > MAXIMO_MES) {
+            throw new IllegalArgumentException("ERRO: Mês de emissão inválido.");
+        }
+        if (docFiscal == null) {
+            throw new IllegalArgumentException("ERRO: Tipo de documento fiscal não pode ser nulo.");
+        }
+        if (serie < 0 || serie > MAXIMO_SERIE || numero < 1 || numero > MAXIMO_NUMERO) {
+            throw new IllegalArgumentException("ERRO: Série ou número do documento inválido.");
+        }
+        if (tpEmis < 1 || tpEmis > MULTIPLICADOR_MAXIMO) {
+            throw new IllegalArgumentException("ERRO: Tipo de emissão inválido.");
+        }
+        if (cNF < 0 || cNF > MAXIMO_CODIGO_NUMERICO) {
+            throw new IllegalArgumentException("ERRO: Código numérico inválido.");
+        }
+        if (cnpj == null || cnpj.length() != TAMANHO_CNPJ) {
+            throw new IllegalArgumentException("ERRO: CNPJ deve conter 14 digitos.");
+        }
+        for (int i = 0; i < TAMANHO_CNPJ; ++i) {
+            final char c = cnpj.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("ERRO: CNPJ deve conter 14 digitos.");
+            }
+        }
+    }
+
+    private static int escreverNumero(char[] destino, int posicao, int valor, int tamanho) {
+        int resto = valor;
+        for (int i = posicao + tamanho - 1; i >= posicao; --i) {
+            destino[i] = (char) (CONVERSOR_CHAR + resto % 10);
+            resto /= 10;
+        }
+        return posicao + tamanho;
+    }
+
+    private static void appendNumero(StringBuilder destino, int valor, int tamanho) {
+        int divisor = 1;
+        for (int i = 1; i < tamanho; ++i) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            destino.append((char) (CONVERSOR_CHAR + valor / divisor % 10));
+        }
+    }
+}
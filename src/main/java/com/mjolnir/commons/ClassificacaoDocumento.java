@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumDocumentoFiscal;
+import com.mjolnir.commons.enumerators.EnumTipoDocumento;
+import com.mjolnir.commons.enumerators.EnumTipoPessoa;
+
+/**
+ * <p>
+ *     Resultado da classificação de um documento por {@link DocumentoUtil#classificar(CharSequence)}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+public final class ClassificacaoDocumento {
+
+    private final EnumTipoDocumento tipo;
+    private final EnumTipoPessoa tipoPessoa;
+    private final EnumDocumentoFiscal documentoFiscal;
+    private final String documento;
+    private final boolean valido;
+
+    /**
+     * Constructor.
+     * @param tipo Tipo de documento reconhecido
+     * @param tipoPessoa Tipo de pessoa, para CPF e CNPJ
+     * @param documentoFiscal Documento fiscal, para chaves de acesso com modelo conhecido
+     * @param documento Documento sem formatação
+     * @param valido Indica se os digitos verificadores conferem
+     */
+    public ClassificacaoDocumento(EnumTipoDocumento tipo, EnumTipoPessoa tipoPessoa,
+                                  EnumDocumentoFiscal documentoFiscal, String documento, boolean valido) {
+        this.tipo = tipo;
+        this.tipoPessoa = tipoPessoa;
+        this.documentoFiscal = documentoFiscal;
+        this.documento = documento;
+        this.valido = valido;
+    }
+
+    public EnumTipoDocumento getTipo() {
+        return this.tipo;
+    }
+
+    public EnumTipoPessoa getTipoPessoa() {
+        return this.tipoPessoa;
+    }
+
+    public EnumDocumentoFiscal getDocumentoFiscal() {
+        return this.documentoFiscal;
+    }
+
+    public String getDocumento() {
+        return this.documento;
+    }
+
+    public boolean isValido() {
+        return this.valido;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassificacaoDocumento{tipo=" + tipo + ", tipoPessoa=" + tipoPessoa + ", documentoFiscal="
+                + documentoFiscal + ", documento=" + documento + ", valido=" + valido + "}";
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumAjusteParcela;
+import com.mjolnir.commons.enumerators.EnumSistemaAmortizacao;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * <p>
+ *     Condições de um parcelamento, utilizadas por {@link ParcelamentoUtil} para gerar o cronograma de parcelas.
+ * </p>
+ * <p>
+ *     Valores monetários são mantidos em centavos e taxas em frações com escala de 8 casas decimais
+ *     (ex: 1,99% a.m. = 0.0199 = 1990000), para que o calculo seja feito apenas com aritmética de long.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+public class CondicaoParcelamento {
+
+    /**
+     * Escala das taxas (8 casas decimais).
+     */
+    public static final int ESCALA_TAXA = 8;
+
+    private final long valorCentavos;
+    private final int quantidadeParcelas;
+    private final LocalDate primeiroVencimento;
+    private LocalDate dataContratacao;
+    private int intervaloMeses = 1;
+    private long taxaJurosMensal;
+    private long taxaIofDiaria;
+    private long taxaIofAdicional;
+    private EnumSistemaAmortizacao sistemaAmortizacao = EnumSistemaAmortizacao.PRICE;
+    private EnumAjusteParcela ajusteParcela = EnumAjusteParcela.ULTIMA_PARCELA;
+    private RoundingMode roundingMode = RoundingMode.HALF_UP;
+
+    /**
+     * Constructor.
+     * @param valorCentavos Valor total a ser parcelado em centavos
+     * @param quantidadeParcelas Quantidade de parcelas
+     * @param primeiroVencimento Data de vencimento da primeira parcela
+     */
+    public CondicaoParcelamento(long valorCentavos, int quantidadeParcelas, LocalDate primeiroVencimento) {
+        if (valorCentavos < 0 || quantidadeParcelas < 1 || primeiroVencimento == null) {
+            throw new IllegalArgumentException("ERRO: Valor, quantidade de parcelas ou vencimento inválido.");
+        }
+        this.valorCentavos = valorCentavos;
+        this.quantidadeParcelas = quantidadeParcelas;
+        this.primeiroVencimento = primeiroVencimento;
+        this.dataContratacao = primeiroVencimento.minusMonths(1);
+    }
+
+    /**
+     * Constructor.
+     * @param valor Valor total a ser parcelado
+     * @param quantidadeParcelas Quantidade de parcelas
+     * @param primeiroVencimento Data de vencimento da primeira parcela
+     */
+    public CondicaoParcelamento(BigDecimal valor, int quantidadeParcelas, LocalDate primeiroVencimento) {
+        this(valor.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact(), quantidadeParcelas,
+                primeiroVencimento);
+    }
+
+    public long getValorCentavos() {
+        return this.valorCentavos;
+    }
+
+    public int getQuantidadeParcelas() {
+        return this.quantidadeParcelas;
+    }
+
+    public LocalDate getPrimeiroVencimento() {
+        return this.primeiroVencimento;
+    }
+
+    public LocalDate getDataContratacao() {
+        return this.dataContratacao;
+    }
+
+    public void setDataContratacao(LocalDate dataContratacao) {
+        if (dataContratacao == null) {
+            throw new IllegalArgumentException("ERRO: Data de contratação não pode ser nula.");
+        }
+        this.dataContratacao = dataContratacao;
+    }
+
+    public int getIntervaloMeses() {
+        return this.intervaloMeses;
+    }
+
+    public void setIntervaloMeses(int intervaloMeses) {
+        if (intervaloMeses < 1) {
+            throw new IllegalArgumentException("ERRO: Intervalo entre parcelas deve ser de pelo menos 1 mês.");
+        }
+        this.intervaloMeses = intervaloMeses;
+    }
+
+    /**
+     * <p>
+     *     Taxa de juros mensal na escala {@link #ESCALA_TAXA}.
+     * </p>
+     * @return Taxa de juros
+     */
+    public long getTaxaJurosMensal() {
+        return this.taxaJurosMensal;
+    }
+
+    /**
+     * <p>
+     *     Define a taxa de juros mensal como fração (ex: 0.0199 para 1,99% a.m.).
+     * </p>
+     * @param taxaJurosMensal Taxa de juros mensal
+     */
+    public void setTaxaJurosMensal(BigDecimal taxaJurosMensal) {
+        this.taxaJurosMensal = paraEscalaTaxa(taxaJurosMensal);
+    }
+
+    /**
+     * <p>
+     *     Taxa diária de IOF na escala {@link #ESCALA_TAXA}.
+     * </p>
+     * @return Taxa diária de IOF
+     */
+    public long getTaxaIofDiaria() {
+        return this.taxaIofDiaria;
+    }
+
+    /**
+     * <p>
+     *     Define a taxa diária de IOF como fração (ex: 0.000082 para 0,0082% a.d.).
+     * </p>
+     * @param taxaIofDiaria Taxa diária de IOF
+     */
+    public void setTaxaIofDiaria(BigDecimal taxaIofDiaria) {
+        this.taxaIofDiaria = paraEscalaTaxa(taxaIofDiaria);
+    }
+
+    /**
+     * <p>
+     *     Taxa adicional de IOF na escala {@link #ESCALA_TAXA}.
+     * </p>
+     * @return Taxa adicional de IOF
+     */
+    public long getTaxaIofAdicional() {
+        return this.taxaIofAdicional;
+    }
+
+    /**
+     * <p>
+     *     Define a taxa adicional de IOF como fração (ex: 0.0038 para 0,38%).
+     * </p>
+     * @param taxaIofAdicional Taxa adicional de IOF
+     */
+    public void setTaxaIofAdicional(BigDecimal taxaIofAdicional) {
+        this.taxaIofAdicional = paraEscalaTaxa(taxaIofAdicional);
+    }
+
+    public EnumSistemaAmortizacao getSistemaAmortizacao() {
+        return this.sistemaAmortizacao;
+    }
+
+    public void setSistemaAmortizacao(EnumSistemaAmortizacao sistemaAmortizacao) {
+        if (sistemaAmortizacao == null) {
+            throw new IllegalArgumentException("ERRO: Sistema de amortização não pode ser nulo.");
+        }
+        this.sistemaAmortizacao = sistemaAmortizacao;
+    }
+
+    public EnumAjusteParcela getAjusteParcela() {
+        return this.ajusteParcela;
+    }
+
+    public void setAjusteParcela(EnumAjusteParcela ajusteParcela) {
+        if (ajusteParcela == null) {
+            throw new IllegalArgumentException("ERRO: Ajuste de parcela não pode ser nulo.");
+        }
+        this.ajusteParcela = ajusteParcela;
+    }
+
+    public RoundingMode getRoundingMode() {
+        return this.roundingMode;
+    }
+
+    /**
+     * <p>
+     *     Define o modo de arredondamento dos centavos. {@link RoundingMode#UNNECESSARY} não é aceito, pois juros e
+     *     parcelas raramente são exatos em centavos.
+     * </p>
+     * @param roundingMode Modo de arredondamento
+     */
+    public void setRoundingMode(RoundingMode roundingMode) {
+        if (roundingMode == null || roundingMode == RoundingMode.UNNECESSARY) {
+            throw new IllegalArgumentException("ERRO: Modo de arredondamento não pode ser nulo ou UNNECESSARY.");
+        }
+        this.roundingMode = roundingMode;
+    }
+
+    private static long paraEscalaTaxa(BigDecimal taxa) {
+        if (taxa == null || taxa.signum() < 0) {
+            throw new IllegalArgumentException("ERRO: Taxa não pode ser nula ou negativa.");
+        }
+        return taxa.setScale(ESCALA_TAXA, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumDocumentoFiscal;
+import com.mjolnir.commons.enumerators.EnumTipoDocumento;
+import com.mjolnir.commons.enumerators.EnumTipoPessoa;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Classificação de documentos informados como texto livre (CPF, CNPJ, Chave de Acesso, GTIN, CEP, código de
+ *     Municipio do IBGE e telefone).
+ * </p>
+ * <p>
+ *     A entrada é lida uma única vez, contando digitos, letras e caracteres de mascara. A quantidade de
+ *     posições define os candidatos e a mascara desempata os casos ambíguos; somente o validador do tipo
+ *     escolhido é executado, exceto quando a entrada sem mascara pode pertencer a dois tipos:
+ * </p>
+ * <ul>
+ *     <li>8 digitos: CEP quando houver mascara, senão GTIN-8 se o digito conferir, senão CEP;</li>
+ *     <li>11 digitos: telefone quando houver parênteses, + ou espaço, CPF quando houver ponto, senão CPF se o
+ *     digito conferir, senão telefone;</li>
+ *     <li>12 e 13 digitos: telefone quando houver parênteses ou +, senão GTIN se o digito conferir, senão
+ *     telefone;</li>
+ *     <li>14 posições: CNPJ quando houver barra ou letras, senão CNPJ se o digito conferir, senão GTIN-14.</li>
+ * </ul>
+ * <p>
+ *     Quando nenhum candidato é válido, o resultado traz o candidato principal com {@code valido} falso.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DocumentoUtil {
+
+    private static final int TAMANHO_IBGE = 7;
+    private static final int TAMANHO_CEP = 8;
+    private static final int TAMANHO_FONE = 10;
+    private static final int TAMANHO_CPF = 11;
+    private static final int TAMANHO_GTIN_12 = 12;
+    private static final int TAMANHO_GTIN_13 = 13;
+    private static final int TAMANHO_CNPJ = 14;
+    private static final int POSICAO_MODELO = 20;
+
+    private static final ClassificacaoDocumento DESCONHECIDO = new ClassificacaoDocumento(
+            EnumTipoDocumento.DESCONHECIDO, null, null, null, false);
+
+    /**
+     * <p>
+     *     Classifica o documento e valida os seus digitos verificadores.
+     * </p>
+     *
+     * @param texto Documento com ou sem mascara
+     * @return {@link ClassificacaoDocumento} com o tipo reconhecido, ou tipo
+     *     {@link EnumTipoDocumento#DESCONHECIDO} se a entrada não corresponder a nenhum documento
+     */
+    public static ClassificacaoDocumento classificar(CharSequence texto) {
+        if (texto == null) {
+            return DESCONHECIDO;
+        }
+        final StringBuilder documento = new StringBuilder(texto.length());
+        int letras = 0;
+        boolean ponto = false;
+        boolean hifen = false;
+        boolean barra = false;
+        boolean telefone = false;
+        boolean espaco = false;
+        for (int i = 0; i < texto.length(); ++i) {
+            final char c = texto.charAt(i);
+            if (c >= '0' && c <= '9') {
+                documento.append(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                documento.append(c);
+                ++letras;
+            } else if (c == '.') {
+                ponto = true;
+            } else if (c == '-') {
+                hifen = true;
+            } else if (c == '/') {
+                barra = true;
+            } else if (c == '(' || c == ')' || c == '+') {
+                telefone = true;
+            } else if (c == ' ') {
+                espaco = true;
+            } else {
+                return DESCONHECIDO;
+            }
+        }
+        final String valor = documento.toString();
+        if (letras > 0) {
+            return valor.length() == TAMANHO_CNPJ ? cnpj(valor) : DESCONHECIDO;
+        }
+
+        switch (valor.length()) {
+            case TAMANHO_IBGE:
+                return resultado(EnumTipoDocumento.MUNICIPIO_IBGE, valor,
+                        BrazilUtil.digitoVerificadorCodgMunicipioIBGE(valor));
+            case TAMANHO_CEP:
+                if (!ponto && !hifen && GtinUtil.isValido(valor)) {
+                    return resultado(EnumTipoDocumento.GTIN, valor, true);
+                }
+                return resultado(EnumTipoDocumento.CEP, valor, CepUtil.isCepValido(valor));
+            case TAMANHO_FONE:
+                return resultado(EnumTipoDocumento.TELEFONE, valor, TelefoneUtil.isValido(valor));
+            case TAMANHO_CPF:
+                if (!telefone && !espaco && (ponto || BrazilUtil.validarCPF(valor))) {
+                    return new ClassificacaoDocumento(EnumTipoDocumento.CPF, EnumTipoPessoa.PESSOA_FISICA, null,
+                            valor, BrazilUtil.validarCPF(valor));
+                }
+                if (telefone || espaco || TelefoneUtil.isValido(valor)) {
+                    return resultado(EnumTipoDocumento.TELEFONE, valor, TelefoneUtil.isValido(texto));
+                }
+                return new ClassificacaoDocumento(EnumTipoDocumento.CPF, EnumTipoPessoa.PESSOA_FISICA, null,
+                        valor, false);
+            case TAMANHO_GTIN_12:
+            case TAMANHO_GTIN_13:
+                if (!telefone && GtinUtil.isValido(valor)) {
+                    return resultado(EnumTipoDocumento.GTIN, valor, true);
+                }
+                if (telefone || TelefoneUtil.isValido(valor)) {
+                    return resultado(EnumTipoDocumento.TELEFONE, valor, TelefoneUtil.isValido(texto));
+                }
+                return resultado(EnumTipoDocumento.GTIN, valor, false);
+            case TAMANHO_CNPJ:
+                if (barra || BrazilUtil.validarCNPJ(valor) || !GtinUtil.isValido(valor)) {
+                    return cnpj(valor);
+                }
+                return resultado(EnumTipoDocumento.GTIN, valor, true);
+            case ChaveAcessoUtil.TAMANHO_CHAVE:
+                return new ClassificacaoDocumento(EnumTipoDocumento.CHAVE_ACESSO, null, documentoFiscal(valor),
+                        valor, BrazilUtil.verificaDigitoVerificadorChaveAcesso(valor, EnumDocumentoFiscal.NFE));
+            default:
+                return DESCONHECIDO;
+        }
+    }
+
+    private static ClassificacaoDocumento resultado(EnumTipoDocumento tipo, String valor, boolean valido) {
+        return new ClassificacaoDocumento(tipo, null, null, valor, valido);
+    }
+
+    private static ClassificacaoDocumento cnpj(String valor) {
+        return new ClassificacaoDocumento(EnumTipoDocumento.CNPJ, EnumTipoPessoa.PESSOA_JURIDICA, null, valor,
+                BrazilUtil.validarCNPJ(valor));
+    }
+
+    private static EnumDocumentoFiscal documentoFiscal(String chave) {
+        final int modelo = (chave.charAt(POSICAO_MODELO) - '0') * 10 + chave.charAt(POSICAO_MODELO + 1) - '0';
+        for (EnumDocumentoFiscal documentoFiscal : EnumDocumentoFiscal.values()) {
+            if (documentoFiscal.getModelo() != null && documentoFiscal.getModelo() == modelo) {
+                return documentoFiscal;
+            }
+        }
+        return null;
+    }
+}
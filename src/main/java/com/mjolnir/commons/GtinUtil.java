@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Classe utilitária para validação e calculo do digito verificador de códigos GTIN-8, GTIN-12, GTIN-13 e
+ *     GTIN-14 (cEAN / cEANTrib da NF-e).
+ * </p>
+ * <p>
+ *     O digito verificador é o modulo 10 da soma ponderada dos digitos, com pesos 3 e 1 alternados a partir do
+ *     digito mais à direita. Os métodos trabalham diretamente sobre {@code char[]}, {@code byte[]} ou
+ *     {@link CharSequence}, sem conversão para String e sem desvios por digito: a validação do caractere é
+ *     acumulada por operações de bits e verificada uma única vez ao final.
+ * </p>
+ * <p>
+ *     Para lotes grandes, {@link #validar(byte[], int, int, boolean[])} recebe os digitos já compactados
+ *     (valores de 0 a 9, um código após o outro) e executa um laço simples de multiplicação e soma.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GtinUtil {
+
+    /**
+     * Tamanho máximo de um GTIN (GTIN-14).
+     */
+    public static final int TAMANHO_MAXIMO = 14;
+
+    private static final int CONVERSOR_CHAR = '0';
+    private static final int MODULO_DEZ = 10;
+
+    /**
+     * Pesos alinhados à direita: o peso do digito na posição i de um código de tamanho n, incluindo o digito
+     * verificador, é PESOS[TAMANHO_MAXIMO + 1 - n + i]. A última posição é a do digito verificador (peso 0).
+     */
+    private static final int[] PESOS = {1, 3, 1, 3, 1, 3, 1, 3, 1, 3, 1, 3, 1, 3, 0};
+
+    /**
+     * <p>
+     *     Verifica se o tamanho corresponde a um GTIN (8, 12, 13 ou 14 digitos).
+     * </p>
+     *
+     * @param tamanho Quantidade de digitos
+     * @return True se for um tamanho de GTIN
+     */
+    public static boolean isTamanhoValido(int tamanho) {
+        return tamanho == 8 || tamanho >= 12 && tamanho <= TAMANHO_MAXIMO;
+    }
+
+    /**
+     * <p>
+     *     Valida o GTIN. Códigos compostos apenas por zeros são considerados inválidos.
+     * </p>
+     *
+     * @param gtin GTIN sem formatação
+     * @return True, se válido, do contrario False.
+     */
+    public static boolean isValido(CharSequence gtin) {
+        if (gtin == null || !isTamanhoValido(gtin.length())) {
+            return false;
+        }
+        final int tamanho = gtin.length();
+        final int deslocamento = TAMANHO_MAXIMO + 1 - tamanho;
+        int soma = 0;
+        int invalido = 0;
+        int diferenteZero = 0;
+        for (int i = 0; i < tamanho; ++i) {
+            final int digito = gtin.charAt(i) - CONVERSOR_CHAR;
+            invalido |= digito | 9 - digito;
+            diferenteZero |= digito;
+            soma += digito * PESOS[deslocamento + i];
+        }
+        return invalido >= 0 && diferenteZero != 0
+                && digitoVerificador(soma) == gtin.charAt(tamanho - 1) - CONVERSOR_CHAR;
+    }
+
+    /**
+     * <p>
+     *     Valida o GTIN contido no buffer. Códigos compostos apenas por zeros são considerados inválidos.
+     * </p>
+     *
+     * @param gtin Buffer com o GTIN
+     * @param posicao Posição inicial do GTIN no buffer
+     * @param tamanho Quantidade de digitos do GTIN, incluindo o digito verificador
+     * @return True, se válido, do contrario False.
+     */
+    public static boolean isValido(char[] gtin, int posicao, int tamanho) {
+        if (!isTamanhoValido(tamanho)) {
+            return false;
+        }
+        final int deslocamento = TAMANHO_MAXIMO + 1 - tamanho - posicao;
+        int soma = 0;
+        int invalido = 0;
+        int diferenteZero = 0;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            final int digito = gtin[i] - CONVERSOR_CHAR;
+            invalido |= digito | 9 - digito;
+            diferenteZero |= digito;
+            soma += digito * PESOS[deslocamento + i];
+        }
+        return invalido >= 0 && diferenteZero != 0
+                && digitoVerificador(soma) == gtin[posicao + tamanho - 1] - CONVERSOR_CHAR;
+    }
+
+    /**
+     * <p>
+     *     Valida o GTIN contido no buffer de caracteres ASCII. Códigos compostos apenas por zeros são
+     *     considerados inválidos.
+     * </p>
+     *
+     * @param gtin Buffer com o GTIN em ASCII
+     * @param posicao Posição inicial do GTIN no buffer
+     * @param tamanho Quantidade de digitos do GTIN, incluindo o digito verificador
+     * @return True, se válido, do contrario False.
+     */
+    public static boolean isValido(byte[] gtin, int posicao, int tamanho) {
+        if (!isTamanhoValido(tamanho)) {
+            return false;
+        }
+        final int deslocamento = TAMANHO_MAXIMO + 1 - tamanho - posicao;
+        int soma = 0;
+        int invalido = 0;
+        int diferenteZero = 0;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            final int digito = gtin[i] - CONVERSOR_CHAR;
+            invalido |= digito | 9 - digito;
+            diferenteZero |= digito;
+            soma += digito * PESOS[deslocamento + i];
+        }
+        return invalido >= 0 && diferenteZero != 0
+                && digitoVerificador(soma) == gtin[posicao + tamanho - 1] - CONVERSOR_CHAR;
+    }
+
+    /**
+     * <p>
+     *     Calcula o digito verificador de um GTIN a partir dos digitos sem o verificador.
+     * </p>
+     *
+     * @param gtin Buffer com o GTIN
+     * @param posicao Posição inicial no buffer
+     * @param tamanho Quantidade de digitos, sem o digito verificador (7, 11, 12 ou 13)
+     * @return Digito verificador ou -1 se houver caractere que não seja digito
+     */
+    public static int calcularDigitoVerificador(char[] gtin, int posicao, int tamanho) {
+        if (!isTamanhoValido(tamanho + 1)) {
+            throw new IllegalArgumentException("ERRO: Tamanho de GTIN inválido: " + (tamanho + 1));
+        }
+        final int deslocamento = TAMANHO_MAXIMO - tamanho - posicao;
+        int soma = 0;
+        int invalido = 0;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            final int digito = gtin[i] - CONVERSOR_CHAR;
+            invalido |= digito | 9 - digito;
+            soma += digito * PESOS[deslocamento + i];
+        }
+        return invalido >= 0 ? digitoVerificador(soma) : -1;
+    }
+
+    /**
+     * <p>
+     *     Calcula o digito verificador de um GTIN a partir dos digitos ASCII sem o verificador.
+     * </p>
+     *
+     * @param gtin Buffer com o GTIN em ASCII
+     * @param posicao Posição inicial no buffer
+     * @param tamanho Quantidade de digitos, sem o digito verificador (7, 11, 12 ou 13)
+     * @return Digito verificador ou -1 se houver caractere que não seja digito
+     */
+    public static int calcularDigitoVerificador(byte[] gtin, int posicao, int tamanho) {
+        if (!isTamanhoValido(tamanho + 1)) {
+            throw new IllegalArgumentException("ERRO: Tamanho de GTIN inválido: " + (tamanho + 1));
+        }
+        final int deslocamento = TAMANHO_MAXIMO - tamanho - posicao;
+        int soma = 0;
+        int invalido = 0;
+        for (int i = posicao; i < posicao + tamanho; ++i) {
+            final int digito = gtin[i] - CONVERSOR_CHAR;
+            invalido |= digito | 9 - digito;
+            soma += digito * PESOS[deslocamento + i];
+        }
+        return invalido >= 0 ? digitoVerificador(soma) : -1;
+    }
+
+    /**
+     * <p>
+     *     Valida um lote de GTINs de mesmo tamanho armazenados de forma compactada: cada byte é o valor do digito
+     *     (0 a 9, não o caractere ASCII) e os códigos ficam um após o outro, incluindo o digito verificador.
+     * </p>
+     * <p>
+     *     O laço interno é uma soma de produtos sobre posições contiguas, sem desvios, adequado à vetorização
+     *     pelo compilador JIT.
+     * </p>
+     *
+     * @param digitos Digitos compactados de todos os códigos
+     * @param tamanho Tamanho de cada código (8, 12, 13 ou 14)
+     * @param quantidade Quantidade de códigos
+     * @param destino Resultado de cada validação, com pelo menos {@code quantidade} posições
+     */
+    public static void validar(byte[] digitos, int tamanho, int quantidade, boolean[] destino) {
+        if (!isTamanhoValido(tamanho)) {
+            throw new IllegalArgumentException("ERRO: Tamanho de GTIN inválido: " + tamanho);
+        }
+        // Pesos incluindo o digito verificador (peso 1): o código é válido quando a soma é multipla de 10.
+        final int[] pesos = new int[tamanho];
+        for (int i = 0; i < tamanho; ++i) {
+            pesos[i] = 1 + 2 * (tamanho - 1 - i & 1);
+        }
+        for (int codigo = 0, inicio = 0; codigo < quantidade; ++codigo, inicio += tamanho) {
+            int soma = 0;
+            int invalido = 0;
+            int diferenteZero = 0;
+            for (int i = 0; i < tamanho; ++i) {
+                final int digito = digitos[inicio + i];
+                soma += digito * pesos[i];
+                invalido |= digito | 9 - digito;
+                diferenteZero |= digito;
+            }
+            destino[codigo] = invalido >= 0 && diferenteZero != 0 && soma % MODULO_DEZ == 0;
+        }
+    }
+
+    private static int digitoVerificador(int soma) {
+        return (MODULO_DEZ - soma % MODULO_DEZ) % MODULO_DEZ;
+    }
+}
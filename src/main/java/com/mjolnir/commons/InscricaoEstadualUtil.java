@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumUF;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     Validação dos digitos verificadores da Inscrição Estadual (IE) das 27 Unidades Federativas, conforme as
+ *     rotinas de conferência publicadas pelo SINTEGRA.
+ * </p>
+ * <p>
+ *     Cada UF é descrita por uma tabela de etapas (posição inicial, pesos, regra do digito e posição do digito
+ *     verificador) e a escolha do validador é feita por um array indexado pela UF. A inscrição pode ser informada
+ *     com ou sem mascara; os digitos são compactados em um long (4 bits por digito), de forma que a validação não
+ *     aloca objetos. A IE de produtor rural de SP é aceita no formato P-#########/###.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class InscricaoEstadualUtil {
+
+    private static final int MAXIMO_DIGITOS = 14;
+    private static final int BITS_DIGITO = 4;
+    private static final int DESLOCAMENTO_TAMANHO = 56;
+    private static final long PRODUTOR_RURAL = 1L << 62;
+    private static final long INVALIDO = -1L;
+
+    private static final IntUnaryOperator MODULO_ONZE = soma -> {
+        final int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    };
+    private static final IntUnaryOperator MODULO_ONZE_MENOS_DEZ = soma -> {
+        final int digito = 11 - soma % 11;
+        return digito >= 10 ? digito - 10 : digito;
+    };
+    private static final IntUnaryOperator DEZ_VEZES_MODULO_ONZE = soma -> {
+        final int digito = soma * 10 % 11;
+        return digito == 10 ? 0 : digito;
+    };
+    private static final IntUnaryOperator MODULO_ONZE_ULTIMO_DIGITO = soma -> soma % 11 % 10;
+    private static final IntUnaryOperator MODULO_NOVE = soma -> soma % 9;
+    private static final IntUnaryOperator MODULO_ONZE_AMAZONAS = soma -> soma < 11 ? 11 - soma : MODULO_ONZE
+            .applyAsInt(soma);
+
+    private static final int[] PESOS_9_A_2 = {9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static final ValidadorIE[] VALIDADORES = new ValidadorIE[EnumUF.values().length];
+
+    static {
+        final ValidadorIE padrao = especificacao(9, -1, new Etapa(0, PESOS_9_A_2, MODULO_ONZE, 8));
+
+        VALIDADORES[EnumUF.AC.ordinal()] = especificacao(13, 1,
+                new Etapa(0, new int[] {4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 11),
+                new Etapa(0, new int[] {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 12));
+        VALIDADORES[EnumUF.AL.ordinal()] = especificacao(9, 24, new Etapa(0, PESOS_9_A_2, DEZ_VEZES_MODULO_ONZE, 8));
+        VALIDADORES[EnumUF.AP.ordinal()] = InscricaoEstadualUtil::validarAmapa;
+        VALIDADORES[EnumUF.AM.ordinal()] = especificacao(9, -1,
+                new Etapa(0, PESOS_9_A_2, MODULO_ONZE_AMAZONAS, 8));
+        VALIDADORES[EnumUF.BA.ordinal()] = InscricaoEstadualUtil::validarBahia;
+        VALIDADORES[EnumUF.CE.ordinal()] = padrao;
+        VALIDADORES[EnumUF.DF.ordinal()] = especificacao(13, 7,
+                new Etapa(0, new int[] {4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 11),
+                new Etapa(0, new int[] {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 12));
+        VALIDADORES[EnumUF.ES.ordinal()] = padrao;
+        VALIDADORES[EnumUF.GO.ordinal()] = InscricaoEstadualUtil::validarGoias;
+        VALIDADORES[EnumUF.MA.ordinal()] = especificacao(9, 12, new Etapa(0, PESOS_9_A_2, MODULO_ONZE, 8));
+        final ValidadorIE matoGrosso = especificacao(11, -1,
+                new Etapa(0, new int[] {3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 10));
+        VALIDADORES[EnumUF.MT.ordinal()] = digitos -> tamanho(digitos) <= 11
+                && matoGrosso.validar(comTamanho(digitos, 11));
+        VALIDADORES[EnumUF.MS.ordinal()] = padrao;
+        VALIDADORES[EnumUF.MG.ordinal()] = InscricaoEstadualUtil::validarMinasGerais;
+        VALIDADORES[EnumUF.PA.ordinal()] = especificacao(9, 15, new Etapa(0, PESOS_9_A_2, MODULO_ONZE, 8));
+        VALIDADORES[EnumUF.PB.ordinal()] = padrao;
+        VALIDADORES[EnumUF.PR.ordinal()] = especificacao(10, -1,
+                new Etapa(0, new int[] {3, 2, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 8),
+                new Etapa(0, new int[] {4, 3, 2, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 9));
+        VALIDADORES[EnumUF.PE.ordinal()] = qualquer(
+                especificacao(9, -1,
+                        new Etapa(0, new int[] {8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 7),
+                        new Etapa(0, PESOS_9_A_2, MODULO_ONZE, 8)),
+                especificacao(14, -1,
+                        new Etapa(0, new int[] {5, 4, 3, 2, 1, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE_MENOS_DEZ, 13)));
+        VALIDADORES[EnumUF.PI.ordinal()] = padrao;
+        VALIDADORES[EnumUF.RJ.ordinal()] = especificacao(8, -1,
+                new Etapa(0, new int[] {2, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 7));
+        VALIDADORES[EnumUF.RN.ordinal()] = qualquer(
+                especificacao(9, 20, new Etapa(0, PESOS_9_A_2, DEZ_VEZES_MODULO_ONZE, 8)),
+                especificacao(10, 20,
+                        new Etapa(0, new int[] {10, 9, 8, 7, 6, 5, 4, 3, 2}, DEZ_VEZES_MODULO_ONZE, 9)));
+        VALIDADORES[EnumUF.RS.ordinal()] = especificacao(10, -1,
+                new Etapa(0, new int[] {2, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE, 9));
+        VALIDADORES[EnumUF.RO.ordinal()] = qualquer(
+                especificacao(14, -1,
+                        new Etapa(0, new int[] {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE_MENOS_DEZ, 13)),
+                especificacao(9, -1, new Etapa(3, new int[] {6, 5, 4, 3, 2}, MODULO_ONZE_MENOS_DEZ, 8)));
+        VALIDADORES[EnumUF.RR.ordinal()] = especificacao(9, 24,
+                new Etapa(0, new int[] {1, 2, 3, 4, 5, 6, 7, 8}, MODULO_NOVE, 8));
+        VALIDADORES[EnumUF.SC.ordinal()] = padrao;
+        final ValidadorIE saoPauloRural = especificacao(12, -1,
+                new Etapa(0, new int[] {1, 3, 4, 5, 6, 7, 8, 10}, MODULO_ONZE_ULTIMO_DIGITO, 8));
+        final ValidadorIE saoPaulo = especificacao(12, -1,
+                new Etapa(0, new int[] {1, 3, 4, 5, 6, 7, 8, 10}, MODULO_ONZE_ULTIMO_DIGITO, 8),
+                new Etapa(0, new int[] {3, 2, 10, 9, 8, 7, 6, 5, 4, 3, 2}, MODULO_ONZE_ULTIMO_DIGITO, 11));
+        VALIDADORES[EnumUF.SP.ordinal()] = digitos -> (digitos & PRODUTOR_RURAL) != 0
+                ? saoPauloRural.validar(digitos & ~PRODUTOR_RURAL)
+                : saoPaulo.validar(digitos);
+        VALIDADORES[EnumUF.SE.ordinal()] = padrao;
+        VALIDADORES[EnumUF.TO.ordinal()] = InscricaoEstadualUtil::validarTocantins;
+    }
+
+    /**
+     * <p>
+     *     Valida os digitos verificadores da Inscrição Estadual da UF.
+     * </p>
+     *
+     * @param uf {@link EnumUF} UF da inscrição
+     * @param inscricao Inscrição Estadual, com ou sem mascara
+     * @return True, se válida, do contrario False.
+     */
+    public static boolean validar(EnumUF uf, CharSequence inscricao) {
+        if (uf == null) {
+            return false;
+        }
+        final long digitos = lerDigitos(inscricao);
+        if (digitos == INVALIDO || (digitos & PRODUTOR_RURAL) != 0 && uf != EnumUF.SP) {
+            return false;
+        }
+        return VALIDADORES[uf.ordinal()].validar(digitos);
+    }
+
+    /**
+     * <p>
+     *     Valida os digitos verificadores da Inscrição Estadual da UF.
+     * </p>
+     *
+     * @param siglaUF Sigla da UF da inscrição
+     * @param inscricao Inscrição Estadual, com ou sem mascara
+     * @return True, se válida, do contrario False.
+     */
+    public static boolean validar(CharSequence siglaUF, CharSequence inscricao) {
+        return validar(EnumUF.porSigla(siglaUF), inscricao);
+    }
+
+    /**
+     * <p>
+     *     Valida um lote de Inscrições Estaduais.
+     * </p>
+     *
+     * @param ufs UF de cada inscrição
+     * @param inscricoes Inscrições Estaduais
+     * @param destino Resultado de cada validação, com pelo menos o mesmo tamanho de {@code inscricoes}
+     */
+    public static void validar(EnumUF[] ufs, CharSequence[] inscricoes, boolean[] destino) {
+        for (int i = 0; i < inscricoes.length; ++i) {
+            destino[i] = validar(ufs[i], inscricoes[i]);
+        }
+    }
+
+    /**
+     * <p>
+     *     Valida um lote de Inscrições Estaduais em paralelo, para lotes grandes.
+     * </p>
+     *
+     * @param ufs UF de cada inscrição
+     * @param inscricoes Inscrições Estaduais
+     * @param destino Resultado de cada validação, com pelo menos o mesmo tamanho de {@code inscricoes}
+     */
+    public static void validarParalelo(EnumUF[] ufs, CharSequence[] inscricoes, boolean[] destino) {
+        IntStream.range(0, inscricoes.length).parallel()
+                .forEach(i -> destino[i] = validar(ufs[i], inscricoes[i]));
+    }
+
+    private static long lerDigitos(CharSequence inscricao) {
+        if (inscricao == null || inscricao.length() == 0) {
+            return INVALIDO;
+        }
+        long digitos = 0;
+        int tamanho = 0;
+        final char primeiro = inscricao.charAt(0);
+        final boolean produtorRural = primeiro == 'P' || primeiro == 'p';
+        final int inicio = produtorRural ? 1 : 0;
+        for (int i = inicio; i < inscricao.length(); ++i) {
+            final char c = inscricao.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++tamanho > MAXIMO_DIGITOS) {
+                    return INVALIDO;
+                }
+                digitos = digitos << BITS_DIGITO | (c - '0');
+            } else if (c != '.' && c != '-' && c != '/' && c != ' ') {
+                return INVALIDO;
+            }
+        }
+        if (tamanho == 0) {
+            return INVALIDO;
+        }
+        return (produtorRural ? PRODUTOR_RURAL : 0) | (long) tamanho << DESLOCAMENTO_TAMANHO | digitos;
+    }
+
+    private static int tamanho(long digitos) {
+        return (int) (digitos >>> DESLOCAMENTO_TAMANHO) & 0xF;
+    }
+
+    private static long comTamanho(long digitos, int tamanho) {
+        return digitos & ~(0xFL << DESLOCAMENTO_TAMANHO) | (long) tamanho << DESLOCAMENTO_TAMANHO;
+    }
+
+    private static int digito(long digitos, int posicao) {
+        return (int) (digitos >>> (tamanho(digitos) - 1 - posicao) * BITS_DIGITO) & 0xF;
+    }
+
+    private static int numero(long digitos, int inicio, int quantidade) {
+        int numero = 0;
+        for (int i = inicio; i < inicio + quantidade; ++i) {
+            numero = numero * 10 + digito(digitos, i);
+        }
+        return numero;
+    }
+
+    private static int soma(long digitos, int inicio, int[] pesos) {
+        int soma = 0;
+        for (int i = 0; i < pesos.length; ++i) {
+            soma += digito(digitos, inicio + i) * pesos[i];
+        }
+        return soma;
+    }
+
+    private static ValidadorIE especificacao(int tamanho, int prefixo, Etapa... etapas) {
+        return digitos -> {
+            if (tamanho(digitos) != tamanho || prefixo >= 0 && numero(digitos, 0, 2) != prefixo) {
+                return false;
+            }
+            for (Etapa etapa : etapas) {
+                if (etapa.regra.applyAsInt(soma(digitos, etapa.inicio, etapa.pesos))
+                        != digito(digitos, etapa.posicaoDigito)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static ValidadorIE qualquer(ValidadorIE primeiro, ValidadorIE segundo) {
+        return digitos -> primeiro.validar(digitos) || segundo.validar(digitos);
+    }
+
+    private static boolean validarAmapa(long digitos) {
+        final int faixaUmInicio = 3_000_001;
+        final int faixaUmFim = 3_017_000;
+        final int faixaDoisFim = 3_019_022;
+        if (tamanho(digitos) != 9 || numero(digitos, 0, 2) != 3) {
+            return false;
+        }
+        final int numero = numero(digitos, 0, 8);
+        int p = 0;
+        int d = 0;
+        if (numero >= faixaUmInicio && numero <= faixaUmFim) {
+            p = 5;
+        } else if (numero > faixaUmFim && numero <= faixaDoisFim) {
+            p = 9;
+            d = 1;
+        }
+        int digito = 11 - (p + soma(digitos, 0, PESOS_9_A_2)) % 11;
+        if (digito == 10) {
+            digito = 0;
+        } else if (digito == 11) {
+            digito = d;
+        }
+        return digito == digito(digitos, 8);
+    }
+
+    private static boolean validarBahia(long digitos) {
+        final int tamanho = tamanho(digitos);
+        if (tamanho != 8 && tamanho != 9) {
+            return false;
+        }
+        // Digito que define o modulo: o primeiro para 8 digitos, o segundo para 9 digitos.
+        final int referencia = digito(digitos, tamanho - 8);
+        final boolean moduloDez = referencia != 6 && referencia != 7 && referencia != 9;
+        final int base = tamanho - 2;
+
+        int somaSegundo = 0;
+        for (int i = 0; i < base; ++i) {
+            somaSegundo += digito(digitos, i) * (base + 1 - i);
+        }
+        final int segundo = digitoBahia(somaSegundo, moduloDez);
+        if (segundo != digito(digitos, tamanho - 1)) {
+            return false;
+        }
+
+        int somaPrimeiro = segundo * 2;
+        for (int i = 0; i < base; ++i) {
+            somaPrimeiro += digito(digitos, i) * (base + 2 - i);
+        }
+        return digitoBahia(somaPrimeiro, moduloDez) == digito(digitos, base);
+    }
+
+    private static int digitoBahia(int soma, boolean moduloDez) {
+        if (moduloDez) {
+            final int resto = soma % 10;
+            return resto == 0 ? 0 : 10 - resto;
+        }
+        return MODULO_ONZE.applyAsInt(soma);
+    }
+
+    private static boolean validarGoias(long digitos) {
+        final int faixaInicio = 10_103_105;
+        final int faixaFim = 10_119_997;
+        final int excecao = 11_094_402;
+        if (tamanho(digitos) != 9) {
+            return false;
+        }
+        final int numero = numero(digitos, 0, 8);
+        final int informado = digito(digitos, 8);
+        if (numero == excecao) {
+            return informado == 0 || informado == 1;
+        }
+        final int resto = soma(digitos, 0, PESOS_9_A_2) % 11;
+        final int digito;
+        if (resto == 0) {
+            digito = 0;
+        } else if (resto == 1) {
+            digito = numero >= faixaInicio && numero <= faixaFim ? 1 : 0;
+        } else {
+            digito = 11 - resto;
+        }
+        return digito == informado;
+    }
+
+    private static boolean validarMinasGerais(long digitos) {
+        final int[] pesosSegundo = {3, 2, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+        if (tamanho(digitos) != 13) {
+            return false;
+        }
+        // Primeiro digito: insere um zero após o código do municipio e soma os algarismos dos produtos (pesos 1 e 2).
+        int soma = 0;
+        for (int i = 0, peso = 1; i < 12; ++i, peso = 3 - peso) {
+            final int valor = i < 3 ? digito(digitos, i) : i == 3 ? 0 : digito(digitos, i - 1);
+            final int produto = valor * peso;
+            soma += produto / 10 + produto % 10;
+        }
+        final int primeiro = (10 - soma % 10) % 10;
+        if (primeiro != digito(digitos, 11)) {
+            return false;
+        }
+        return MODULO_ONZE.applyAsInt(soma(digitos, 0, pesosSegundo)) == digito(digitos, 12);
+    }
+
+    private static boolean validarTocantins(long digitos) {
+        final int tamanho = tamanho(digitos);
+        if (tamanho == 9) {
+            return MODULO_ONZE.applyAsInt(soma(digitos, 0, PESOS_9_A_2)) == digito(digitos, 8);
+        }
+        if (tamanho != 11) {
+            return false;
+        }
+        final int tipo = numero(digitos, 2, 2);
+        if (tipo != 1 && tipo != 2 && tipo != 3 && tipo != 99) {
+            return false;
+        }
+        // Formato antigo: os digitos de tipo (3 e 4) não participam do calculo.
+        int soma = 0;
+        for (int i = 0, j = 0; i < 10; ++i) {
+            if (i == 2 || i == 3) {
+                continue;
+            }
+            soma += digito(digitos, i) * PESOS_9_A_2[j++];
+        }
+        return MODULO_ONZE.applyAsInt(soma) == digito(digitos, 10);
+    }
+
+    /**
+     * <p>
+     *     Validador de Inscrição Estadual sobre os digitos compactados.
+     * </p>
+     */
+    @FunctionalInterface
+    private interface ValidadorIE {
+        boolean validar(long digitos);
+    }
+
+    /**
+     * <p>
+     *     Etapa de calculo de um digito verificador.
+     * </p>
+     */
+    private static final class Etapa {
+        private final int inicio;
+        private final int[] pesos;
+        private final IntUnaryOperator regra;
+        private final int posicaoDigito;
+
+        private Etapa(int inicio, int[] pesos, IntUnaryOperator regra, int posicaoDigito) {
+            this.inicio = inicio;
+            this.pesos = pesos;
+            this.regra = regra;
+            this.posicaoDigito = posicaoDigito;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumUF;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ *     Gera os recursos lidos por {@link LocalidadeUtil} a partir das tabelas oficiais exportadas em CSV: a DTB
+ *     (Divisão Territorial Brasileira) do IBGE, colunas {@code Código Município Completo} e
+ *     {@code Nome_Município}, e a Tabela de Países do BACEN, colunas {@code Código} e {@code Nome}.
+ * </p>
+ * <p>
+ *     As colunas são localizadas pelo cabeçalho, ignorando acentos, maiúsculas e a posição, e o delimitador
+ *     (ponto e virgula, virgula ou tabulação) é detectado no próprio cabeçalho, de forma que a planilha pode ser
+ *     salva como CSV sem ajustes. Os códigos são validados, duplicados são recusados e a saída é ordenada pelo
+ *     código no formato {@code código;nome}.
+ * </p>
+ * <p>
+ *     Uso: {@code java com.mjolnir.commons.LocalidadeTabelaGerador municipios|paises <entrada> <saida> [charset]},
+ *     gravando a saída em {@code src/main/resources/brazil/municipios-ibge.csv} ou
+ *     {@code src/main/resources/brazil/paises-bacen.csv}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LocalidadeTabelaGerador {
+
+    private static final String[] COLUNAS_CODIGO_MUNICIPIO = {"CODIGO MUNICIPIO COMPLETO", "COD MUNICIPIO COMPLETO",
+        "CODIGO MUNICIPIO", "CODIGO IBGE"};
+    private static final String[] COLUNAS_NOME_MUNICIPIO = {"NOME MUNICIPIO", "MUNICIPIO"};
+    private static final String[] COLUNAS_CODIGO_PAIS = {"CODIGO", "CODIGO PAIS", "COD PAIS", "CO PAIS"};
+    private static final String[] COLUNAS_NOME_PAIS = {"NOME", "NOME PAIS", "NO PAIS", "PAIS"};
+
+    /**
+     * <p>
+     *     Gera o recurso de municipios a partir da DTB do IBGE.
+     * </p>
+     *
+     * @param dtb CSV da DTB
+     * @param destino Destino do recurso
+     * @return Quantidade de municipios gravados
+     * @throws IOException Em falha de leitura ou escrita
+     * @throws IllegalArgumentException Se faltar uma coluna ou um código for inválido ou duplicado
+     */
+    public static int gerarMunicipios(Reader dtb, Writer destino) throws IOException {
+        final Map<Integer, String> municipios = ler(dtb, COLUNAS_CODIGO_MUNICIPIO, COLUNAS_NOME_MUNICIPIO);
+        for (Integer codigo : municipios.keySet()) {
+            if (codigo < 1_000_000 || EnumUF.porCodigoIbge(codigo / LocalidadeUtil.FATOR_UF_IBGE) == null) {
+                throw new IllegalArgumentException("ERRO: Código IBGE de municipio inválido: " + codigo);
+            }
+        }
+        destino.write("# Municipios do IBGE (DTB): código;nome. Gerado por LocalidadeTabelaGerador.\n");
+        for (Map.Entry<Integer, String> municipio : municipios.entrySet()) {
+            destino.write(municipio.getKey() + ";" + municipio.getValue() + "\n");
+        }
+        destino.flush();
+        return municipios.size();
+    }
+
+    /**
+     * <p>
+     *     Gera o recurso de países a partir da Tabela de Países do BACEN.
+     * </p>
+     *
+     * @param tabela CSV da Tabela de Países
+     * @param destino Destino do recurso
+     * @return Quantidade de países gravados
+     * @throws IOException Em falha de leitura ou escrita
+     * @throws IllegalArgumentException Se faltar uma coluna ou um código for inválido ou duplicado
+     */
+    public static int gerarPaises(Reader tabela, Writer destino) throws IOException {
+        final Map<Integer, String> paises = ler(tabela, COLUNAS_CODIGO_PAIS, COLUNAS_NOME_PAIS);
+        for (Integer codigo : paises.keySet()) {
+            if (codigo >= LocalidadeUtil.MAXIMO_CODIGO_BACEN) {
+                throw new IllegalArgumentException("ERRO: Código BACEN de país inválido: " + codigo);
+            }
+        }
+        destino.write("# Paises do BACEN: código;nome. Gerado por LocalidadeTabelaGerador.\n");
+        for (Map.Entry<Integer, String> pais : paises.entrySet()) {
+            destino.write(String.format("%04d;%s", pais.getKey(), pais.getValue()) + "\n");
+        }
+        destino.flush();
+        return paises.size();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || !"municipios".equals(args[0]) && !"paises".equals(args[0])) {
+            throw new IllegalArgumentException(
+                    "ERRO: Uso: LocalidadeTabelaGerador municipios|paises <entrada> <saida> [charset]");
+        }
+        final Charset charset = args.length > 3 ? Charset.forName(args[3]) : StandardCharsets.UTF_8;
+        try (Reader entrada = Files.newBufferedReader(Paths.get(args[1]), charset);
+             Writer saida = Files.newBufferedWriter(Paths.get(args[2]), StandardCharsets.UTF_8)) {
+            final int quantidade = "municipios".equals(args[0])
+                    ? gerarMunicipios(entrada, saida) : gerarPaises(entrada, saida);
+            System.out.println(quantidade + " registros gravados em " + args[2]);
+        }
+    }
+
+    private static Map<Integer, String> ler(Reader origem, String[] colunasCodigo, String[] colunasNome)
+            throws IOException {
+        final BufferedReader reader = new BufferedReader(origem);
+        String linha = reader.readLine();
+        while (linha != null && linha.trim().isEmpty()) {
+            linha = reader.readLine();
+        }
+        if (linha == null) {
+            throw new IllegalArgumentException("ERRO: Tabela vazia.");
+        }
+        if (linha.charAt(0) == '\uFEFF') {
+            linha = linha.substring(1);
+        }
+        final char delimitador = detectarDelimitador(linha);
+        final List<String> cabecalho = new ArrayList<>();
+        for (String campo : dividir(linha, delimitador)) {
+            cabecalho.add(normalizar(campo));
+        }
+        final int colunaCodigo = coluna(cabecalho, colunasCodigo);
+        final int colunaNome = coluna(cabecalho, colunasNome);
+        final Map<Integer, String> registros = new TreeMap<>();
+        while ((linha = reader.readLine()) != null) {
+            final List<String> campos = dividir(linha, delimitador);
+            final String codigo = campos.size() > colunaCodigo ? campos.get(colunaCodigo).trim() : "";
+            if (codigo.isEmpty()) {
+                // Linhas em branco e rodapés da planilha
+                continue;
+            }
+            final int valor = LocalidadeUtil.paraCodigo(codigo, 1, 7);
+            final String nome = campos.size() > colunaNome ? campos.get(colunaNome).trim() : "";
+            if (valor <= 0 || nome.isEmpty() || nome.indexOf(';') >= 0) {
+                throw new IllegalArgumentException("ERRO: Registro inválido: " + linha);
+            }
+            if (registros.put(valor, nome) != null) {
+                throw new IllegalArgumentException("ERRO: Código duplicado: " + codigo);
+            }
+        }
+        return registros;
+    }
+
+    private static char detectarDelimitador(String cabecalho) {
+        if (cabecalho.indexOf(';') >= 0) {
+            return ';';
+        }
+        return cabecalho.indexOf('\t') >= 0 ? '\t' : ',';
+    }
+
+    private static int coluna(List<String> cabecalho, String[] nomes) {
+        for (String nome : nomes) {
+            final int indice = cabecalho.indexOf(nome);
+            if (indice >= 0) {
+                return indice;
+            }
+        }
+        throw new IllegalArgumentException("ERRO: Coluna não encontrada no cabeçalho: " + nomes[0]);
+    }
+
+    private static String normalizar(String campo) {
+        return Normalizer.normalize(campo, Normalizer.Form.NFD).replaceAll("\\p{M}", "")
+                .replace('_', ' ').replaceAll("\\s+", " ").trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static List<String> dividir(String linha, char delimitador) {
+        final List<String> campos = new ArrayList<>();
+        final StringBuilder campo = new StringBuilder();
+        boolean aspas = false;
+        for (int i = 0; i < linha.length(); ++i) {
+            final char c = linha.charAt(i);
+            if (c == '"') {
+                if (aspas && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    ++i;
+                } else {
+                    aspas = !aspas;
+                }
+            } else if (c == delimitador && !aspas) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumUF;
+import com.mjolnir.toolbox.app.PropertiesUtil;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ *     Índice em memória dos códigos de Municipios do IBGE e de Países do BACEN.
+ * </p>
+ * <p>
+ *     As tabelas são carregadas uma única vez, na primeira consulta, a partir dos recursos configurados em
+ *     {@code util.brazil.municipio.codibge.resource} e {@code util.brazil.pais.codbacen.resource}. Os
+ *     municipios ficam em uma tabela hash de endereçamento aberto sobre arrays de int e os países em uma tabela
+ *     de acesso direto pelo código, portanto as consultas são O(1) e não alocam objetos.
+ * </p>
+ * <p>
+ *     Os recursos são gerados por {@link LocalidadeTabelaGerador} a partir das tabelas oficiais (DTB do IBGE e
+ *     Tabela de Países do BACEN) e incluídos no classpath da aplicação. Uma tabela incompleta faria códigos
+ *     válidos serem recusados, por isso, sem o recurso, as consultas lançam {@link IllegalStateException} em vez
+ *     de responder que o código não existe; {@link #isTabelaMunicipiosDisponivel()} e
+ *     {@link #isTabelaPaisesDisponivel()} permitem verificar a disponibilidade antes.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LocalidadeUtil {
+
+    private static final String RESOURCE_MUNICIPIOS = PropertiesUtil.getInstance()
+            .getPropertieByKey("util.brazil.municipio.codibge.resource");
+    private static final String RESOURCE_PAISES = PropertiesUtil.getInstance()
+            .getPropertieByKey("util.brazil.pais.codbacen.resource");
+    static final int LENGTH_IBGE = Integer.parseInt(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.brazil.municipio.codibge.length"));
+    static final int MIN_LENGTH_BACEN = Integer.parseInt(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.brazil.pais.codbacen.min.length"));
+    static final int MAX_LENGTH_BACEN = Integer.parseInt(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.brazil.pais.codbacen.max.length"));
+
+    static final int FATOR_UF_IBGE = 100_000;
+    static final int MAXIMO_CODIGO_BACEN = 10_000;
+    private static final int HASH_MULTIPLICADOR = 0x9E3779B9;
+
+    /**
+     * <p>
+     *     Verifica se a tabela de municipios do IBGE foi encontrada no classpath.
+     * </p>
+     *
+     * @return True se a tabela estiver disponível
+     */
+    public static boolean isTabelaMunicipiosDisponivel() {
+        return MunicipiosHolder.TABELA != null;
+    }
+
+    /**
+     * <p>
+     *     Verifica se a tabela de países do BACEN foi encontrada no classpath.
+     * </p>
+     *
+     * @return True se a tabela estiver disponível
+     */
+    public static boolean isTabelaPaisesDisponivel() {
+        return PaisesHolder.TABELA != null;
+    }
+
+    /**
+     * <p>
+     *     Verifica se o código de municipio existe na tabela do IBGE.
+     * </p>
+     *
+     * @param codigo Código IBGE do municipio (7 digitos)
+     * @return True se o municipio existir
+     * @throws IllegalStateException Se a tabela de municipios não estiver disponível
+     */
+    public static boolean existeMunicipio(int codigo) {
+        return municipios().existe(codigo);
+    }
+
+    /**
+     * <p>
+     *     Verifica se o código de municipio existe na tabela do IBGE.
+     * </p>
+     *
+     * @param codigo Código IBGE do municipio (7 digitos)
+     * @return True se o municipio existir
+     * @throws IllegalStateException Se a tabela de municipios não estiver disponível
+     */
+    public static boolean existeMunicipio(CharSequence codigo) {
+        return existeMunicipio(paraCodigo(codigo, LENGTH_IBGE, LENGTH_IBGE));
+    }
+
+    /**
+     * <p>
+     *     Recupera o nome do municipio.
+     * </p>
+     *
+     * @param codigo Código IBGE do municipio (7 digitos)
+     * @return Nome do municipio ou null se não existir
+     * @throws IllegalStateException Se a tabela de municipios não estiver disponível
+     */
+    public static String getNomeMunicipio(int codigo) {
+        return municipios().getNome(codigo);
+    }
+
+    /**
+     * <p>
+     *     Recupera a UF do municipio.
+     * </p>
+     *
+     * @param codigo Código IBGE do municipio (7 digitos)
+     * @return UF ou null se o municipio não existir
+     * @throws IllegalStateException Se a tabela de municipios não estiver disponível
+     */
+    public static EnumUF getUFMunicipio(int codigo) {
+        return existeMunicipio(codigo) ? EnumUF.porCodigoIbge(codigo / FATOR_UF_IBGE) : null;
+    }
+
+    /**
+     * <p>
+     *     Quantidade de municipios carregados.
+     * </p>
+     *
+     * @return Quantidade de municipios
+     * @throws IllegalStateException Se a tabela de municipios não estiver disponível
+     */
+    public static int getQuantidadeMunicipios() {
+        return municipios().getQuantidade();
+    }
+
+    /**
+     * <p>
+     *     Verifica se o código de país existe na tabela do BACEN.
+     * </p>
+     *
+     * @param codigo Código BACEN do país
+     * @return True se o país existir
+     * @throws IllegalStateException Se a tabela de países não estiver disponível
+     */
+    public static boolean existePais(int codigo) {
+        return getNomePais(codigo) != null;
+    }
+
+    /**
+     * <p>
+     *     Verifica se o código de país existe na tabela do BACEN.
+     * </p>
+     *
+     * @param codigo Código BACEN do país
+     * @return True se o país existir
+     * @throws IllegalStateException Se a tabela de países não estiver disponível
+     */
+    public static boolean existePais(CharSequence codigo) {
+        return existePais(paraCodigo(codigo, MIN_LENGTH_BACEN, MAX_LENGTH_BACEN));
+    }
+
+    /**
+     * <p>
+     *     Recupera o nome do país.
+     * </p>
+     *
+     * @param codigo Código BACEN do país
+     * @return Nome do país ou null se não existir
+     * @throws IllegalStateException Se a tabela de países não estiver disponível
+     */
+    public static String getNomePais(int codigo) {
+        return paises().getNome(codigo);
+    }
+
+    /**
+     * <p>
+     *     Quantidade de países carregados.
+     * </p>
+     *
+     * @return Quantidade de países
+     * @throws IllegalStateException Se a tabela de países não estiver disponível
+     */
+    public static int getQuantidadePaises() {
+        return paises().getQuantidade();
+    }
+
+    static int paraCodigo(CharSequence campo, int tamanhoMinimo, int tamanhoMaximo) {
+        if (campo == null || campo.length() < tamanhoMinimo || campo.length() > tamanhoMaximo) {
+            return -1;
+        }
+        int codigo = 0;
+        for (int i = 0; i < campo.length(); ++i) {
+            final int digito = campo.charAt(i) - '0';
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+            codigo = codigo * 10 + digito;
+        }
+        return codigo;
+    }
+
+    private static TabelaMunicipios municipios() {
+        if (MunicipiosHolder.TABELA == null) {
+            throw new IllegalStateException("ERRO: Tabela de municipios do IBGE não encontrada no classpath: "
+                    + RESOURCE_MUNICIPIOS + ". Gere o recurso com LocalidadeTabelaGerador.");
+        }
+        return MunicipiosHolder.TABELA;
+    }
+
+    private static TabelaPaises paises() {
+        if (PaisesHolder.TABELA == null) {
+            throw new IllegalStateException("ERRO: Tabela de países do BACEN não encontrada no classpath: "
+                    + RESOURCE_PAISES + ". Gere o recurso com LocalidadeTabelaGerador.");
+        }
+        return PaisesHolder.TABELA;
+    }
+
+    private static InputStream abrirRecurso(String recurso) {
+        final InputStream input = LocalidadeUtil.class.getClassLoader().getResourceAsStream(recurso);
+        if (input == null) {
+            log.warn("WARN: Resource not found, generate it with LocalidadeTabelaGerador: " + recurso);
+        }
+        return input;
+    }
+
+    /**
+     * <p>
+     *     Lê as linhas {@code código;nome} de um recurso gerado por {@link LocalidadeTabelaGerador}, ignorando
+     *     linhas vazias e comentários iniciados por #.
+     * </p>
+     */
+    private static List<String[]> lerLinhas(Reader origem) throws IOException {
+        final List<String[]> linhas = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader(origem);
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            final int separador = linha.indexOf(';');
+            if (linha.isEmpty() || linha.charAt(0) == '#' || separador < 0) {
+                continue;
+            }
+            linhas.add(new String[] {linha.substring(0, separador).trim(), linha.substring(separador + 1).trim()});
+        }
+        return linhas;
+    }
+
+    /**
+     * <p>
+     *     Tabela imutável de municipios: tabela hash de endereçamento aberto dos códigos sobre arrays de int.
+     * </p>
+     */
+    static final class TabelaMunicipios {
+
+        private final int[] codigos;
+        private final int[] posicoes;
+        private final String[] nomes;
+        private final int deslocamento;
+
+        private TabelaMunicipios(List<String[]> linhas) {
+            final int capacidade = Integer.highestOneBit(Math.max(1, linhas.size()) * 2) * 2;
+            codigos = new int[capacidade];
+            posicoes = new int[capacidade];
+            deslocamento = Integer.SIZE - Integer.numberOfTrailingZeros(capacidade);
+            final List<String> lidos = new ArrayList<>(linhas.size());
+            for (String[] linha : linhas) {
+                final int codigo = paraCodigo(linha[0], LENGTH_IBGE, LENGTH_IBGE);
+                if (codigo <= 0 || EnumUF.porCodigoIbge(codigo / FATOR_UF_IBGE) == null || posicao(codigo) >= 0) {
+                    throw new IllegalArgumentException("ERRO: Código IBGE inválido ou duplicado: " + linha[0]);
+                }
+                int slot = (codigo * HASH_MULTIPLICADOR) >>> deslocamento;
+                while (codigos[slot] != 0) {
+                    slot = (slot + 1) & (capacidade - 1);
+                }
+                codigos[slot] = codigo;
+                posicoes[slot] = lidos.size();
+                lidos.add(linha[1]);
+            }
+            nomes = lidos.toArray(new String[0]);
+        }
+
+        /**
+         * <p>
+         *     Carrega a tabela de um recurso gerado por {@link LocalidadeTabelaGerador#gerarMunicipios}.
+         * </p>
+         *
+         * @param origem Recurso de origem
+         * @return Tabela
+         * @throws IOException Em falha de leitura
+         */
+        static TabelaMunicipios ler(Reader origem) throws IOException {
+            return new TabelaMunicipios(lerLinhas(origem));
+        }
+
+        boolean existe(int codigo) {
+            return posicao(codigo) >= 0;
+        }
+
+        String getNome(int codigo) {
+            final int posicao = posicao(codigo);
+            return posicao >= 0 ? nomes[posicao] : null;
+        }
+
+        int getQuantidade() {
+            return nomes.length;
+        }
+
+        private int posicao(int codigo) {
+            if (codigo <= 0) {
+                return -1;
+            }
+            final int mascara = codigos.length - 1;
+            int slot = (codigo * HASH_MULTIPLICADOR) >>> deslocamento;
+            int atual;
+            while ((atual = codigos[slot]) != 0) {
+                if (atual == codigo) {
+                    return posicoes[slot];
+                }
+                slot = (slot + 1) & mascara;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * <p>
+     *     Tabela imutável de países, de acesso direto pelo código.
+     * </p>
+     */
+    static final class TabelaPaises {
+
+        private final String[] nomes = new String[MAXIMO_CODIGO_BACEN];
+        private final int quantidade;
+
+        private TabelaPaises(List<String[]> linhas) {
+            for (String[] linha : linhas) {
+                final int codigo = paraCodigo(linha[0], MIN_LENGTH_BACEN, MAX_LENGTH_BACEN);
+                if (codigo <= 0 || nomes[codigo] != null) {
+                    throw new IllegalArgumentException("ERRO: Código BACEN inválido ou duplicado: " + linha[0]);
+                }
+                nomes[codigo] = linha[1];
+            }
+            quantidade = linhas.size();
+        }
+
+        /**
+         * <p>
+         *     Carrega a tabela de um recurso gerado por {@link LocalidadeTabelaGerador#gerarPaises}.
+         * </p>
+         *
+         * @param origem Recurso de origem
+         * @return Tabela
+         * @throws IOException Em falha de leitura
+         */
+        static TabelaPaises ler(Reader origem) throws IOException {
+            return new TabelaPaises(lerLinhas(origem));
+        }
+
+        String getNome(int codigo) {
+            return codigo > 0 && codigo < MAXIMO_CODIGO_BACEN ? nomes[codigo] : null;
+        }
+
+        int getQuantidade() {
+            return quantidade;
+        }
+    }
+
+    /**
+     * <p>
+     *     Tabela de municipios, carregada na primeira utilização; null se o recurso não existir.
+     * </p>
+     */
+    private static final class MunicipiosHolder {
+
+        private static final TabelaMunicipios TABELA;
+
+        static {
+            TabelaMunicipios tabela = null;
+            try (InputStream input = abrirRecurso(RESOURCE_MUNICIPIOS)) {
+                if (input != null) {
+                    tabela = TabelaMunicipios.ler(new InputStreamReader(input, StandardCharsets.UTF_8));
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.error("Error to load IBGE municipality index.", ex);
+            }
+            TABELA = tabela;
+        }
+    }
+
+    /**
+     * <p>
+     *     Tabela de países, carregada na primeira utilização; null se o recurso não existir.
+     * </p>
+     */
+    private static final class PaisesHolder {
+
+        private static final TabelaPaises TABELA;
+
+        static {
+            TabelaPaises tabela = null;
+            try (InputStream input = abrirRecurso(RESOURCE_PAISES)) {
+                if (input != null) {
+                    tabela = TabelaPaises.ler(new InputStreamReader(input, StandardCharsets.UTF_8));
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.error("Error to load BACEN country index.", ex);
+            }
+            TABELA = tabela;
+        }
+    }
+}
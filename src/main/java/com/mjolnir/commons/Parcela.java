@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * <p>
+ *     Parcela de um cronograma gerado por {@link ParcelamentoUtil}. Os valores são mantidos em centavos.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+public final class Parcela {
+
+    private final int numero;
+    private final LocalDate vencimento;
+    private final long amortizacao;
+    private final long juros;
+    private final long iof;
+    private final long saldoDevedor;
+
+    /**
+     * Constructor.
+     * @param numero Número da parcela, iniciando em 1
+     * @param vencimento Data de vencimento
+     * @param amortizacao Valor amortizado do principal em centavos
+     * @param juros Valor de juros em centavos
+     * @param iof Valor de IOF em centavos
+     * @param saldoDevedor Saldo devedor após o pagamento da parcela em centavos
+     */
+    public Parcela(int numero, LocalDate vencimento, long amortizacao, long juros, long iof, long saldoDevedor) {
+        this.numero = numero;
+        this.vencimento = vencimento;
+        this.amortizacao = amortizacao;
+        this.juros = juros;
+        this.iof = iof;
+        this.saldoDevedor = saldoDevedor;
+    }
+
+    public int getNumero() {
+        return this.numero;
+    }
+
+    public LocalDate getVencimento() {
+        return this.vencimento;
+    }
+
+    public long getAmortizacao() {
+        return this.amortizacao;
+    }
+
+    public long getJuros() {
+        return this.juros;
+    }
+
+    public long getIof() {
+        return this.iof;
+    }
+
+    public long getSaldoDevedor() {
+        return this.saldoDevedor;
+    }
+
+    /**
+     * <p>
+     *     Valor da parcela (amortização + juros) em centavos.
+     * </p>
+     * @return Valor da parcela
+     */
+    public long getValor() {
+        return this.amortizacao + this.juros;
+    }
+
+    /**
+     * <p>
+     *     Valor da parcela como {@link BigDecimal} com 2 casas decimais.
+     * </p>
+     * @return Valor da parcela
+     */
+    public BigDecimal getValorDecimal() {
+        return BigDecimal.valueOf(getValor(), 2);
+    }
+
+    @Override
+    public String toString() {
+        return "Parcela{numero=" + numero + ", vencimento=" + vencimento + ", amortizacao=" + amortizacao
+                + ", juros=" + juros + ", iof=" + iof + ", saldoDevedor=" + saldoDevedor + "}";
+    }
+}
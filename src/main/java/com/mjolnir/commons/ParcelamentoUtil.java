@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumAjusteParcela;
+import com.mjolnir.commons.enumerators.EnumSistemaAmortizacao;
+import com.mjolnir.toolbox.stardart.NumberUtil;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     Classe utilitária para geração de cronogramas de parcelamento (Tabela Price e SAC), com datas de
+ *     vencimento, juros, IOF e estratégia de arredondamento.
+ * </p>
+ * <p>
+ *     Todo o calculo é feito em centavos com aritmética de long. As taxas vêm de {@link CondicaoParcelamento} em
+ *     escala fixa de 8 casas decimais e os arredondamentos seguem o {@link RoundingMode} da condição.
+ * </p>
+ * <p>
+ *     O IOF de cada parcela é calculado sobre o valor amortizado, com a taxa diária aplicada aos dias entre a
+ *     contratação e o vencimento (limitados a 365) somada à taxa adicional.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParcelamentoUtil {
+
+    private static final long FATOR_TAXA = 100_000_000L;
+    private static final long MAXIMO_DIAS_IOF = 365;
+
+    /**
+     * <p>
+     *     Gera o cronograma de parcelas de uma condição de parcelamento.
+     * </p>
+     * <p>
+     *     No SAC a amortização é o valor dividido pela quantidade de parcelas, truncado em centavos, e a diferença
+     *     fica na parcela indicada por {@link CondicaoParcelamento#getAjusteParcela()}. Na Tabela Price com juros
+     *     o saldo residual só é conhecido ao final, portanto é sempre liquidado na última parcela.
+     * </p>
+     *
+     * @param condicao Condição de parcelamento
+     * @return Lista imutável de parcelas
+     */
+    public static List<Parcela> gerarCronograma(CondicaoParcelamento condicao) {
+        return Collections.unmodifiableList(Arrays.asList(calcular(condicao)));
+    }
+
+    /**
+     * <p>
+     *     Gera os cronogramas de várias condições de parcelamento em paralelo.
+     * </p>
+     *
+     * @param condicoes Condições de parcelamento
+     * @return Lista de cronogramas na mesma ordem das condições
+     */
+    public static List<List<Parcela>> gerarCronogramas(List<CondicaoParcelamento> condicoes) {
+        final CondicaoParcelamento[] entrada = condicoes.toArray(new CondicaoParcelamento[0]);
+        final Parcela[][] cronogramas = new Parcela[entrada.length][];
+        IntStream.range(0, entrada.length).parallel()
+                .forEach(i -> cronogramas[i] = calcular(entrada[i]));
+
+        final List<List<Parcela>> resultado = new ArrayList<>(cronogramas.length);
+        for (Parcela[] cronograma : cronogramas) {
+            resultado.add(Collections.unmodifiableList(Arrays.asList(cronograma)));
+        }
+        return resultado;
+    }
+
+    /**
+     * <p>
+     *     Gera os cronogramas de várias condições de parcelamento em paralelo, entregando cada cronograma ao
+     *     consumidor assim que calculado, sem manter todos em memória. O consumidor é chamado por várias
+     *     threads e deve ser thread-safe.
+     * </p>
+     *
+     * @param condicoes Condições de parcelamento
+     * @param consumidor Consumidor de cada condição com seu cronograma
+     */
+    public static void gerarCronogramas(List<CondicaoParcelamento> condicoes,
+                                        BiConsumer<CondicaoParcelamento, List<Parcela>> consumidor) {
+        condicoes.parallelStream()
+                .forEach(condicao -> consumidor.accept(condicao, gerarCronograma(condicao)));
+    }
+
+    /**
+     * <p>
+     *     Converte um valor em centavos para {@link BigDecimal} com 2 casas decimais.
+     * </p>
+     *
+     * @param centavos Valor em centavos
+     * @return Valor decimal
+     */
+    public static BigDecimal paraDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    private static Parcela[] calcular(CondicaoParcelamento condicao) {
+        final int quantidade = condicao.getQuantidadeParcelas();
+        final long taxa = condicao.getTaxaJurosMensal();
+        final RoundingMode mode = condicao.getRoundingMode();
+        final Parcela[] parcelas = new Parcela[quantidade];
+
+        if (condicao.getSistemaAmortizacao() == EnumSistemaAmortizacao.SAC || taxa == 0) {
+            calcularAmortizacaoConstante(condicao, parcelas);
+            return parcelas;
+        }
+
+        final long valorParcela = calcularValorParcelaPrice(condicao.getValorCentavos(), taxa, quantidade, mode);
+        long saldo = condicao.getValorCentavos();
+        for (int i = 0; i < quantidade; ++i) {
+            final long juros = NumberUtil.multiplyRounding(saldo, taxa, FATOR_TAXA, mode);
+            final long amortizacao = i == quantidade - 1
+                    ? saldo
+                    : Math.max(0, Math.min(valorParcela - juros, saldo));
+            saldo -= amortizacao;
+            parcelas[i] = criarParcela(condicao, i, amortizacao, juros, saldo);
+        }
+        return parcelas;
+    }
+
+    private static void calcularAmortizacaoConstante(CondicaoParcelamento condicao, Parcela[] parcelas) {
+        final int quantidade = parcelas.length;
+        final long taxa = condicao.getTaxaJurosMensal();
+        final RoundingMode mode = condicao.getRoundingMode();
+        // A base é truncada para que o resíduo (de 0 a quantidade - 1 centavos) nunca torne a amortização da
+        // parcela de ajuste negativa, qualquer que seja o modo de arredondamento.
+        final long amortizacaoBase = condicao.getValorCentavos() / quantidade;
+        final long residuo = condicao.getValorCentavos() - amortizacaoBase * quantidade;
+        final int parcelaAjuste = condicao.getAjusteParcela() == EnumAjusteParcela.PRIMEIRA_PARCELA
+                ? 0 : quantidade - 1;
+
+        long saldo = condicao.getValorCentavos();
+        for (int i = 0; i < quantidade; ++i) {
+            final long juros = NumberUtil.multiplyRounding(saldo, taxa, FATOR_TAXA, mode);
+            final long amortizacao = i == parcelaAjuste ? amortizacaoBase + residuo : amortizacaoBase;
+            saldo -= amortizacao;
+            parcelas[i] = criarParcela(condicao, i, amortizacao, juros, saldo);
+        }
+    }
+
+    private static long calcularValorParcelaPrice(long valor, long taxa, int quantidade, RoundingMode mode) {
+        // Parcela = valor * i * (1 + i)^n / ((1 + i)^n - 1), com 34 digitos significativos (DECIMAL128) nos passos
+        // intermediários, para que (1 + i)^n não cresça com n, e arredondada em centavos uma única vez.
+        final BigDecimal taxaDecimal = BigDecimal.valueOf(taxa, CondicaoParcelamento.ESCALA_TAXA);
+        final BigDecimal fator = BigDecimal.ONE.add(taxaDecimal).pow(quantidade, MathContext.DECIMAL128);
+        return BigDecimal.valueOf(valor).multiply(taxaDecimal).multiply(fator, MathContext.DECIMAL128)
+                .divide(fator.subtract(BigDecimal.ONE, MathContext.DECIMAL128), MathContext.DECIMAL128)
+                .setScale(0, mode).longValueExact();
+    }
+
+    private static Parcela criarParcela(CondicaoParcelamento condicao, int indice, long amortizacao, long juros,
+                                        long saldo) {
+        final LocalDate vencimento = condicao.getPrimeiroVencimento()
+                .plusMonths((long) indice * condicao.getIntervaloMeses());
+        return new Parcela(indice + 1, vencimento, amortizacao, juros,
+                calcularIof(condicao, amortizacao, vencimento), saldo);
+    }
+
+    private static long calcularIof(CondicaoParcelamento condicao, long amortizacao, LocalDate vencimento) {
+        if (condicao.getTaxaIofDiaria() == 0 && condicao.getTaxaIofAdicional() == 0) {
+            return 0;
+        }
+        final long dias = Math.max(0, Math.min(MAXIMO_DIAS_IOF,
+                ChronoUnit.DAYS.between(condicao.getDataContratacao(), vencimento)));
+        final long taxaIof = condicao.getTaxaIofDiaria() * dias + condicao.getTaxaIofAdicional();
+        return NumberUtil.multiplyRounding(amortizacao, taxaIof, FATOR_TAXA, condicao.getRoundingMode());
+    }
+}
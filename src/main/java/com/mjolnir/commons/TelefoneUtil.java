@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import com.mjolnir.commons.enumerators.EnumTipoTelefone;
+import com.mjolnir.toolbox.app.PropertiesUtil;
+import com.mjolnir.toolbox.stardart.MaskFormatter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Normalização de números de telefone brasileiros para uma chave {@code long} no formato E.164
+ *     (55 + DDD + número, por exemplo 5511987654321).
+ * </p>
+ * <p>
+ *     A entrada é lida em uma única passagem e pode conter +55, 0055, prefixo 0 com ou sem código de
+ *     operadora, espaços, parênteses, pontos e hifens. O DDD é validado contra um bitset dos códigos de área
+ *     existentes e o número é classificado como fixo (8 digitos iniciados por 2 a 5) ou celular (9 digitos
+ *     iniciados por 9). Números inválidos resultam em {@link #INVALIDO}.
+ * </p>
+ * <p>
+ *     A chave é única por telefone e pode ser usada diretamente para ordenação e remoção de duplicados; a
+ *     formatação é feita apenas quando solicitada.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TelefoneUtil {
+
+    /**
+     * Valor retornado para telefones inválidos.
+     */
+    public static final long INVALIDO = -1L;
+
+    /**
+     * Indica a ausência de DDD padrão na normalização.
+     */
+    public static final int SEM_DDD_PADRAO = 0;
+
+    private static final MaskFormatter MASCARA_FONE = MaskFormatter.compile(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.string.pattern.brazil.format.fone.ddd"));
+    private static final MaskFormatter MASCARA_CELULAR = MaskFormatter.compile(PropertiesUtil.getInstance()
+            .getPropertieByKey("util.string.pattern.brazil.format.celular.ddd"));
+
+    private static final int CODIGO_PAIS = 55;
+    private static final int TAMANHO_FIXO = 8;
+    private static final int TAMANHO_CELULAR = 9;
+    private static final int TAMANHO_DDD = 2;
+    private static final int MAXIMO_DIGITOS = 15;
+    private static final long[] POTENCIAS_DEZ = new long[MAXIMO_DIGITOS + 1];
+
+    private static final int[] DDDS = {
+        11, 12, 13, 14, 15, 16, 17, 18, 19, 21, 22, 24, 27, 28, 31, 32, 33, 34, 35, 37, 38,
+        41, 42, 43, 44, 45, 46, 47, 48, 49, 51, 53, 54, 55, 61, 62, 63, 64, 65, 66, 67, 68, 69,
+        71, 73, 74, 75, 77, 79, 81, 82, 83, 84, 85, 86, 87, 88, 89, 91, 92, 93, 94, 95, 96, 97, 98, 99};
+    private static final long DDDS_BAIXOS;
+    private static final long DDDS_ALTOS;
+
+    static {
+        POTENCIAS_DEZ[0] = 1;
+        for (int i = 1; i < POTENCIAS_DEZ.length; ++i) {
+            POTENCIAS_DEZ[i] = POTENCIAS_DEZ[i - 1] * 10;
+        }
+        long baixos = 0;
+        long altos = 0;
+        for (int ddd : DDDS) {
+            if (ddd < Long.SIZE) {
+                baixos |= 1L << ddd;
+            } else {
+                altos |= 1L << ddd - Long.SIZE;
+            }
+        }
+        DDDS_BAIXOS = baixos;
+        DDDS_ALTOS = altos;
+    }
+
+    /**
+     * <p>
+     *     Verifica se o DDD é um código de área válido.
+     * </p>
+     *
+     * @param ddd DDD
+     * @return True se o DDD existir
+     */
+    public static boolean isDDDValido(int ddd) {
+        if (ddd <= 0 || ddd >= 100) {
+            return false;
+        }
+        return ddd < Long.SIZE ? (DDDS_BAIXOS >>> ddd & 1) != 0 : (DDDS_ALTOS >>> ddd - Long.SIZE & 1) != 0;
+    }
+
+    /**
+     * <p>
+     *     Normaliza o telefone para a chave E.164. O telefone precisa conter o DDD.
+     * </p>
+     *
+     * @param telefone Telefone em qualquer formato
+     * @return Chave E.164 ou {@link #INVALIDO}
+     */
+    public static long normalizar(CharSequence telefone) {
+        return normalizar(telefone, SEM_DDD_PADRAO);
+    }
+
+    /**
+     * <p>
+     *     Normaliza o telefone para a chave E.164, utilizando o DDD padrão quando o telefone não o contém.
+     * </p>
+     *
+     * @param telefone Telefone em qualquer formato
+     * @param dddPadrao DDD utilizado para números sem DDD, ou {@link #SEM_DDD_PADRAO}
+     * @return Chave E.164 ou {@link #INVALIDO}
+     */
+    public static long normalizar(CharSequence telefone, int dddPadrao) {
+        if (telefone == null) {
+            return INVALIDO;
+        }
+        long digitos = 0;
+        int quantidade = 0;
+        int zerosIniciais = 0;
+        boolean internacional = false;
+        for (int i = 0; i < telefone.length(); ++i) {
+            final char c = telefone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (quantidade == 0 && c == '0') {
+                    ++zerosIniciais;
+                } else if (++quantidade > MAXIMO_DIGITOS) {
+                    return INVALIDO;
+                } else {
+                    digitos = digitos * 10 + (c - '0');
+                }
+            } else if (c == '+' && quantidade == 0 && zerosIniciais == 0 && !internacional) {
+                internacional = true;
+            } else if (c != ' ' && c != '(' && c != ')' && c != '-' && c != '.') {
+                return INVALIDO;
+            }
+        }
+
+        // Remove o código do país (+55, 0055 ou 55) ou o código de operadora (0 + operadora + DDD + número).
+        final boolean comPrefixo = quantidade == TAMANHO_DDD + TAMANHO_FIXO + 2
+                || quantidade == TAMANHO_DDD + TAMANHO_CELULAR + 2;
+        if (internacional || zerosIniciais >= 2) {
+            if (!comPrefixo || digitos / POTENCIAS_DEZ[quantidade - 2] != CODIGO_PAIS) {
+                return INVALIDO;
+            }
+        } else if (zerosIniciais == 0 && comPrefixo && digitos / POTENCIAS_DEZ[quantidade - 2] != CODIGO_PAIS) {
+            return INVALIDO;
+        }
+        if (comPrefixo) {
+            quantidade -= 2;
+            digitos %= POTENCIAS_DEZ[quantidade];
+        } else if (zerosIniciais == 0 && (quantidade == TAMANHO_FIXO || quantidade == TAMANHO_CELULAR)
+                && dddPadrao != SEM_DDD_PADRAO) {
+            digitos += dddPadrao * POTENCIAS_DEZ[quantidade];
+            quantidade += TAMANHO_DDD;
+        }
+        return paraChave(digitos, quantidade);
+    }
+
+    /**
+     * <p>
+     *     Normaliza um lote de telefones.
+     * </p>
+     *
+     * @param telefones Telefones em qualquer formato
+     * @param dddPadrao DDD utilizado para números sem DDD, ou {@link #SEM_DDD_PADRAO}
+     * @param destino Chave E.164 de cada telefone, com pelo menos o mesmo tamanho de {@code telefones}
+     */
+    public static void normalizar(CharSequence[] telefones, int dddPadrao, long[] destino) {
+        for (int i = 0; i < telefones.length; ++i) {
+            destino[i] = normalizar(telefones[i], dddPadrao);
+        }
+    }
+
+    /**
+     * <p>
+     *     Verifica se o telefone é válido.
+     * </p>
+     *
+     * @param telefone Telefone em qualquer formato, com DDD
+     * @return True se o telefone for válido
+     */
+    public static boolean isValido(CharSequence telefone) {
+        return normalizar(telefone) != INVALIDO;
+    }
+
+    /**
+     * <p>
+     *     Classifica o telefone normalizado.
+     * </p>
+     *
+     * @param chave Chave E.164
+     * @return {@link EnumTipoTelefone} ou null se a chave for inválida
+     */
+    public static EnumTipoTelefone getTipo(long chave) {
+        if (chave == INVALIDO) {
+            return null;
+        }
+        return tamanhoNumero(chave) == TAMANHO_CELULAR ? EnumTipoTelefone.CELULAR : EnumTipoTelefone.FIXO;
+    }
+
+    /**
+     * <p>
+     *     Verifica se o telefone normalizado é um celular.
+     * </p>
+     *
+     * @param chave Chave E.164
+     * @return True se for celular
+     */
+    public static boolean isCelular(long chave) {
+        return chave != INVALIDO && tamanhoNumero(chave) == TAMANHO_CELULAR;
+    }
+
+    /**
+     * <p>
+     *     Recupera o DDD do telefone normalizado.
+     * </p>
+     *
+     * @param chave Chave E.164
+     * @return DDD
+     */
+    public static int getDDD(long chave) {
+        final int tamanho = tamanhoNumero(chave);
+        return (int) (chave % POTENCIAS_DEZ[tamanho + TAMANHO_DDD] / POTENCIAS_DEZ[tamanho]);
+    }
+
+    /**
+     * <p>
+     *     Recupera o número, sem DDD, do telefone normalizado.
+     * </p>
+     *
+     * @param chave Chave E.164
+     * @return Número
+     */
+    public static int getNumero(long chave) {
+        return (int) (chave % POTENCIAS_DEZ[tamanhoNumero(chave)]);
+    }
+
+    /**
+     * <p>
+     *     Formata o telefone normalizado no padrão nacional, por exemplo (11)98765-4321.
+     * </p>
+     *
+     * @param chave Chave E.164
+     * @return Telefone formatado ou vazio se a chave for inválida
+     */
+    public static String formatar(long chave) {
+        if (chave == INVALIDO) {
+            return "";
+        }
+        final int tamanho = tamanhoNumero(chave);
+        final String nacional = Long.toString(chave % POTENCIAS_DEZ[tamanho + TAMANHO_DDD]);
+        return (tamanho == TAMANHO_CELULAR ? MASCARA_CELULAR : MASCARA_FONE).format(nacional);
+    }
+
+    /**
+     * <p>
+     *     Formata o telefone normalizado no padrão E.164, por exemplo +5511987654321.
+     * </p>
+     *
+     * @param chave Chave E.164
+     * @return Telefone formatado ou vazio se a chave for inválida
+     */
+    public static String formatarE164(long chave) {
+        return chave == INVALIDO ? "" : "+" + chave;
+    }
+
+    private static long paraChave(long nacional, int quantidade) {
+        final int tamanho = quantidade - TAMANHO_DDD;
+        if (tamanho != TAMANHO_FIXO && tamanho != TAMANHO_CELULAR) {
+            return INVALIDO;
+        }
+        final int ddd = (int) (nacional / POTENCIAS_DEZ[tamanho]);
+        final int primeiroDigito = (int) (nacional / POTENCIAS_DEZ[tamanho - 1] % 10);
+        final boolean numeroValido = tamanho == TAMANHO_CELULAR
+                ? primeiroDigito == 9
+                : primeiroDigito >= 2 && primeiroDigito <= 5;
+        if (!numeroValido || !isDDDValido(ddd)) {
+            return INVALIDO;
+        }
+        return CODIGO_PAIS * POTENCIAS_DEZ[quantidade] + nacional;
+    }
+
+    private static int tamanhoNumero(long chave) {
+        return chave >= CODIGO_PAIS * POTENCIAS_DEZ[TAMANHO_CELULAR + TAMANHO_DDD] ? TAMANHO_CELULAR : TAMANHO_FIXO;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons.enumerators;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ *     Enumerador da parcela que recebe a diferença de arredondamento de um parcelamento.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@AllArgsConstructor
+@Getter
+public enum EnumAjusteParcela {
+    /**
+     * <p>
+     *     Valores para o enumerador.
+     *     <br>PRIMEIRA_PARCELA: (PRIMEIRA)
+     *     <br>ULTIMA_PARCELA: (ULTIMA)
+     * </p>
+     */
+    PRIMEIRA_PARCELA("PRIMEIRA", "Primeira Parcela"), ULTIMA_PARCELA("ULTIMA", "Última Parcela");
+
+    private final String sigla;
+    private final String label;
+
+    /**
+     * <p>
+     *     Retorna uma lista de valores do Enum.
+     * </p>
+     * @return List of values
+     */
+    public static List<EnumAjusteParcela> asList() {
+        return Arrays.asList(EnumAjusteParcela.values());
+    }
+}
@@ -26,50 +26,51 @@ public enum EnumDocumentoFiscal {
     /**
      * <p>
      *     Valores para o enumerador.
-     *     NFE: (NFe,Nota Fiscal Eletrônica,1,44,BRAZIL)
+     *     NFE: (NFe,Nota Fiscal Eletrônica,1,44,BRAZIL,55)
      * </p>
      */
     NFE("NFe", "Nota Fiscal Eletronica", 1L, getInteger(PropertiesUtil.getInstance()
-            .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL"),
+            .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL", 55),
     /**
      * <p>
      *     Valores para o enumerador.
-     *     NFCE: (NFCe,Nota Fiscal de Consumidor Eletrônica,2,44,BRAZIL).
+     *     NFCE: (NFCe,Nota Fiscal de Consumidor Eletrônica,2,44,BRAZIL,65).
      * </p>
      */
     NFCE("NFCe", "Nota Fiscal de Consumidor Eletronica", 2L, getInteger(PropertiesUtil.getInstance()
-            .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL"),
+            .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL", 65),
     /**
      * <p>
      *     Valores para o enumerador.
-     *     CTE: (CTe,Conhecimento de Transporte Eletrônico,3,44,BRAZIL).
+     *     CTE: (CTe,Conhecimento de Transporte Eletrônico,3,44,BRAZIL,57).
      * </p>
      */
     CTE("CTe", "Conhecimento de Transporte Eletrônico", 3L, getInteger(PropertiesUtil.getInstance()
-            .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL"),
+            .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL", 57),
     /**
      * <p>
      *     Valores para o enumerador.
-     *     CTEOS: (CTeOS,Conhecimento de Transporte Eletrônico para Outros Serviço,4,44,BRAZIL).
+     *     CTEOS: (CTeOS,Conhecimento de Transporte Eletrônico para Outros Serviço,4,44,BRAZIL,67).
      * </p>
      */
     CTEOS("CTeOS", "Conhecimento de Transporte Eletrônico para Outros Serviço", 4L,
             getInteger(PropertiesUtil.getInstance()
-                    .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL"),
+                    .getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL", 67),
     /**
      * <p>
      *     Valores para o enumerador.
-     *     MDFE: (MDFe,Manifesto de Documento Fiscal Eletrônico,5,44,BRAZIL).
+     *     MDFE: (MDFe,Manifesto de Documento Fiscal Eletrônico,5,44,BRAZIL,58).
      * </p>
      */
     MDFE("MDFe", "Manifesto de Documento Fiscal Eletrônico", 5L, getInteger(PropertiesUtil
-            .getInstance().getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL");
+            .getInstance().getPropertieByKey("util.brazil.documentofiscal.nfe.max.length")), "BRAZIL", 58);
 
     private String sigla;
     private String label;
     private Long id;
     private Integer maxLength;
     private String pais;
+    private Integer modelo;
 
     /**
      * <p>
@@ -121,6 +122,16 @@ public enum EnumDocumentoFiscal {
         return pais;
     }
 
+    /**
+     * <p>
+     *     Método responsável por recuperar o código de modelo (campo mod) do documento fiscal.
+     * </p>
+     * @return Código do modelo do documento fiscal
+     */
+    public Integer getModelo() {
+        return modelo;
+    }
+
     /**
      * <p>
      *     Retorna uma lista de valores do Enum.
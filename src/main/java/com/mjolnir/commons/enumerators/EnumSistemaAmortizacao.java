@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons.enumerators;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ *     Enumerador de Sistemas de Amortização para calculo de parcelas.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@AllArgsConstructor
+@Getter
+public enum EnumSistemaAmortizacao {
+    /**
+     * <p>
+     *     Valores para o enumerador.
+     *     <br>PRICE: (PRICE) Parcelas constantes, amortização crescente.
+     *     <br>SAC: (SAC) Amortização constante, parcelas decrescentes.
+     * </p>
+     */
+    PRICE("PRICE", "Tabela Price"), SAC("SAC", "Sistema de Amortização Constante");
+
+    private final String sigla;
+    private final String label;
+
+    /**
+     * <p>
+     *     Retorna uma lista de valores do Enum.
+     * </p>
+     * @return List of values
+     */
+    public static List<EnumSistemaAmortizacao> asList() {
+        return Arrays.asList(EnumSistemaAmortizacao.values());
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons.enumerators;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ *     Enumerador de Tipos de Boleto.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@AllArgsConstructor
+@Getter
+public enum EnumTipoBoleto {
+    /**
+     * <p>
+     *     Valores para o enumerador.
+     *     <br>BANCARIO: (BANC) Boleto de cobrança bancária, linha digitável de 47 digitos.
+     *     <br>ARRECADACAO: (ARREC) Boleto de arrecadação / convênio (concessionárias e tributos), linha
+     *     digitável de 48 digitos.
+     * </p>
+     */
+    BANCARIO("BANC", "Boleto Bancário"), ARRECADACAO("ARREC", "Boleto de Arrecadação");
+
+    private final String sigla;
+    private final String label;
+
+    /**
+     * <p>
+     *     Retorna uma lista de valores do Enum.
+     * </p>
+     * @return List of values
+     */
+    public static List<EnumTipoBoleto> asList() {
+        return Arrays.asList(EnumTipoBoleto.values());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons.enumerators;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ *     Enumerador de Tipos de Documento reconhecidos pela classificação de documentos.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@AllArgsConstructor
+@Getter
+public enum EnumTipoDocumento {
+    /**
+     * <p>
+     *     Valores para o enumerador.
+     *     <br>CPF: (CPF) Cadastro de Pessoa Física, 11 digitos.
+     *     <br>CNPJ: (CNPJ) Cadastro Nacional da Pessoa Jurídica, 14 posições.
+     *     <br>CHAVE_ACESSO: (CHAVE) Chave de Acesso de documento fiscal eletrônico, 44 digitos.
+     *     <br>GTIN: (GTIN) Código de barras GTIN-8, GTIN-12, GTIN-13 ou GTIN-14.
+     *     <br>CEP: (CEP) Código de Endereçamento Postal, 8 digitos.
+     *     <br>MUNICIPIO_IBGE: (IBGE) Código de Municipio do IBGE, 7 digitos.
+     *     <br>TELEFONE: (FONE) Telefone com DDD.
+     *     <br>DESCONHECIDO: (N/D) Não reconhecido.
+     * </p>
+     */
+    CPF("CPF", "Cadastro de Pessoa Física"), CNPJ("CNPJ", "Cadastro Nacional da Pessoa Jurídica"),
+    CHAVE_ACESSO("CHAVE", "Chave de Acesso"), GTIN("GTIN", "Código de Barras GTIN"),
+    CEP("CEP", "Código de Endereçamento Postal"), MUNICIPIO_IBGE("IBGE", "Código de Municipio do IBGE"),
+    TELEFONE("FONE", "Telefone"), DESCONHECIDO("N/D", "Não reconhecido");
+
+    private final String sigla;
+    private final String label;
+
+    /**
+     * <p>
+     *     Retorna uma lista de valores do Enum.
+     * </p>
+     * @return List of values
+     */
+    public static List<EnumTipoDocumento> asList() {
+        return Arrays.asList(EnumTipoDocumento.values());
+    }
+}
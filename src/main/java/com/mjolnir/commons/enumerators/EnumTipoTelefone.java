@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons.enumerators;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ *     Enumerador de Tipos de Telefone do plano de numeração brasileiro.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@AllArgsConstructor
+@Getter
+public enum EnumTipoTelefone {
+    /**
+     * <p>
+     *     Valores para o enumerador.
+     *     <br>FIXO: (FIXO) 8 digitos, iniciado por 2 a 5.
+     *     <br>CELULAR: (CEL) 9 digitos, iniciado por 9.
+     * </p>
+     */
+    FIXO("FIXO", "Telefone Fixo"), CELULAR("CEL", "Telefone Celular");
+
+    private final String sigla;
+    private final String label;
+
+    /**
+     * <p>
+     *     Retorna uma lista de valores do Enum.
+     * </p>
+     * @return List of values
+     */
+    public static List<EnumTipoTelefone> asList() {
+        return Arrays.asList(EnumTipoTelefone.values());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons.enumerators;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ *     Enumerador das Unidades Federativas do Brasil com o respectivo código IBGE.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@AllArgsConstructor
+@Getter
+public enum EnumUF {
+    /**
+     * <p>
+     *     Valores para o enumerador.
+     *     (sigla, nome, código IBGE)
+     * </p>
+     */
+    RO("RO", "Rondônia", 11), AC("AC", "Acre", 12), AM("AM", "Amazonas", 13), RR("RR", "Roraima", 14),
+    PA("PA", "Pará", 15), AP("AP", "Amapá", 16), TO("TO", "Tocantins", 17), MA("MA", "Maranhão", 21),
+    PI("PI", "Piauí", 22), CE("CE", "Ceará", 23), RN("RN", "Rio Grande do Norte", 24), PB("PB", "Paraíba", 25),
+    PE("PE", "Pernambuco", 26), AL("AL", "Alagoas", 27), SE("SE", "Sergipe", 28), BA("BA", "Bahia", 29),
+    MG("MG", "Minas Gerais", 31), ES("ES", "Espírito Santo", 32), RJ("RJ", "Rio de Janeiro", 33),
+    SP("SP", "São Paulo", 35), PR("PR", "Paraná", 41), SC("SC", "Santa Catarina", 42),
+    RS("RS", "Rio Grande do Sul", 43), MS("MS", "Mato Grosso do Sul", 50), MT("MT", "Mato Grosso", 51),
+    GO("GO", "Goiás", 52), DF("DF", "Distrito Federal", 53);
+
+    private static final int MAXIMO_CODIGO_IBGE = 54;
+    private static final EnumUF[] VALORES = values();
+    private static final EnumUF[] POR_CODIGO_IBGE = new EnumUF[MAXIMO_CODIGO_IBGE];
+
+    static {
+        for (EnumUF uf : VALORES) {
+            POR_CODIGO_IBGE[uf.codigoIbge] = uf;
+        }
+    }
+
+    private final String sigla;
+    private final String label;
+    private final int codigoIbge;
+
+    /**
+     * <p>
+     *     Recupera a UF pelo código IBGE, sem alocação.
+     * </p>
+     * @param codigoIbge Código IBGE da UF (2 digitos)
+     * @return UF ou null se o código não existir
+     */
+    public static EnumUF porCodigoIbge(int codigoIbge) {
+        return codigoIbge > 0 && codigoIbge < MAXIMO_CODIGO_IBGE ? POR_CODIGO_IBGE[codigoIbge] : null;
+    }
+
+    /**
+     * <p>
+     *     Recupera a UF pela sigla, ignorando maiúsculas e minúsculas.
+     * </p>
+     * @param sigla Sigla da UF
+     * @return UF ou null se a sigla não existir
+     */
+    public static EnumUF porSigla(CharSequence sigla) {
+        if (sigla == null || sigla.length() != 2) {
+            return null;
+        }
+        final char primeira = Character.toUpperCase(sigla.charAt(0));
+        final char segunda = Character.toUpperCase(sigla.charAt(1));
+        for (EnumUF uf : VALORES) {
+            if (uf.sigla.charAt(0) == primeira && uf.sigla.charAt(1) == segunda) {
+                return uf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>
+     *     Retorna uma lista de valores do Enum.
+     * </p>
+     * @return List of values
+     */
+    public static List<EnumUF> asList() {
+        return Arrays.asList(EnumUF.values());
+    }
+}
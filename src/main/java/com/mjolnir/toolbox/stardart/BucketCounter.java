@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ *     Counter of events by {@code long} bucket key (see {@link TimeBucket} and {@link WindowAssigner}), with
+ *     primitive keys and counts in an open addressing table: no boxing and no entry objects per event.
+ * </p>
+ * <p>
+ *     Not thread-safe: use one counter per thread and {@link #merge(BucketCounter)} them. The key
+ *     {@link Long#MIN_VALUE} is reserved.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class BucketCounter {
+
+    /**
+     * Receives the entries of the counter.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Receive one entry.
+         *
+         * @param key Bucket key
+         * @param count Count
+         */
+        void accept(long key, long count);
+    }
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private long[] counts;
+    private int size;
+    private int shift;
+
+    /**
+     * Constructor.
+     */
+    public BucketCounter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param expectedBuckets Expected number of buckets
+     */
+    public BucketCounter(int expectedBuckets) {
+        if (expectedBuckets < 0 || expectedBuckets > MAX_CAPACITY / 2) {
+            throw new IllegalArgumentException("ERROR: Invalid number of buckets: " + expectedBuckets);
+        }
+        allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(1, expectedBuckets * 2 - 1)) << 1));
+    }
+
+    /**
+     * <p>
+     *     Add one to the count of the bucket.
+     * </p>
+     *
+     * @param key Bucket key
+     * @return New count
+     */
+    public long increment(long key) {
+        return add(key, 1);
+    }
+
+    /**
+     * <p>
+     *     Add to the count of the bucket.
+     * </p>
+     *
+     * @param key Bucket key
+     * @param delta Value to add
+     * @return New count
+     */
+    public long add(long key, long delta) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("ERROR: Reserved key: " + key);
+        }
+        final int mask = keys.length - 1;
+        int index = index(key);
+        while (true) {
+            final long current = keys[index];
+            if (current == key) {
+                counts[index] += delta;
+                return counts[index];
+            }
+            if (current == EMPTY) {
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        counts[index] = delta;
+        if (++size * 2 > keys.length) {
+            rehash();
+        }
+        return delta;
+    }
+
+    /**
+     * <p>
+     *     Count of the bucket.
+     * </p>
+     *
+     * @param key Bucket key
+     * @return Count, zero when the bucket is absent
+     */
+    public long get(long key) {
+        final int mask = keys.length - 1;
+        int index = index(key);
+        while (key != EMPTY) {
+            final long current = keys[index];
+            if (current == key) {
+                return counts[index];
+            }
+            if (current == EMPTY) {
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * <p>
+     *     Number of buckets.
+     * </p>
+     *
+     * @return Size
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * <p>
+     *     Remove all buckets, keeping the capacity.
+     * </p>
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /**
+     * <p>
+     *     Keys of the buckets in ascending order.
+     * </p>
+     *
+     * @return Sorted keys
+     */
+    public long[] keys() {
+        final long[] result = new long[size];
+        int count = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[count++] = key;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * <p>
+     *     Send every entry to the consumer, in no particular order.
+     * </p>
+     *
+     * @param consumer Consumer
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], counts[i]);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Add the counts of other counter to this one.
+     * </p>
+     *
+     * @param other Other counter
+     * @return This counter
+     */
+    public BucketCounter merge(BucketCounter other) {
+        other.forEach(this::add);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("BucketCounter{");
+        final long[] sorted = keys();
+        for (int i = 0; i < sorted.length; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(sorted[i]).append('=').append(get(sorted[i]));
+        }
+        return sb.append('}').toString();
+    }
+
+    private int index(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        shift = Long.numberOfLeadingZeros(capacity - 1L);
+    }
+
+    private void rehash() {
+        if (keys.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("ERROR: Counter is full.");
+        }
+        final long[] oldKeys = keys;
+        final long[] oldCounts = counts;
+        allocate(keys.length * 2);
+        final int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != EMPTY) {
+                int index = index(oldKeys[i]);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                counts[index] = oldCounts[i];
+            }
+        }
+    }
+}
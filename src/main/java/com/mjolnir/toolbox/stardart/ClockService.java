@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>
+ *     Clock service with the current second already formatted in a fixed set of patterns, for timestamps of log
+ *     lines and audit rows.
+ * </p>
+ * <p>
+ *     The formatted strings are kept in an immutable snapshot of the current second. A reader only compares the
+ *     second of the {@link Clock} with the snapshot and returns the cached string; when the second changes the
+ *     snapshot is rebuilt once. After {@link #start()} a daemon ticker thread rebuilds the snapshot at every second
+ *     boundary, so the callers almost never pay the formatting. Without the ticker the snapshot is rebuilt by the
+ *     first reader of the second, which is the expected use with a fixed {@link Clock} in tests.
+ * </p>
+ * <p>
+ *     The cached patterns must have at most seconds of resolution. Any other pattern is formatted on the call with
+ *     the current date and time.
+ * </p>
+ * <p>
+ *     Elapsed time is measured with a monotonic nano time source ({@link System#nanoTime()} by default), never
+ *     with the wall clock.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     ClockService clock = new ClockService(Clock.systemDefaultZone(), "yyyy-MM-dd HH:mm:ss").start();
+ *     String timestamp = clock.format("yyyy-MM-dd HH:mm:ss");
+ *     long begin = clock.nanoTime();
+ *     ...
+ *     long millis = clock.elapsedMillis(begin);
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class ClockService implements AutoCloseable {
+
+    private final Clock clock;
+    private final LongSupplier nanoTime;
+    private final String[] patterns;
+    private final DateTimeFormatter[] formatters;
+    private final Map<String, Integer> indexes;
+    private volatile Tick tick;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Constructor.
+     *
+     * @param clock Wall clock, also defines the zone
+     * @param patterns DateTimeFormatter patterns to cache
+     */
+    public ClockService(Clock clock, String... patterns) {
+        this(clock, System::nanoTime, patterns);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock Wall clock, also defines the zone
+     * @param nanoTime Monotonic nano time source
+     * @param patterns DateTimeFormatter patterns to cache
+     */
+    public ClockService(Clock clock, LongSupplier nanoTime, String... patterns) {
+        if (clock == null || nanoTime == null) {
+            throw new IllegalArgumentException("ERROR: Clock and nano time source are required.");
+        }
+        this.clock = clock;
+        this.nanoTime = nanoTime;
+        this.patterns = patterns.clone();
+        this.formatters = new DateTimeFormatter[patterns.length];
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < patterns.length; ++i) {
+            formatters[i] = DateTimeFormatterCache.get(patterns[i]);
+            indexes.putIfAbsent(patterns[i], i);
+        }
+        this.tick = newTick(currentSecond());
+    }
+
+    /**
+     * <p>
+     *     Start the daemon ticker thread. Calling it again has no effect.
+     * </p>
+     *
+     * @return This service
+     */
+    public synchronized ClockService start() {
+        if (ticker == null) {
+            ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "mjolnir-clock-ticker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long delay = DataUtil.FATOR_SEGUNDO - Math.floorMod(clock.millis(), DataUtil.FATOR_SEGUNDO);
+            ticker.scheduleAtFixedRate(this::refresh, delay, DataUtil.FATOR_SEGUNDO, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * <p>
+     *     Stop the ticker thread. The service keeps working, rebuilding the snapshot on the readers.
+     * </p>
+     */
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * <p>
+     *     Current epoch milliseconds of the clock.
+     * </p>
+     *
+     * @return Epoch milliseconds
+     */
+    public long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    /**
+     * <p>
+     *     Current date and time, truncated to the second, in the zone of the clock.
+     * </p>
+     *
+     * @return LocalDateTime
+     */
+    public LocalDateTime nowSecond() {
+        return current().dateTime;
+    }
+
+    /**
+     * <p>
+     *     Current date and time formatted. The cached patterns return the string of the current second; other
+     *     patterns are formatted on the call with the current date and time.
+     * </p>
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @return Formatted date
+     */
+    public String format(String pattern) {
+        final Integer index = indexes.get(pattern);
+        if (index == null) {
+            return LocalDateTime.now(clock).format(DateTimeFormatterCache.get(pattern));
+        }
+        return current().formatted[index];
+    }
+
+    /**
+     * <p>
+     *     Verify if the pattern is cached.
+     * </p>
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @return True if cached
+     */
+    public boolean isCached(String pattern) {
+        return pattern != null && indexes.containsKey(pattern);
+    }
+
+    /**
+     * <p>
+     *     Value of the monotonic nano time source, to be used only with {@link #elapsedNanos(long)}.
+     * </p>
+     *
+     * @return Nano time
+     */
+    public long nanoTime() {
+        return nanoTime.getAsLong();
+    }
+
+    /**
+     * <p>
+     *     Nanoseconds elapsed since a value of {@link #nanoTime()}.
+     * </p>
+     *
+     * @param startNanos Start nano time
+     * @return Elapsed nanoseconds
+     */
+    public long elapsedNanos(long startNanos) {
+        return nanoTime.getAsLong() - startNanos;
+    }
+
+    /**
+     * <p>
+     *     Milliseconds elapsed since a value of {@link #nanoTime()}.
+     * </p>
+     *
+     * @param startNanos Start nano time
+     * @return Elapsed milliseconds
+     */
+    public long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos(startNanos));
+    }
+
+    private Tick current() {
+        final Tick current = tick;
+        final long second = currentSecond();
+        return current.second == second ? current : update(second);
+    }
+
+    private void refresh() {
+        final long second = currentSecond();
+        if (tick.second != second) {
+            update(second);
+        }
+    }
+
+    private Tick update(long second) {
+        final Tick updated = newTick(second);
+        // Once per second only: a late thread must not replace a newer snapshot.
+        synchronized (formatters) {
+            if (tick.second < second) {
+                tick = updated;
+            }
+        }
+        return updated;
+    }
+
+    private long currentSecond() {
+        return Math.floorDiv(clock.millis(), DataUtil.FATOR_SEGUNDO);
+    }
+
+    private Tick newTick(long second) {
+        final ZoneOffset offset = clock.getZone().getRules().getOffset(Instant.ofEpochSecond(second));
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(second, 0, offset);
+        final String[] formatted = new String[patterns.length];
+        for (int i = 0; i < patterns.length; ++i) {
+            formatted[i] = dateTime.format(formatters[i]);
+        }
+        return new Tick(second, dateTime, formatted);
+    }
+
+    @Override
+    public String toString() {
+        return "ClockService{clock=" + clock + ", patterns=" + indexes.keySet() + "}";
+    }
+
+    /**
+     * Snapshot of one second.
+     */
+    private static final class Tick {
+
+        private final long second;
+        private final LocalDateTime dateTime;
+        private final String[] formatted;
+
+        Tick(long second, LocalDateTime dateTime, String[] formatted) {
+            this.second = second;
+            this.dateTime = dateTime;
+            this.formatted = formatted;
+        }
+    }
+}
@@ -5,16 +5,15 @@
 package com.mjolnir.toolbox.stardart;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 import java.math.RoundingMode;
 import java.sql.Timestamp;
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -27,11 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import com.mjolnir.toolbox.app.PropertiesUtil;
@@ -88,10 +83,9 @@ public class DataUtil {
     private static final Integer MAX_HORA_DIA = 24;
     private static final Integer MAX_MINUTO_HORA = 60;
     private static final Integer MAX_SEGUNDO_MINUTO = 60;
-    private static final Integer MAX_DIA_MES_TRINTA = 30;
-    private static final Integer MAX_DIA_MES_TRINTA_UM = 31;
-    private static final Integer MAX_DIA_MES_VINTE_OITO = 28;
-    private static final Integer MAX_DIA_MES_VINTE_NOVE = 29;
+    private static final String DEFAULT_VALIDATION_PATTERN = "dd/MM/yyyy";
+    private static final int MIN_VALIDATION_YEAR = 1900;
+    private static final int MAX_VALIDATION_YEAR = 2099;
 
     private static final String BRAZIL_DATE_PATTERN = PropertiesUtil.getInstance()
             .getPropertieByKey("util.date.pattern.brazil");
@@ -102,30 +96,36 @@ public class DataUtil {
     private static final String EUA_XML_DATETIME_PATTERN = PropertiesUtil.getInstance()
             .getPropertieByKey("util.date.pattern.eua.xml");
 
-    private static final SimpleDateFormat XML_DATETIME_FORMAT
-            = new SimpleDateFormat(EUA_XML_DATETIME_PATTERN);
-    private static final SimpleDateFormat EUA_DATEFORMAT
-            = new SimpleDateFormat(EUA_DATE_PATTERN);
-    private static final SimpleDateFormat BRAZIL_DATEFORMAT
-            = new SimpleDateFormat(BRAZIL_DATE_PATTERN);
+    private static final DateTimeFormatter ISO_DATE_OPTIONAL_TIME = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .optionalStart()
+            .appendLiteral('T')
+            .optionalEnd()
+            .optionalStart()
+            .appendLiteral(' ')
+            .optionalEnd()
+            .optionalStart()
+            .append(DateTimeFormatter.ISO_TIME)
+            .optionalEnd()
+            .toFormatter();
 
-    private static final DateTimeFormatter BRAZIL_DATETIMEFORMAT
-            = DateTimeFormatter.ofPattern(BRAZIL_DATE_PATTERN);
-    private static final DateTimeFormatter EUA_DATETIMEFORMAT
-            = DateTimeFormatter.ofPattern(EUA_DATE_PATTERN);
+    private static final int XML_DATETIME_LENGTH = 19;
 
-    private static final String NAME_MONTH = PropertiesUtil.getInstance()
-            .getPropertieByKey("util.date.pattern.month");
-
-    private static DataUtil instance = new DataUtil();
+    private static final DataUtil INSTANCE = new DataUtil();
 
     private DataUtil() {}
 
-    public static synchronized DataUtil getInstance() {
-        if (instance == null) {
-            instance = new DataUtil();
-        }
-        return instance;
+    /**
+     * <p>
+     *     Get the instance. DataUtil has no state, so the instance is created once and returned without locks; the
+     *     same methods are static in {@link Dates}.
+     * </p>
+     *
+     * @return DataUtil instance
+     */
+    public static DataUtil getInstance() {
+        return INSTANCE;
     }
 
     private static Calendar getCalendarPtBr() {
@@ -144,26 +144,6 @@ public class DataUtil {
         return new GregorianCalendar(zone, locale);
     }
 
-    /**
-     * <p>
-     *     Get number of days between two dates.
-     * </p>
-     *
-     * @param initialDate Initial Date
-     * @param endDate End Date
-     * @return Days between dates.
-     */
-    private static BigDecimal getNumberOfDaysBetweenDates(Date initialDate,
-                                                          Date endDate) {
-        try {
-            double millisecondValue = endDate.getTime() - initialDate.getTime();
-            return new BigDecimal(millisecondValue / TRANSFORMAR_DIAS);
-        } catch (Exception ex) {
-            log.error(ex.toString(), ex);
-            return null;
-        }
-    }
-
     /**
      * <p>
      *     Get number of days between two dates rounded down.
@@ -176,13 +156,7 @@ public class DataUtil {
     public static Integer getRoundedNumberOfDaysBetweenDates(Date initialDate,
                                                              Date endDate) {
         try {
-            BigDecimal millisecondValue = DataUtil.getNumberOfDaysBetweenDates(initialDate, endDate);
-            MathContext mc = new MathContext(0, RoundingMode.DOWN);
-            if (millisecondValue != null) {
-                return millisecondValue.round(mc).intValue();
-            } else {
-                throw new NullPointerException("Error to obtain number of days between dates.");
-            }
+            return Math.toIntExact(IntervalUtil.elapsedDays(initialDate.getTime(), endDate.getTime()));
         } catch (Exception ex) {
             log.error(ex.toString(), ex);
             return null;
@@ -200,12 +174,7 @@ public class DataUtil {
      */
     public static Float getDaysBetweenDates(Date initialDate, Date endDate) {
         try {
-            BigDecimal days = DataUtil.getNumberOfDaysBetweenDates(initialDate, endDate);
-            if (days != null) {
-                return days.floatValue();
-            } else {
-                throw new NullPointerException("Error to obtain number of days between dates.");
-            }
+            return (float) (IntervalUtil.millisBetween(initialDate.getTime(), endDate.getTime()) / TRANSFORMAR_DIAS);
         } catch (Exception ex) {
             log.error(ex.toString(), ex);
             return null;
@@ -224,8 +193,8 @@ public class DataUtil {
     public static Float getSecondsBetweenDates(Date initialDate, Date endDate) {
         try {
             if (log.isDebugEnabled()) {
-                log.debug(("Initial Date:" + BRAZIL_DATEFORMAT.format(initialDate)));
-                log.debug(("End Date:" + BRAZIL_DATEFORMAT.format(endDate)));
+                log.debug(("Initial Date:" + DateTimeFormatterCache.format(initialDate, BRAZIL_DATE_PATTERN)));
+                log.debug(("End Date:" + DateTimeFormatterCache.format(endDate, BRAZIL_DATE_PATTERN)));
             }
             float dif = (float) (endDate.getTime() - initialDate.getTime()) / TRANSFORMAR_SEGUNDOS;
             if (log.isDebugEnabled()) {
@@ -497,11 +466,9 @@ public class DataUtil {
             return null;
         }
 
-        SimpleDateFormat sdf = new SimpleDateFormat(patternTo);
-        sdf.setLenient(false);
         Date novaData = null;
         try {
-            novaData = sdf.parse(date);
+            novaData = DateTimeFormatterCache.parse(date, patternTo, false);
         } catch (ParseException ex) {
             log.error(ex.toString(), ex);
         }
@@ -535,10 +502,7 @@ public class DataUtil {
         if (date == null || patternTo == null) {
             return "";
         }
-        SimpleDateFormat sdf = new SimpleDateFormat(patternTo, locale);
-        sdf.setLenient(false);
-        sdf.applyPattern(patternTo);
-        return sdf.format(date);
+        return DateTimeFormatterCache.format(date, patternTo, locale, ZoneId.systemDefault());
     }
 
     /**
@@ -574,9 +538,8 @@ public class DataUtil {
     public static Date getDate(String date, int intPattern, Locale locale)
             throws Exception {
         try {
-            DateFormat df = DateFormat.getDateInstance(intPattern, locale);
-            df.setLenient(false);
-            return df.parse(date);
+            final String pattern = DateTimeFormatterCache.getLegacyDatePattern(intPattern, locale);
+            return DateTimeFormatterCache.parse(date, pattern, locale, ZoneId.systemDefault(), false);
         } catch (ParseException ex) {
             log.error(ex.toString(), ex);
             return null;
@@ -600,13 +563,10 @@ public class DataUtil {
             if (date.trim().length() == 0) {
                 return "";
             }
-            SimpleDateFormat sdf = new SimpleDateFormat(patternOf);
-            sdf.setLenient(false);
-            Date df = sdf.parse(date);
+            Date df = DateTimeFormatterCache.parse(date, patternOf, false);
             log.debug("The pattern (OF) = " + patternOf + " formate the Date"
                     + " to pattern = " + df);
-            sdf.applyPattern(patternTo);
-            final String result = sdf.format(df);
+            final String result = DateTimeFormatterCache.format(df, patternTo);
             log.debug("The pattern (TO) = " + patternTo + " formate the Date"
                     + " to pattern = " + result);
             return result;
@@ -619,7 +579,11 @@ public class DataUtil {
     /**
      * <p>
      *     Get month name of Date.
-     * </p>.
+     * </p>
+     * <p>
+     *     The name is in the standalone form, the same of the {@code MMMM} pattern alone: {@code октябрь} in
+     *     Russian, not the {@code октября} of a full date.
+     * </p>
      *
      * @param data Date
      * @param locale Locale
@@ -629,8 +593,8 @@ public class DataUtil {
         if (data == null) {
             return null;
         }
-        SimpleDateFormat f = new SimpleDateFormat(NAME_MONTH, locale);
-        return f.format(data);
+        return DateNames.of(locale).getMonthName(ZonedDataUtil.of(ZoneId.systemDefault()).toLocalDate(data.getTime())
+                .getMonthValue());
     }
 
     /**
@@ -642,7 +606,7 @@ public class DataUtil {
      * @return Month name
      */
     public String getMonthName(Date data) {
-        return getMonthName(data, new Locale(BRAZIL_LANGUAGE, BRAZIL_LOCALE));
+        return getMonthName(data, LOCALE_PT_BR);
     }
 
     /**
@@ -966,7 +930,7 @@ public class DataUtil {
      * @return String Date.
      */
     public static String sysDate() {
-        return toFormat(DataUtil.now(), EUA_DATE_PATTERN);
+        return ClockHolder.CLOCK.format(EUA_DATE_PATTERN);
     }
 
     /**
@@ -978,7 +942,19 @@ public class DataUtil {
      * @return String Date.
      */
     public static String sysDate(String mask) {
-        return toFormat(DataUtil.now(), mask);
+        return ClockHolder.CLOCK.isCached(mask) ? ClockHolder.CLOCK.format(mask) : toFormat(DataUtil.now(), mask);
+    }
+
+    /**
+     * <p>
+     *     Get the clock service of {@link #sysDate()}, with the configured date patterns cached for the current
+     *     second.
+     * </p>
+     *
+     * @return ClockService object.
+     */
+    public static ClockService getClockService() {
+        return ClockHolder.CLOCK;
     }
 
     /**
@@ -1017,11 +993,9 @@ public class DataUtil {
      * @return DateTimeFormatter object.
      */
     public static DateTimeFormatter getFormater(String format) {
-        DateTimeFormatter formatador;
         if (format != null && format.trim().length() > 0) {
             try {
-                formatador = DateTimeFormatter.ofPattern(format);
-                return formatador;
+                return DateTimeFormatterCache.get(format);
             } catch (IllegalArgumentException ex) {
                 return DateTimeFormatter.ISO_LOCAL_DATE_TIME;
             }
@@ -1039,21 +1013,7 @@ public class DataUtil {
      * @return DateTimeFormatter object.
      */
     public static DateTimeFormatter getFormater() {
-        DateTimeFormatter formatter = new DateTimeFormatterBuilder()
-                .parseCaseInsensitive()
-                .append(DateTimeFormatter.ISO_LOCAL_DATE)
-                .optionalStart()
-                .appendLiteral('T')
-                .optionalEnd()
-                .optionalStart()
-                .appendLiteral(' ')
-                .optionalEnd()
-                .optionalStart()
-                .append(DateTimeFormatter.ISO_TIME)
-                .optionalEnd()
-                .toFormatter();
-
-        return formatter;
+        return ISO_DATE_OPTIONAL_TIME;
     }
 
     /**
@@ -1175,27 +1135,22 @@ public class DataUtil {
      * <p>
      *     Convert Date String on Date Object.
      * </p>
+     * <p>
+     *     The patterns of {@code config.properties} (dd/MM/yyyy, yyyy-MM-dd, with optional HH:mm:ss separated by
+     *     space or 'T') are read by {@link FixedDateParser}; other ISO texts are parsed as a date at start of day.
+     * </p>
      *
      * @param dtString Date String.
      * @return Date Object.
      */
     public static Date convertToDate(String dtString) {
-        Boolean resultEUA = RegExUtil
-                .validateWithRegEx(RegExUtil.REGEX_DATA_HORA_EUA, StringUtil.leftTrim(dtString));
-        Boolean resultV2EUA = RegExUtil
-                .validateWithRegEx(RegExUtil.REGEX_DATA_HORA_V2_EUA,
-                        StringUtil.leftTrim(StringUtil.rightTrim(dtString)));
-        if (resultEUA || resultV2EUA) {
-            LocalDateTime ldate = convertToLocalDateTime(StringUtil.leftTrim(dtString));
-            Date date = Date.from(ldate.atZone(ZoneId.systemDefault())
-                    .toInstant());
-            return date;
-        } else {
-            LocalDate ldate = DataUtil.convertToLocalDate(StringUtil.leftTrim(dtString));
-            Date date = Date.from(ldate.atStartOfDay(ZoneId.systemDefault())
-                    .toInstant());
-            return date;
+        final ZoneId zone = ZoneId.systemDefault();
+        final long epochMillis = FixedDateParser.parseEpochMillis(dtString, zone);
+        if (epochMillis != FixedDateParser.INVALID) {
+            return new Date(epochMillis);
         }
+        LocalDate ldate = DataUtil.convertToLocalDate(dtString.trim());
+        return Date.from(ldate.atStartOfDay(zone).toInstant());
     }
 
     /**
@@ -1209,8 +1164,7 @@ public class DataUtil {
      */
     public static Date convertToDate(String dtString, String pattern)
             throws ParseException {
-        SimpleDateFormat df = new SimpleDateFormat(pattern);
-        return df.parse(dtString);
+        return DateTimeFormatterCache.parse(dtString, pattern, true);
     }
 
     /**
@@ -1248,24 +1202,36 @@ public class DataUtil {
      */
     public static Calendar convertToCalendar(String dtString, String pattern)
             throws ParseException {
-        SimpleDateFormat df = new SimpleDateFormat(pattern);
-        return convertToCalendar(df.parse(dtString));
+        return convertToCalendar(DateTimeFormatterCache.parse(dtString, pattern, true));
     }
 
     /**
      * <p>
      *     Convert String date in Calendar.
      * </p>
+     * <p>
+     *     Only the XML layout {@code yyyy-MM-dd'T'HH:mm:ss} is accepted; texts in that exact layout are read by
+     *     position with {@link FixedDateParser}, the others are parsed with the pattern and throw
+     *     {@link ParseException} when they do not match it.
+     * </p>
      *
      * @param xmlDateTimeString DateTime string.
      * @return Calendar.
      */
     public static Calendar convertToCalendar(String xmlDateTimeString)
             throws ParseException {
-        Date date = XML_DATETIME_FORMAT.parse(xmlDateTimeString);
+        final long epochMillis = !isXmlDateTimeLayout(xmlDateTimeString) ? FixedDateParser.INVALID
+                : FixedDateParser.parseEpochMillis(xmlDateTimeString, 0, XML_DATETIME_LENGTH, ZoneId.systemDefault());
+        Date date = epochMillis != FixedDateParser.INVALID ? new Date(epochMillis)
+                : DateTimeFormatterCache.parse(xmlDateTimeString, EUA_XML_DATETIME_PATTERN, true);
         return convertToCalendar(date);
     }
 
+    private static boolean isXmlDateTimeLayout(String text) {
+        return text.length() >= XML_DATETIME_LENGTH && text.charAt(4) == '-' && text.charAt(7) == '-'
+                && text.charAt(10) == 'T' && text.charAt(13) == ':' && text.charAt(16) == ':';
+    }
+
     /**
      * <p>
      *     Convert LocalTime in Calendar.
@@ -1332,16 +1298,8 @@ public class DataUtil {
             log.debug("Date is NULL");
             return null;
         } else {
-            GregorianCalendar gregorianCalendar = new GregorianCalendar();
-            gregorianCalendar.setTime(date);
-            try {
-                return DatatypeFactory.newInstance()
-                        .newXMLGregorianCalendar(gregorianCalendar);
-            } catch (DatatypeConfigurationException e) {
-                log.error(e.toString(), (Throwable) e);
-                throw new RuntimeException("Error to convert date in "
-                        + " XMLGregorianCalendar", e);
-            }
+            final ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(date.toInstant());
+            return XmlDateUtil.toXMLGregorianCalendar(date.getTime(), offset);
         }
     }
 
@@ -1355,8 +1313,7 @@ public class DataUtil {
      * @return String date.
      */
     public static String convertToString(Calendar dtCalendar, String pattern) {
-        SimpleDateFormat df = new SimpleDateFormat(pattern);
-        return df.format(convertToDate(dtCalendar));
+        return DateTimeFormatterCache.format(convertToDate(dtCalendar), pattern);
     }
 
     /**
@@ -1369,8 +1326,7 @@ public class DataUtil {
      * @return String date.
      */
     public static String convertToString(Date date, String pattern) {
-        SimpleDateFormat df = new SimpleDateFormat(pattern);
-        return df.format(date);
+        return DateTimeFormatterCache.format(date, pattern);
     }
 
     /**
@@ -1382,7 +1338,7 @@ public class DataUtil {
      * @return String date.
      */
     public static String convertToXmlDateTimeString(Date date) {
-        return XML_DATETIME_FORMAT.format(date);
+        return DateTimeFormatterCache.format(date, EUA_XML_DATETIME_PATTERN);
     }
 
     /**
@@ -1407,19 +1363,23 @@ public class DataUtil {
      * <p>
      *     Obtain Age from Birthdate.
      * </p>
+     * <p>
+     *     Complete years between the dates of birth and today in the default zone; the age changes at the start of
+     *     the birthday.
+     * </p>
+     * <p>
+     *     Who was born on February 29 turns a year older on March 1 of common years. Before, the birth date was
+     *     moved to the current year with {@link Calendar#add}, which clamps it to February 28, and the age
+     *     changed on that day.
+     * </p>
      *
      * @param birthdate BirthDate
      * @return Return the Age.
      */
     public static int obtainAge(Date birthdate) {
-        Calendar dtNascimentoAsCalendar = convertToCalendar(birthdate);
-        Calendar hoje = Calendar.getInstance();
-        int idade = hoje.get(Calendar.YEAR) - dtNascimentoAsCalendar
-                .get(Calendar.YEAR);
-        dtNascimentoAsCalendar.add(Calendar.YEAR, idade);
-        if (hoje.before(dtNascimentoAsCalendar)) {
-            idade--;
-        }
+        final ZoneId zone = ZoneId.systemDefault();
+        final int idade = IntervalUtil.age(ZonedDataUtil.of(zone).toEpochDay(birthdate.getTime()),
+                LocalDate.now(zone).toEpochDay());
         log.debug("Birthdate in: "
                 + convertToString(birthdate, BRAZIL_DATE_PATTERN)
                 //+ convertToString(birthdate, EUA_DATE_PATTERN)
@@ -1551,90 +1511,18 @@ public class DataUtil {
      */
     public static boolean isValidDateString(String strDate, String pattern) {
         log.debug("###################### Begin method isValidDateString");
-        try {
-            final String regexPattern = "(0[1-9]|[12][0-9]|3[01])[/](0[1-9]|1[012])[/](19|20)\\d\\d";
-            final String defaultPattern = "dd/MM/yyyy";
-            final String dateTransformed = toAnotherPattern(strDate, pattern, defaultPattern);
-            Pattern p = Pattern.compile(regexPattern);
-            Matcher m = p.matcher(dateTransformed);
-            if (pattern.equals(defaultPattern) && !m.matches()) {
-                log.debug("The date: "
-                        + dateTransformed
-                        + "is not valid for pattern "
-                        + pattern);
-                return false;
-            } else {
-                //SimpleDateFormat df = new SimpleDateFormat(pattern);
-                //df.parse(dateTransformed);
-
-                final int dia = Integer.parseInt(dateTransformed.substring(0, 2));
-                final int mes = Integer.parseInt(dateTransformed.substring(3, 5));
-                final int ano = Integer.parseInt(dateTransformed.substring(6));
-
-                log.debug("The integer representing day is: " + String.valueOf(dia));
-                log.debug("The integer representing month is: " + String.valueOf(mes));
-                log.debug("The integer representing year is: " + String.valueOf(ano));
-
-                switch (mes - 1) {
-                    case Calendar.JANUARY:
-                    case Calendar.MARCH:
-                    case Calendar.MAY:
-                    case Calendar.JULY:
-                    case Calendar.AUGUST:
-                    case Calendar.OCTOBER:
-                    case Calendar.DECEMBER:
-                        if (dia <= MAX_DIA_MES_TRINTA_UM) {
-                            log.debug("The date in month with 31 days");
-                            log.debug("The date is valid");
-                            return true;
-                        }
-                        break;
-                    case Calendar.APRIL:
-                    case Calendar.JUNE:
-                    case Calendar.SEPTEMBER:
-                    case Calendar.NOVEMBER:
-                        if (dia <= MAX_DIA_MES_TRINTA) {
-                            log.debug("The date in month with 30 days");
-                            log.debug("The date is valid");
-                            return true;
-                        }
-                        break;
-                    case Calendar.FEBRUARY:
-                        final int[] modsBissexto = {4, 100, 400};
-                        boolean bissexto = false;
-                        if ((ano % modsBissexto[0] == 0)
-                                || (ano % modsBissexto[1] == 0)
-                                || (ano % modsBissexto[2] == 0)) {
-                            log.debug("the year is leap year");
-                            log.debug("The date is valid");
-                            bissexto = true;
-                        }
-                        if ((bissexto) && (dia <= MAX_DIA_MES_VINTE_NOVE)) {
-                            log.debug("The month February in leap year");
-                            log.debug("The date is valid");
-                            return true;
-                        }
-                        if ((!bissexto) && (dia <= MAX_DIA_MES_VINTE_OITO)) {
-                            log.debug("The month February out of leap year");
-                            log.debug("The date is valid");
-                            return true;
-                        }
-                        break;
-                    default:
-                        if (dia <= MAX_DIA_MES_TRINTA_UM) {
-                            log.debug("The date in month with 31 days");
-                            log.debug("The date is valid");
-                            return true;
-                        }
-                        break;
-                }
-                return false;
-            }
-            //} catch (NumberFormatException | ParseException ex) {
-        } catch (NumberFormatException ex) {
-            log.error(ex.toString(), (Throwable) ex);
+        final DateValidator validator = DateValidator.cached(pattern);
+        final int status = validator.validate(strDate);
+        if (status != DateValidator.VALID) {
+            log.debug("The date: " + strDate + " is not valid for pattern " + pattern + " (status " + status + ")");
             return false;
         }
+        if (!DEFAULT_VALIDATION_PATTERN.equals(pattern)) {
+            return true;
+        }
+        final int year = LocalDate.ofEpochDay(Math.floorDiv(validator.parseLocalMillis(strDate),
+                EpochDateUtil.MILLIS_PER_DAY)).getYear();
+        return year >= MIN_VALIDATION_YEAR && year <= MAX_VALIDATION_YEAR;
     }
 
     /**
@@ -1668,6 +1556,10 @@ public class DataUtil {
      *     Date Range Validator, checking if the End Date is less than the Start Date, taking into account a
      *     formatting pattern.
      * </p>
+     * <p>
+     *     Both dates must be valid for the pattern under the strict rule of {@link DateValidator}: the whole text
+     *     matches the pattern and the date exists, so {@code 31/02/2020} makes the interval invalid.
+     * </p>
      *
      * @param initialDate Initial date String
      * @param finalDate Final date String
@@ -1676,11 +1568,11 @@ public class DataUtil {
      */
     public static boolean isValidDateInterval(String initialDate, String finalDate, String pattern) {
         try {
-            SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
-            Date beginDate = dateFormat.parse(initialDate);
-            Date endDate = dateFormat.parse(finalDate);
-            return isValidDateInterval(beginDate, endDate);
-        } catch (ParseException ex) {
+            final DateValidator validator = DateValidator.cached(pattern);
+            final long beginDate = validator.parseLocalMillis(initialDate);
+            final long endDate = validator.parseLocalMillis(finalDate);
+            return beginDate != DateValidator.INVALID && endDate != DateValidator.INVALID && endDate >= beginDate;
+        } catch (IllegalArgumentException ex) {
             log.error(ex.toString(), (Throwable) ex);
             return false;
         }
@@ -1692,6 +1584,13 @@ public class DataUtil {
      *     formatting pattern.
      * </p>
      *
+     * <p>
+     *     The dates are validated by the same strict rule of {@link #isValidDateInterval(String, String, String)}
+     *     and then compared as instants in the zone, or in the offset of the text when the pattern has one. Before,
+     *     the texts were parsed leniently and an invalid date like {@code 31/02/2020} was read as
+     *     {@code 02/03/2020}; now it makes the interval invalid.
+     * </p>
+     *
      * @param initialDate Initial date String
      * @param finalDate Final date String
      * @param pattern pattern of dates
@@ -1700,12 +1599,15 @@ public class DataUtil {
      */
     public static boolean isValidDateInterval(String initialDate, String finalDate, String pattern, TimeZone zone) {
         try {
-            SimpleDateFormat dateFormat = new SimpleDateFormat(pattern);
-            dateFormat.setTimeZone(zone);
-            Date beginDate = dateFormat.parse(initialDate);
-            Date endDate = dateFormat.parse(finalDate);
+            final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+            final DateValidator validator = DateValidator.cached(pattern, locale);
+            if (!validator.isValid(initialDate) || !validator.isValid(finalDate)) {
+                return false;
+            }
+            Date beginDate = DateTimeFormatterCache.parse(initialDate, pattern, locale, zone.toZoneId(), false);
+            Date endDate = DateTimeFormatterCache.parse(finalDate, pattern, locale, zone.toZoneId(), false);
             return isValidDateInterval(beginDate, endDate);
-        } catch (ParseException ex) {
+        } catch (ParseException | IllegalArgumentException ex) {
             log.error(ex.toString(), (Throwable) ex);
             return false;
         }
@@ -1722,4 +1624,12 @@ public class DataUtil {
     public static Timestamp convertToTimestamp(Date date) {
         return new Timestamp(date.getTime());
     }
+
+    /**
+     * Lazy holder of the clock service, started on the first use.
+     */
+    private static final class ClockHolder {
+        private static final ClockService CLOCK = new ClockService(Clock.systemDefaultZone(), EUA_DATE_PATTERN,
+                BRAZIL_DATE_PATTERN).start();
+    }
 }
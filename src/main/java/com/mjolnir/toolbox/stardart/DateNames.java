@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ *     Precomputed tables of month and weekday names (full and abbreviated) of a {@link Locale}.
+ * </p>
+ * <p>
+ *     The names are the same of the {@code MMMM}, {@code MMM}, {@code EEEE} and {@code EEE} patterns used alone and
+ *     are loaded once per locale. Month names are in the standalone form, as {@code SimpleDateFormat} renders a
+ *     pattern with only the month: {@code октябрь} in Russian and {@code październik} in Polish, not the
+ *     {@code октября} and {@code października} of a full date.
+ * </p>
+ * <p>
+ *     The static Portuguese date methods render straight from the epoch day into a {@link StringBuilder}, without
+ *     formatters and with the format form of the month: {@code 17 de outubro de 2026} or
+ *     {@code sábado, 17 de outubro de 2026}.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     DateNames.PT_BR.getMonthName(10);               // outubro
+ *     DateNames.of(new Locale("ru")).getMonthName(10); // октябрь
+ *     DateNames.formatPortugueseDate(20743, false);   // 17 de outubro de 2026
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class DateNames {
+
+    private static final ConcurrentMap<Locale, DateNames> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * Names in Brazilian Portuguese.
+     */
+    public static final DateNames PT_BR = of(DataUtil.LOCALE_PT_BR);
+
+    private static final int MONTHS = 12;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int THURSDAY = 3;
+    private static final String CONNECTOR = " de ";
+    private static final String WEEKDAY_SEPARATOR = ", ";
+    private static final int LONG_DATE_CAPACITY = 32;
+    private static final int MIN_FOUR_DIGIT_YEAR = 1000;
+
+    /**
+     * Month names of the Portuguese long date, in the format form.
+     */
+    private static final String[] PORTUGUESE_MONTHS = displayNames(TextStyle.FULL, PT_BR.locale);
+
+    private final Locale locale;
+    private final String[] months;
+    private final String[] shortMonths;
+    private final String[] weekdays;
+    private final String[] shortWeekdays;
+
+    private DateNames(Locale locale) {
+        this.locale = locale;
+        this.months = displayNames(TextStyle.FULL_STANDALONE, locale);
+        this.shortMonths = displayNames(TextStyle.SHORT_STANDALONE, locale);
+        this.weekdays = new String[DAYS_PER_WEEK];
+        this.shortWeekdays = new String[DAYS_PER_WEEK];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            weekdays[day.ordinal()] = day.getDisplayName(TextStyle.FULL, locale);
+            shortWeekdays[day.ordinal()] = day.getDisplayName(TextStyle.SHORT, locale);
+        }
+    }
+
+    /**
+     * <p>
+     *     Get the names of the locale.
+     * </p>
+     *
+     * @param locale Locale
+     * @return Names of the locale
+     */
+    public static DateNames of(Locale locale) {
+        if (locale == null) {
+            throw new IllegalArgumentException("ERROR: Locale cannot be null.");
+        }
+        return INSTANCES.computeIfAbsent(locale, DateNames::new);
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * <p>
+     *     Full name of the month, in the standalone form.
+     * </p>
+     *
+     * @param month Month, from 1 (january) to 12 (december)
+     * @return Month name
+     */
+    public String getMonthName(int month) {
+        return months[checkMonth(month) - 1];
+    }
+
+    /**
+     * <p>
+     *     Abbreviated name of the month, in the standalone form.
+     * </p>
+     *
+     * @param month Month, from 1 (january) to 12 (december)
+     * @return Abbreviated month name
+     */
+    public String getShortMonthName(int month) {
+        return shortMonths[checkMonth(month) - 1];
+    }
+
+    /**
+     * <p>
+     *     Full name of the day of week.
+     * </p>
+     *
+     * @param dayOfWeek Day of week, from 1 (monday) to 7 (sunday)
+     * @return Weekday name
+     */
+    public String getWeekdayName(int dayOfWeek) {
+        return weekdays[checkDayOfWeek(dayOfWeek) - 1];
+    }
+
+    /**
+     * <p>
+     *     Abbreviated name of the day of week.
+     * </p>
+     *
+     * @param dayOfWeek Day of week, from 1 (monday) to 7 (sunday)
+     * @return Abbreviated weekday name
+     */
+    public String getShortWeekdayName(int dayOfWeek) {
+        return shortWeekdays[checkDayOfWeek(dayOfWeek) - 1];
+    }
+
+    /**
+     * <p>
+     *     Full name of the weekday of the epoch day.
+     * </p>
+     *
+     * @param epochDay Epoch day
+     * @return Weekday name
+     */
+    public String getWeekdayNameOfEpochDay(long epochDay) {
+        return weekdays[dayOfWeekIndex(epochDay)];
+    }
+
+    /**
+     * <p>
+     *     Render the date of the epoch day in Portuguese long form, like {@code 17 de outubro de 2026}, optionally
+     *     preceded by the weekday ({@code sábado, 17 de outubro de 2026}).
+     * </p>
+     *
+     * @param epochDay Epoch day
+     * @param weekday Include the weekday
+     * @param sb Destination
+     * @return The destination
+     */
+    public static StringBuilder appendPortugueseDate(long epochDay, boolean weekday, StringBuilder sb) {
+        final LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (weekday) {
+            sb.append(PT_BR.weekdays[dayOfWeekIndex(epochDay)]).append(WEEKDAY_SEPARATOR);
+        }
+        sb.append(date.getDayOfMonth()).append(CONNECTOR)
+                .append(PORTUGUESE_MONTHS[date.getMonthValue() - 1]).append(CONNECTOR);
+        return appendYear(date.getYear(), sb);
+    }
+
+    /**
+     * <p>
+     *     Render the date of the epoch day in Portuguese long form.
+     * </p>
+     *
+     * @param epochDay Epoch day
+     * @param weekday Include the weekday
+     * @return Date in long form
+     * @see #appendPortugueseDate(long, boolean, StringBuilder)
+     */
+    public static String formatPortugueseDate(long epochDay, boolean weekday) {
+        return appendPortugueseDate(epochDay, weekday, new StringBuilder(LONG_DATE_CAPACITY)).toString();
+    }
+
+    @Override
+    public String toString() {
+        return "DateNames{locale=" + locale + "}";
+    }
+
+    private static String[] displayNames(TextStyle style, Locale locale) {
+        final String[] names = new String[MONTHS];
+        for (Month month : Month.values()) {
+            names[month.ordinal()] = month.getDisplayName(style, locale);
+        }
+        return names;
+    }
+
+    private static int dayOfWeekIndex(long epochDay) {
+        // 1970-01-01 was a thursday.
+        return Math.floorMod(epochDay + THURSDAY, DAYS_PER_WEEK);
+    }
+
+    private static StringBuilder appendYear(int year, StringBuilder sb) {
+        if (year >= MIN_FOUR_DIGIT_YEAR) {
+            return sb.append(year);
+        }
+        // Same as the yyyy pattern: at least four digits.
+        if (year < 0) {
+            sb.append('-');
+        }
+        final int abs = Math.abs(year);
+        for (int limit = MIN_FOUR_DIGIT_YEAR; limit > 1 && abs < limit; limit /= 10) {
+            sb.append('0');
+        }
+        return sb.append(abs);
+    }
+
+    private static int checkMonth(int month) {
+        if (month < 1 || month > MONTHS) {
+            throw new IllegalArgumentException("ERROR: Invalid month: " + month);
+        }
+        return month;
+    }
+
+    private static int checkDayOfWeek(int dayOfWeek) {
+        if (dayOfWeek < 1 || dayOfWeek > DAYS_PER_WEEK) {
+            throw new IllegalArgumentException("ERROR: Invalid day of week: " + dayOfWeek);
+        }
+        return dayOfWeek;
+    }
+}
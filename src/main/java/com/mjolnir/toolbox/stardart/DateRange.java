@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ *     Lazy and immutable range of dates between two {@link LocalDate}s (both inclusive), stepping by days, weeks,
+ *     months or business days (monday to friday).
+ * </p>
+ * <p>
+ *     No date is stored: every element is calculated from its index, so {@link #get(int)}, {@link #size()} and
+ *     {@link #contains(Object)} are O(1) and the {@link Spliterator} splits the range in halves for parallel
+ *     streams. Use {@link #epochDayIterator()} or {@link #epochDays()} to iterate without creating
+ *     {@link LocalDate} objects. It replaces the materialized list of {@link DataUtil#getDatesInInterval}.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     DateRange.of(LocalDate.of(2020, 1, 31), LocalDate.of(2020, 6, 30), DateRange.Step.MONTHS);
+ *     // 2020-01-31, 2020-02-29, 2020-03-31, 2020-04-30, 2020-05-31, 2020-06-30
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class DateRange extends AbstractList<LocalDate> implements RandomAccess {
+
+    /**
+     * Step between the dates of the range.
+     */
+    public enum Step {
+        /**
+         * Every day.
+         */
+        DAYS,
+        /**
+         * Every 7 days from the start date.
+         */
+        WEEKS,
+        /**
+         * Same day of month as the start date, adjusted to the last day of shorter months.
+         */
+        MONTHS,
+        /**
+         * Monday to friday.
+         */
+        BUSINESS_DAYS
+    }
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int WORKDAYS_PER_WEEK = 5;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private final LocalDate start;
+    private final LocalDate end;
+    private final Step step;
+    private final long firstDay;
+    private final int firstDayOfWeek;
+    private final int size;
+
+    private DateRange(LocalDate start, LocalDate end, Step step) {
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        long first = start.toEpochDay();
+        int dayOfWeek = dayOfWeek(first);
+        if (step == Step.BUSINESS_DAYS && dayOfWeek >= WORKDAYS_PER_WEEK) {
+            first += DAYS_PER_WEEK - dayOfWeek;
+            dayOfWeek = 0;
+        }
+        this.firstDay = first;
+        this.firstDayOfWeek = dayOfWeek;
+        this.size = Math.toIntExact(count(end.toEpochDay()));
+    }
+
+    /**
+     * <p>
+     *     Create a range. When the end is before the start the range is empty.
+     * </p>
+     *
+     * @param start Start date, inclusive
+     * @param end End date, inclusive
+     * @param step Step
+     * @return Date range
+     */
+    public static DateRange of(LocalDate start, LocalDate end, Step step) {
+        if (start == null || end == null || step == null) {
+            throw new IllegalArgumentException("ERROR: Start, end and step are required.");
+        }
+        return new DateRange(start, end, step);
+    }
+
+    /**
+     * <p>
+     *     Every day between the dates.
+     * </p>
+     *
+     * @param start Start date, inclusive
+     * @param end End date, inclusive
+     * @return Date range
+     */
+    public static DateRange days(LocalDate start, LocalDate end) {
+        return of(start, end, Step.DAYS);
+    }
+
+    /**
+     * <p>
+     *     Monday to friday between the dates.
+     * </p>
+     *
+     * @param start Start date, inclusive
+     * @param end End date, inclusive
+     * @return Date range
+     */
+    public static DateRange businessDays(LocalDate start, LocalDate end) {
+        return of(start, end, Step.BUSINESS_DAYS);
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    public Step getStep() {
+        return step;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public LocalDate get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (step == Step.MONTHS) {
+            return start.plusMonths(index);
+        }
+        return LocalDate.ofEpochDay(epochDayAt(index));
+    }
+
+    /**
+     * <p>
+     *     Epoch day of the element at the index, without creating a {@link LocalDate}.
+     * </p>
+     *
+     * @param index Index
+     * @return Epoch day
+     */
+    public long getEpochDay(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return step == Step.MONTHS ? start.plusMonths(index).toEpochDay() : epochDayAt(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof LocalDate) || size == 0) {
+            return -1;
+        }
+        final LocalDate date = (LocalDate) o;
+        if (date.isBefore(start) || date.isAfter(end)) {
+            return -1;
+        }
+        final long days = date.toEpochDay() - firstDay;
+        switch (step) {
+            case DAYS:
+                return (int) days;
+            case WEEKS:
+                return days % DAYS_PER_WEEK == 0 ? (int) (days / DAYS_PER_WEEK) : -1;
+            case MONTHS:
+                final int months = monthsBetween(date);
+                return start.plusMonths(months).equals(date) ? months : -1;
+            default:
+                return dayOfWeek(date.toEpochDay()) < WORKDAYS_PER_WEEK ? (int) count(date.toEpochDay()) - 1 : -1;
+        }
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    /**
+     * <p>
+     *     Iterator of the epoch days of the range.
+     * </p>
+     *
+     * @return Primitive iterator
+     */
+    public PrimitiveIterator.OfLong epochDayIterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return getEpochDay(index++);
+            }
+        };
+    }
+
+    /**
+     * <p>
+     *     Stream of the epoch days of the range.
+     * </p>
+     *
+     * @return LongStream
+     */
+    public LongStream epochDays() {
+        return StreamSupport.longStream(new EpochDaySpliterator(0, size), false);
+    }
+
+    @Override
+    public Spliterator<LocalDate> spliterator() {
+        return new DateSpliterator(0, size);
+    }
+
+    @Override
+    public String toString() {
+        return "DateRange{start=" + start + ", end=" + end + ", step=" + step + ", size=" + size + "}";
+    }
+
+    private long epochDayAt(int index) {
+        switch (step) {
+            case DAYS:
+                return firstDay + index;
+            case WEEKS:
+                return firstDay + (long) index * DAYS_PER_WEEK;
+            default:
+                final int weeks = index / WORKDAYS_PER_WEEK;
+                final int remainder = index % WORKDAYS_PER_WEEK;
+                final int weekend = firstDayOfWeek + remainder >= WORKDAYS_PER_WEEK ? 2 : 0;
+                return firstDay + (long) weeks * DAYS_PER_WEEK + remainder + weekend;
+        }
+    }
+
+    private long count(long lastDay) {
+        if (lastDay < firstDay) {
+            return 0;
+        }
+        final long days = lastDay - firstDay;
+        switch (step) {
+            case DAYS:
+                return days + 1;
+            case WEEKS:
+                return days / DAYS_PER_WEEK + 1;
+            case MONTHS:
+                return monthsBetween(LocalDate.ofEpochDay(lastDay)) + 1L;
+            default:
+                final long weeks = (days + 1) / DAYS_PER_WEEK;
+                final long remainder = (days + 1) % DAYS_PER_WEEK;
+                long workdays = 0;
+                for (int i = 0; i < remainder; ++i) {
+                    if ((firstDayOfWeek + i) % DAYS_PER_WEEK < WORKDAYS_PER_WEEK) {
+                        ++workdays;
+                    }
+                }
+                return weeks * WORKDAYS_PER_WEEK + workdays;
+        }
+    }
+
+    private int monthsBetween(LocalDate date) {
+        int months = (date.getYear() - start.getYear()) * MONTHS_PER_YEAR + date.getMonthValue()
+                - start.getMonthValue();
+        if (start.plusMonths(months).isAfter(date)) {
+            --months;
+        }
+        return months;
+    }
+
+    private static int dayOfWeek(long epochDay) {
+        return Math.floorMod(epochDay + 3, DAYS_PER_WEEK);
+    }
+
+    /**
+     * Spliterator of the dates, splitting the index range in halves.
+     */
+    private final class DateSpliterator implements Spliterator<LocalDate> {
+
+        private int index;
+        private final int fence;
+
+        DateSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super LocalDate> action) {
+            while (index < fence) {
+                action.accept(get(index++));
+            }
+        }
+
+        @Override
+        public Spliterator<LocalDate> trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            final Spliterator<LocalDate> prefix = new DateSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super LocalDate> getComparator() {
+            return null;
+        }
+    }
+
+    /**
+     * Spliterator of the epoch days, splitting the index range in halves.
+     */
+    private final class EpochDaySpliterator implements Spliterator.OfLong {
+
+        private int index;
+        private final int fence;
+
+        EpochDaySpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(getEpochDay(index++));
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            final Spliterator.OfLong prefix = new EpochDaySpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,591 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.WeekFields;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Bounded and thread-safe cache of immutable {@link DateTimeFormatter}s, keyed by pattern, locale, zone and
+ *     resolver style.
+ * </p>
+ * <p>
+ *     Besides the {@link DateTimeFormatter} patterns, the cache accepts the legacy {@link SimpleDateFormat}
+ *     patterns used across the library (like {@code dd/MM/yyyy HH:mm:ss}). Legacy patterns are compiled once, when
+ *     the formatter is built, with the meaning of each letter in {@code SimpleDateFormat} ({@code S} is milliseconds
+ *     and {@code u} the day number of week, for instance): {@code F} is {@link ChronoField#ALIGNED_WEEK_OF_MONTH},
+ *     {@code k} is {@link ChronoField#CLOCK_HOUR_OF_DAY} (1-24) and {@code K} is {@link ChronoField#HOUR_OF_AMPM}
+ *     (0-11). Letters without an equivalent ({@code X} with more than three letters and the letters unknown to
+ *     {@code SimpleDateFormat}) are rejected with {@link IllegalArgumentException} instead of changing their
+ *     meaning.
+ * </p>
+ * <p>
+ *     Legacy parsing follows {@code SimpleDateFormat#parse(String)}: numeric fields take any number of digits
+ *     ({@code 1/2/2020} matches {@code dd/MM/yyyy}), except when another numeric field follows them, as {@code yyyy}
+ *     and {@code MM} in {@code yyyyMMdd}; two digit years of {@code yy} are in the century starting 80 years ago;
+ *     trailing text is ignored; and the missing fields default to 1970-01-01 00:00:00 in the zone of the formatter.
+ *     As in {@link GregorianCalendar}, dates before 1582-10-15 are Julian and dates before the first transition of
+ *     the zone use its standard offset, both to format and to parse.
+ * </p>
+ * <p>
+ *     When the cache reaches {@link #MAX_SIZE} entries, arbitrary entries are evicted before a new formatter is
+ *     stored, so dynamic patterns cannot grow the cache without limit.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DateTimeFormatterCache {
+
+    /**
+     * Maximum number of cached formatters.
+     */
+    public static final int MAX_SIZE = 256;
+
+    private static final ConcurrentMap<Key, DateTimeFormatter> CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Locale, String[]> DATE_PATTERNS = new ConcurrentHashMap<>();
+    private static final String[] ISO_OFFSET_PATTERNS = {"+HH", "+HHMM", "+HH:MM"};
+    private static final LocalDate GREGORIAN_CUTOVER = LocalDate.of(1582, 10, 15);
+    private static final long GREGORIAN_CUTOVER_MILLIS = GREGORIAN_CUTOVER.toEpochDay() * EpochDateUtil.MILLIS_PER_DAY;
+    private static final int TEXT = 3;
+    private static final int FULL_TEXT = 4;
+    private static final int MAX_WIDTH = 19;
+    private static final String NUMERIC_LETTERS = "yYwWDdFuHkKhmsS";
+    private static final int TWO_DIGIT_YEAR_START = 80;
+    private static final int EPOCH_YEAR = 1970;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    /**
+     * <p>
+     *     Get a formatter of a {@link DateTimeFormatter} pattern in the default locale, without zone and with the
+     *     {@link ResolverStyle#SMART} resolver, the same as {@link DateTimeFormatter#ofPattern(String)}.
+     * </p>
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @return Cached formatter
+     */
+    public static DateTimeFormatter get(String pattern) {
+        return get(pattern, Locale.getDefault(Locale.Category.FORMAT), null, ResolverStyle.SMART);
+    }
+
+    /**
+     * <p>
+     *     Get a formatter of a {@link DateTimeFormatter} pattern.
+     * </p>
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @param locale Locale
+     * @param zone Override zone, or null
+     * @param resolverStyle Resolver style
+     * @return Cached formatter
+     */
+    public static DateTimeFormatter get(String pattern, Locale locale, ZoneId zone, ResolverStyle resolverStyle) {
+        return lookup(new Key(pattern, locale, zone, resolverStyle, Key.PATTERN));
+    }
+
+    /**
+     * <p>
+     *     Get a formatter of a legacy {@link SimpleDateFormat} pattern.
+     * </p>
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @param locale Locale
+     * @param zone Zone used to format and parse
+     * @param lenient Lenient resolution of out of range values, like {@code SimpleDateFormat#setLenient(boolean)}
+     * @return Cached formatter
+     */
+    public static DateTimeFormatter getLegacy(String pattern, Locale locale, ZoneId zone, boolean lenient) {
+        return lookup(new Key(pattern, locale, zone, lenient ? ResolverStyle.LENIENT : ResolverStyle.STRICT,
+                Key.LEGACY));
+    }
+
+    /**
+     * <p>
+     *     Get a formatter to parse a legacy {@link SimpleDateFormat} pattern. It differs from
+     *     {@link #getLegacy(String, Locale, ZoneId, boolean)} only in the pattern {@code y}, that formats the whole
+     *     year but parses two digits in the century starting 80 years ago, like {@code yy}.
+     * </p>
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @param locale Locale
+     * @param zone Zone of the text, when the pattern has no offset
+     * @param lenient Lenient resolution of out of range values, like {@code SimpleDateFormat#setLenient(boolean)}
+     * @return Cached formatter
+     */
+    public static DateTimeFormatter getLegacyParser(String pattern, Locale locale, ZoneId zone, boolean lenient) {
+        return lookup(new Key(pattern, locale, zone, lenient ? ResolverStyle.LENIENT : ResolverStyle.STRICT,
+                Key.LEGACY_PARSER));
+    }
+
+    /**
+     * <p>
+     *     Format a Date with a legacy pattern in the default locale and zone.
+     * </p>
+     *
+     * @param date Date
+     * @param pattern SimpleDateFormat pattern
+     * @return Formatted date
+     */
+    public static String format(Date date, String pattern) {
+        return format(date, pattern, Locale.getDefault(Locale.Category.FORMAT), ZoneId.systemDefault());
+    }
+
+    /**
+     * <p>
+     *     Format a Date with a legacy pattern.
+     * </p>
+     *
+     * @param date Date
+     * @param pattern SimpleDateFormat pattern
+     * @param locale Locale
+     * @param zone Zone
+     * @return Formatted date
+     */
+    public static String format(Date date, String pattern, Locale locale, ZoneId zone) {
+        final DateTimeFormatter formatter = getLegacy(pattern, locale, zone, false);
+        if (isLegacyCalendar(date.getTime(), zone)) {
+            // Rare old dates: format them with the calendar of SimpleDateFormat instead of caching one.
+            final SimpleDateFormat legacy = new SimpleDateFormat(pattern, locale);
+            legacy.setTimeZone(TimeZone.getTimeZone(zone));
+            return legacy.format(date);
+        }
+        return formatter.format(Instant.ofEpochMilli(date.getTime()));
+    }
+
+    /**
+     * <p>
+     *     Parse a Date with a legacy pattern in the default locale and zone.
+     * </p>
+     *
+     * @param text Text to parse
+     * @param pattern SimpleDateFormat pattern
+     * @param lenient Lenient resolution of out of range values
+     * @return Date
+     * @throws ParseException If the beginning of the text cannot be parsed
+     */
+    public static Date parse(String text, String pattern, boolean lenient) throws ParseException {
+        return parse(text, pattern, Locale.getDefault(Locale.Category.FORMAT), ZoneId.systemDefault(), lenient);
+    }
+
+    /**
+     * <p>
+     *     Parse a Date with a legacy pattern.
+     * </p>
+     *
+     * @param text Text to parse
+     * @param pattern SimpleDateFormat pattern
+     * @param locale Locale
+     * @param zone Zone of the text, when the pattern has no offset
+     * @param lenient Lenient resolution of out of range values
+     * @return Date
+     * @throws ParseException If the beginning of the text cannot be parsed
+     */
+    public static Date parse(String text, String pattern, Locale locale, ZoneId zone, boolean lenient)
+            throws ParseException {
+        final DateTimeFormatter formatter = getLegacyParser(pattern, locale, zone, lenient);
+        try {
+            return new Date(toEpochMilli(formatter.parse(text, new ParsePosition(0)), zone));
+        } catch (DateTimeException ex) {
+            final ParseException parseException = new ParseException("Unparseable date: \"" + text + "\"",
+                    ex instanceof DateTimeParseException ? ((DateTimeParseException) ex).getErrorIndex() : 0);
+            parseException.initCause(ex);
+            throw parseException;
+        }
+    }
+
+    /**
+     * <p>
+     *     Get the legacy pattern of a {@link DateFormat} date style in the locale, like
+     *     {@code DateFormat.getDateInstance(style, locale)}, to use with {@link #parse(String, String, Locale, ZoneId,
+     *     boolean)}.
+     * </p>
+     *
+     * @param style {@link DateFormat#FULL}, {@link DateFormat#LONG}, {@link DateFormat#MEDIUM} or
+     *              {@link DateFormat#SHORT}
+     * @param locale Locale
+     * @return SimpleDateFormat pattern
+     */
+    public static String getLegacyDatePattern(int style, Locale locale) {
+        if (style < DateFormat.FULL || style > DateFormat.SHORT) {
+            throw new IllegalArgumentException("ERROR: Illegal date style " + style);
+        }
+        return DATE_PATTERNS.computeIfAbsent(locale, DateTimeFormatterCache::loadDatePatterns)[style];
+    }
+
+    /**
+     * <p>
+     *     Number of cached formatters.
+     * </p>
+     *
+     * @return Cache size
+     */
+    public static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * <p>
+     *     Remove all cached formatters.
+     * </p>
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private static DateTimeFormatter lookup(Key key) {
+        final DateTimeFormatter cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= MAX_SIZE) {
+            final Iterator<Key> keys = CACHE.keySet().iterator();
+            while (CACHE.size() >= MAX_SIZE && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        return CACHE.computeIfAbsent(key, DateTimeFormatterCache::build);
+    }
+
+    private static DateTimeFormatter build(Key key) {
+        DateTimeFormatter formatter = (key.kind == Key.PATTERN ? DateTimeFormatter.ofPattern(key.pattern, key.locale)
+                : compileLegacy(key.pattern, key.locale, key.kind == Key.LEGACY_PARSER))
+                .withResolverStyle(key.resolverStyle);
+        if (key.zone != null) {
+            formatter = formatter.withZone(key.zone);
+        }
+        return formatter;
+    }
+
+    private static DateTimeFormatter compileLegacy(String pattern, Locale locale, boolean parser) {
+        final boolean hasEra = pattern.indexOf('G') >= 0;
+        // Lenient parsing lets the numeric fields take from 1 digit up, like SimpleDateFormat; formatting still
+        // pads them to the number of letters.
+        final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder().parseLenient();
+        boolean quoted = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    builder.appendLiteral(c);
+                    i += 2;
+                } else {
+                    quoted = !quoted;
+                    ++i;
+                }
+                continue;
+            }
+            if (quoted || !(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                builder.appendLiteral(c);
+                ++i;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                ++count;
+            }
+            i += count;
+            appendLegacyField(builder, pattern, c, count, isNumericField(pattern, i), hasEra, parser, locale);
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("ERROR: Unterminated quote in pattern: " + pattern);
+        }
+        return builder.toFormatter(locale);
+    }
+
+    /**
+     * <p>
+     *     Append the field of a SimpleDateFormat letter. Numeric fields followed by another numeric field (like
+     *     {@code yyyy} and {@code MM} in {@code yyyyMMdd}) take exactly the number of letters; the others, as the
+     *     last field of a run, take any number of digits.
+     * </p>
+     */
+    private static void appendLegacyField(DateTimeFormatterBuilder builder, String pattern, char letter,
+                                          int count, boolean fixed, boolean hasEra, boolean parser,
+                                          Locale locale) {
+        switch (letter) {
+            case 'G':
+                builder.appendText(ChronoField.ERA, count >= FULL_TEXT ? TextStyle.FULL : TextStyle.SHORT);
+                return;
+            case 'y':
+                appendYear(builder, hasEra ? ChronoField.YEAR_OF_ERA : ChronoField.YEAR, count, fixed, parser);
+                return;
+            case 'Y':
+                appendYear(builder, WeekFields.of(locale).weekBasedYear(), count, fixed, parser);
+                return;
+            case 'M':
+            case 'L':
+                if (count >= TEXT) {
+                    final boolean full = count >= FULL_TEXT;
+                    builder.appendText(ChronoField.MONTH_OF_YEAR, letter == 'M'
+                            ? full ? TextStyle.FULL : TextStyle.SHORT
+                            : full ? TextStyle.FULL_STANDALONE : TextStyle.SHORT_STANDALONE);
+                    return;
+                }
+                appendNumber(builder, ChronoField.MONTH_OF_YEAR, count, fixed);
+                return;
+            case 'w':
+                appendNumber(builder, WeekFields.of(locale).weekOfWeekBasedYear(), count, fixed);
+                return;
+            case 'W':
+                appendNumber(builder, WeekFields.of(locale).weekOfMonth(), count, fixed);
+                return;
+            case 'D':
+                appendNumber(builder, ChronoField.DAY_OF_YEAR, count, fixed);
+                return;
+            case 'd':
+                appendNumber(builder, ChronoField.DAY_OF_MONTH, count, fixed);
+                return;
+            case 'F':
+                // Day of week in month: days 1-7 are 1, days 8-14 are 2, the same as the aligned week of month.
+                appendNumber(builder, ChronoField.ALIGNED_WEEK_OF_MONTH, count, fixed);
+                return;
+            case 'E':
+                builder.appendText(ChronoField.DAY_OF_WEEK, count >= FULL_TEXT ? TextStyle.FULL : TextStyle.SHORT);
+                return;
+            case 'u':
+                // Day number of week, 1 = monday: the ISO day of week, not the year of java.time.
+                appendNumber(builder, ChronoField.DAY_OF_WEEK, count, fixed);
+                return;
+            case 'a':
+                builder.appendText(ChronoField.AMPM_OF_DAY, TextStyle.SHORT);
+                return;
+            case 'H':
+                appendNumber(builder, ChronoField.HOUR_OF_DAY, count, fixed);
+                return;
+            case 'k':
+                appendNumber(builder, ChronoField.CLOCK_HOUR_OF_DAY, count, fixed);
+                return;
+            case 'K':
+                appendNumber(builder, ChronoField.HOUR_OF_AMPM, count, fixed);
+                return;
+            case 'h':
+                appendNumber(builder, ChronoField.CLOCK_HOUR_OF_AMPM, count, fixed);
+                return;
+            case 'm':
+                appendNumber(builder, ChronoField.MINUTE_OF_HOUR, count, fixed);
+                return;
+            case 's':
+                appendNumber(builder, ChronoField.SECOND_OF_MINUTE, count, fixed);
+                return;
+            case 'S':
+                // Milliseconds, not the fraction of second of java.time: ".S" prints 123, not 1.
+                appendNumber(builder, ChronoField.MILLI_OF_SECOND, count, fixed);
+                return;
+            case 'z':
+                builder.appendZoneText(count >= FULL_TEXT ? TextStyle.FULL : TextStyle.SHORT);
+                return;
+            case 'Z':
+                builder.appendOffset("+HHMM", "+0000");
+                return;
+            case 'X':
+                if (count <= ISO_OFFSET_PATTERNS.length) {
+                    builder.appendOffset(ISO_OFFSET_PATTERNS[count - 1], "Z");
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException("ERROR: Unsupported pattern letter '" + letter + "' (" + count
+                + ") in pattern: " + pattern);
+    }
+
+    private static void appendYear(DateTimeFormatterBuilder builder, TemporalField field, int count,
+                                   boolean fixed, boolean parser) {
+        if (count > 2 || count == 1 && (!parser || fixed)) {
+            appendNumber(builder, field, count, fixed);
+            return;
+        }
+        // Two digits are in the century starting 80 years ago; other lengths are taken literally.
+        builder.appendValueReduced(field, 2, 2, LocalDate.now().minusYears(TWO_DIGIT_YEAR_START));
+    }
+
+    private static void appendNumber(DateTimeFormatterBuilder builder, TemporalField field, int count,
+                                     boolean fixed) {
+        final int width = Math.min(count, MAX_WIDTH);
+        if (fixed) {
+            builder.appendValue(field, width);
+        } else {
+            builder.appendValue(field, width, MAX_WIDTH, SignStyle.NORMAL);
+        }
+    }
+
+    /**
+     * <p>
+     *     True if a numeric SimpleDateFormat field starts at the index: any letter but the text ones, with
+     *     {@code M} and {@code L} numeric up to two letters.
+     * </p>
+     */
+    static boolean isNumericField(String pattern, int index) {
+        if (index >= pattern.length()) {
+            return false;
+        }
+        final char letter = pattern.charAt(index);
+        if (letter == 'M' || letter == 'L') {
+            return index + 2 >= pattern.length() || pattern.charAt(index + 2) != letter;
+        }
+        return NUMERIC_LETTERS.indexOf(letter) >= 0;
+    }
+
+    private static long toEpochMilli(TemporalAccessor parsed, ZoneId zone) {
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        if (date == null) {
+            date = LocalDate.of((int) field(parsed, ChronoField.YEAR, EPOCH_YEAR),
+                    (int) field(parsed, ChronoField.MONTH_OF_YEAR, 1),
+                    (int) field(parsed, ChronoField.DAY_OF_MONTH, 1));
+        }
+        if (!date.isBefore(GREGORIAN_CUTOVER) && parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+            final long epochMilli = parsed.getLong(ChronoField.INSTANT_SECONDS) * DataUtil.FATOR_SEGUNDO
+                    + field(parsed, ChronoField.MILLI_OF_SECOND, 0);
+            final ZoneId textZone = parsed.query(TemporalQueries.zone());
+            if (parsed.isSupported(ChronoField.OFFSET_SECONDS)
+                    || !isLegacyCalendar(epochMilli, textZone != null ? textZone : zone)) {
+                return epochMilli;
+            }
+        }
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        if (time == null) {
+            time = LocalTime.of((int) field(parsed, ChronoField.HOUR_OF_DAY,
+                    field(parsed, ChronoField.HOUR_OF_AMPM, 0)),
+                    (int) field(parsed, ChronoField.MINUTE_OF_HOUR, 0),
+                    (int) field(parsed, ChronoField.SECOND_OF_MINUTE, 0),
+                    (int) field(parsed, ChronoField.NANO_OF_SECOND, 0));
+        }
+        ZoneId parsedZone = parsed.query(TemporalQueries.zone());
+        if (parsed.isSupported(ChronoField.OFFSET_SECONDS)) {
+            parsedZone = ZoneOffset.ofTotalSeconds((int) parsed.getLong(ChronoField.OFFSET_SECONDS));
+        }
+        final ZoneId dateZone = parsedZone != null ? parsedZone : zone;
+        final long epochMilli = date.atTime(time).atZone(dateZone).toInstant().toEpochMilli();
+        return isLegacyCalendar(epochMilli, dateZone) ? toLegacyEpochMilli(date, time, dateZone) : epochMilli;
+    }
+
+    /**
+     * <p>
+     *     Verify if {@link GregorianCalendar} and java.time disagree about the instant: before 1582-10-15 the
+     *     calendar is Julian, and before the first transition of the zone {@link TimeZone} uses the standard offset
+     *     where java.time uses the local mean time.
+     * </p>
+     */
+    private static boolean isLegacyCalendar(long epochMilli, ZoneId zone) {
+        return epochMilli < 0 && (epochMilli < GREGORIAN_CUTOVER_MILLIS || TimeZone.getTimeZone(zone)
+                .getOffset(epochMilli) != zone.getRules().getOffset(Instant.ofEpochMilli(epochMilli))
+                .getTotalSeconds() * DataUtil.FATOR_SEGUNDO);
+    }
+
+    private static long toLegacyEpochMilli(LocalDate date, LocalTime time, ZoneId zone) {
+        final GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(zone));
+        calendar.clear();
+        if (date.getYear() <= 0) {
+            calendar.set(Calendar.ERA, GregorianCalendar.BC);
+            calendar.set(Calendar.YEAR, 1 - date.getYear());
+        } else {
+            calendar.set(Calendar.YEAR, date.getYear());
+        }
+        calendar.set(Calendar.MONTH, date.getMonthValue() - 1);
+        calendar.set(Calendar.DAY_OF_MONTH, date.getDayOfMonth());
+        calendar.set(Calendar.HOUR_OF_DAY, time.getHour());
+        calendar.set(Calendar.MINUTE, time.getMinute());
+        calendar.set(Calendar.SECOND, time.getSecond());
+        calendar.set(Calendar.MILLISECOND, time.getNano() / NANOS_PER_MILLI);
+        return calendar.getTimeInMillis();
+    }
+
+    private static String[] loadDatePatterns(Locale locale) {
+        final String[] patterns = new String[DateFormat.SHORT + 1];
+        for (int style = DateFormat.FULL; style <= DateFormat.SHORT; ++style) {
+            final DateFormat format = DateFormat.getDateInstance(style, locale);
+            if (!(format instanceof SimpleDateFormat)) {
+                throw new IllegalArgumentException("ERROR: No date pattern for locale: " + locale);
+            }
+            patterns[style] = ((SimpleDateFormat) format).toPattern();
+        }
+        return patterns;
+    }
+
+    private static long field(TemporalAccessor parsed, TemporalField field, long defaultValue) {
+        return parsed.isSupported(field) ? parsed.getLong(field) : defaultValue;
+    }
+
+    /**
+     * Cache key.
+     */
+    private static final class Key {
+
+        private static final int PATTERN = 0;
+        private static final int LEGACY = 1;
+        private static final int LEGACY_PARSER = 2;
+
+        private final String pattern;
+        private final Locale locale;
+        private final ZoneId zone;
+        private final ResolverStyle resolverStyle;
+        private final int kind;
+
+        Key(String pattern, Locale locale, ZoneId zone, ResolverStyle resolverStyle, int kind) {
+            this.pattern = Objects.requireNonNull(pattern, "pattern");
+            this.locale = Objects.requireNonNull(locale, "locale");
+            this.zone = zone;
+            this.resolverStyle = resolverStyle;
+            this.kind = kind;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return kind == other.kind && resolverStyle == other.resolverStyle && pattern.equals(other.pattern)
+                    && locale.equals(other.locale) && Objects.equals(zone, other.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = pattern.hashCode();
+            result = 31 * result + locale.hashCode();
+            result = 31 * result + Objects.hashCode(zone);
+            result = 31 * result + resolverStyle.hashCode();
+            return 31 * result + kind;
+        }
+    }
+}
@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     Date validator compiled from a legacy {@link java.text.SimpleDateFormat} pattern, returning a status code
+ *     instead of throwing exceptions.
+ * </p>
+ * <p>
+ *     Patterns made only of {@code d}, {@code M} or {@code MM}, {@code yyy} or more letters, {@code H},
+ *     {@code m}, {@code s}, {@code S} and literals (like {@code dd/MM/yyyy HH:mm:ss}) are validated by a scan of the
+ *     text, without formatters. As in {@code SimpleDateFormat}, numeric fields take any number of digits
+ *     ({@code 1/2/2020} matches {@code dd/MM/yyyy}), except when another numeric field follows them (like
+ *     {@code yyyy} and {@code MM} in {@code yyyyMMdd}), where they take exactly the number of letters. Any other
+ *     pattern uses {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)} and range
+ *     checks, so an exception is only created for the few rows with fields that need the full resolution (like
+ *     the day of week) and passed the checks. The whole text must match the pattern and the date must exist
+ *     (strict resolution): {@code 29/02/2019} is {@link #INVALID_DATE}. Years start at 1 and follow the proleptic
+ *     Gregorian calendar, without the Julian dates of {@code SimpleDateFormat} before 1582-10-15.
+ * </p>
+ * <p>
+ *     Instances are immutable and thread-safe. Columns of values can be validated in parallel with
+ *     {@link #validate(List, int[], boolean)}. Dynamic patterns can be taken from {@link #cached(String)}, a
+ *     bounded cache of the compiled validators; when it reaches {@link #MAX_CACHE_SIZE} entries, arbitrary
+ *     entries are evicted before a new validator is stored.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     DateValidator validator = DateValidator.compile("dd/MM/yyyy");
+ *     validator.validate("31/04/2020"); // INVALID_DATE
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class DateValidator {
+
+    /**
+     * Valid date.
+     */
+    public static final int VALID = 0;
+    /**
+     * Null or empty text.
+     */
+    public static final int EMPTY = 1;
+    /**
+     * The text does not match the pattern.
+     */
+    public static final int INVALID_FORMAT = 2;
+    /**
+     * The text matches the pattern, but the date or time does not exist.
+     */
+    public static final int INVALID_DATE = 3;
+    /**
+     * Returned by {@link #parseLocalMillis(CharSequence)} when the date is not valid.
+     */
+    public static final long INVALID = FixedDateParser.INVALID;
+    /**
+     * Maximum number of validators kept by {@link #cached(String, Locale)}.
+     */
+    public static final int MAX_CACHE_SIZE = 256;
+
+    private static final ConcurrentMap<Key, DateValidator> CACHE = new ConcurrentHashMap<>();
+
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int SECOND = 6;
+    private static final int MILLI = 7;
+    private static final int FIELDS = 8;
+    private static final int LEAP_YEAR = 2000;
+    private static final int DEFAULT_YEAR = 1970;
+    private static final int MAX_YEAR = 999_999_999;
+    private static final int MAX_MILLI = 999;
+    private static final int MAX_DIGITS = 9;
+
+    private final String pattern;
+    private final char[] literals;
+    private final byte[] fields;
+    private final int[] widths;
+    private final int present;
+    private final DateTimeFormatter formatter;
+    private final boolean checkedFieldsOnly;
+
+    private DateValidator(String pattern, char[] literals, byte[] fields, int[] widths, int present,
+                          DateTimeFormatter formatter, boolean checkedFieldsOnly) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.fields = fields;
+        this.widths = widths;
+        this.present = present;
+        this.formatter = formatter;
+        this.checkedFieldsOnly = checkedFieldsOnly;
+    }
+
+    /**
+     * <p>
+     *     Compile the validator of a legacy pattern, with the default locale for text fields.
+     * </p>
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @return Validator
+     */
+    public static DateValidator compile(String pattern) {
+        return compile(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * <p>
+     *     Get the cached validator of a legacy pattern, with the default locale for text fields.
+     * </p>
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @return Validator
+     */
+    public static DateValidator cached(String pattern) {
+        return cached(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * <p>
+     *     Get the cached validator of a legacy pattern, compiling it on the first use.
+     * </p>
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @param locale Locale of text fields, like month names
+     * @return Validator
+     */
+    public static DateValidator cached(String pattern, Locale locale) {
+        if (pattern == null || locale == null) {
+            throw new IllegalArgumentException("ERROR: Pattern and locale cannot be null.");
+        }
+        final Key key = new Key(pattern, locale);
+        final DateValidator cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            final Iterator<Key> keys = CACHE.keySet().iterator();
+            while (CACHE.size() >= MAX_CACHE_SIZE && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        return CACHE.computeIfAbsent(key, k -> compile(k.pattern, k.locale));
+    }
+
+    /**
+     * <p>
+     *     Compile the validator of a legacy pattern.
+     * </p>
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @param locale Locale of text fields, like month names
+     * @return Validator
+     */
+    public static DateValidator compile(String pattern, Locale locale) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("ERROR: Pattern cannot be empty.");
+        }
+        // One token per literal character or numeric field; fields followed by another field have fixed width.
+        final StringBuilder literals = new StringBuilder(pattern.length());
+        final StringBuilder fields = new StringBuilder(pattern.length());
+        final StringBuilder widths = new StringBuilder(pattern.length());
+        boolean fixed = true;
+        boolean checkedFieldsOnly = true;
+        boolean quoted = false;
+        int seen = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    appendToken(literals, fields, widths, c, 0, 0);
+                    i += 2;
+                    continue;
+                }
+                quoted = !quoted;
+                ++i;
+                continue;
+            }
+            if (quoted || !(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                appendToken(literals, fields, widths, c, 0, 0);
+                ++i;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                ++count;
+            }
+            i += count;
+            final int field = fixedField(c, count);
+            if ("yMdHmsS".indexOf(c) < 0) {
+                checkedFieldsOnly = false;
+            }
+            if (field == 0 || (seen & (1 << field)) != 0) {
+                fixed = false;
+                continue;
+            }
+            seen |= 1 << field;
+            appendToken(literals, fields, widths, (char) 0, field, count);
+        }
+        if (fixed) {
+            final int tokens = fields.length();
+            final byte[] fieldArray = new byte[tokens];
+            final int[] widthArray = new int[tokens];
+            for (int j = 0; j < tokens; ++j) {
+                fieldArray[j] = (byte) fields.charAt(j);
+                // Zero is any number of digits, for the last field of a run.
+                widthArray[j] = j + 1 < tokens && fields.charAt(j + 1) != 0 ? widths.charAt(j) : 0;
+            }
+            return new DateValidator(pattern, literals.toString().toCharArray(), fieldArray, widthArray, seen, null,
+                    true);
+        }
+        return new DateValidator(pattern, null, null, null, 0,
+                DateTimeFormatterCache.getLegacyParser(pattern, locale, null, false), checkedFieldsOnly);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * <p>
+     *     Validate the text.
+     * </p>
+     *
+     * @param text Text
+     * @return {@link #VALID}, {@link #EMPTY}, {@link #INVALID_FORMAT} or {@link #INVALID_DATE}
+     */
+    public int validate(CharSequence text) {
+        return validate(text, null);
+    }
+
+    /**
+     * <p>
+     *     Validate the text. On {@link #INVALID_FORMAT} the error index of the position is set to the first
+     *     character that does not match the pattern.
+     * </p>
+     *
+     * @param text Text
+     * @param position Position of the error, may be null
+     * @return {@link #VALID}, {@link #EMPTY}, {@link #INVALID_FORMAT} or {@link #INVALID_DATE}
+     */
+    public int validate(CharSequence text, ParsePosition position) {
+        if (text == null || text.length() == 0) {
+            return EMPTY;
+        }
+        if (formatter == null) {
+            final int[] values = new int[FIELDS];
+            final int errorIndex = scan(text, values);
+            if (errorIndex >= 0) {
+                setErrorIndex(position, errorIndex);
+                return INVALID_FORMAT;
+            }
+            return isValid(values) ? VALID : INVALID_DATE;
+        }
+        final ParsePosition parsePosition = new ParsePosition(0);
+        final TemporalAccessor parsed = formatter.parseUnresolved(text, parsePosition);
+        if (parsed == null || parsePosition.getIndex() != text.length()) {
+            setErrorIndex(position, parsed == null ? parsePosition.getErrorIndex() : parsePosition.getIndex());
+            return INVALID_FORMAT;
+        }
+        if (!isValid(parsed)) {
+            return INVALID_DATE;
+        }
+        return checkedFieldsOnly || resolve(text) != null ? VALID : INVALID_DATE;
+    }
+
+    /**
+     * <p>
+     *     Verify if the text is a valid date.
+     * </p>
+     *
+     * @param text Text
+     * @return True if {@link #VALID}
+     */
+    public boolean isValid(CharSequence text) {
+        return validate(text, null) == VALID;
+    }
+
+    /**
+     * <p>
+     *     Parse the text as a local date and time, in milliseconds since 1970-01-01T00:00 without zone. Missing
+     *     fields default to 1970-01-01 00:00:00.
+     * </p>
+     *
+     * @param text Text
+     * @return Local milliseconds or {@link #INVALID}
+     */
+    public long parseLocalMillis(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return INVALID;
+        }
+        if (formatter == null) {
+            final int[] values = new int[FIELDS];
+            if (scan(text, values) >= 0 || !isValid(values)) {
+                return INVALID;
+            }
+            return FixedDateParser.epochDay(values[YEAR], values[MONTH], values[DAY]) * EpochDateUtil.MILLIS_PER_DAY
+                    + values[HOUR] * EpochDateUtil.MILLIS_PER_HOUR + values[MINUTE] * EpochDateUtil.MILLIS_PER_MINUTE
+                    + values[SECOND] * EpochDateUtil.MILLIS_PER_SECOND + values[MILLI];
+        }
+        if (validate(text, null) != VALID) {
+            return INVALID;
+        }
+        final TemporalAccessor resolved = resolve(text);
+        if (resolved == null) {
+            return INVALID;
+        }
+        final LocalDate date = resolved.query(TemporalQueries.localDate());
+        final LocalTime time = resolved.query(TemporalQueries.localTime());
+        return (date == null ? LocalDate.ofEpochDay(0) : date)
+                .atTime(time == null ? LocalTime.MIDNIGHT : time)
+                .toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * <p>
+     *     Validate a column of values, writing the status of each value.
+     * </p>
+     *
+     * @param column Values
+     * @param statuses Status of each value, with at least the size of the column
+     * @param parallel Validate in parallel
+     * @return Number of values that are not {@link #VALID}
+     */
+    public int validate(List<? extends CharSequence> column, int[] statuses, boolean parallel) {
+        if (statuses.length < column.size()) {
+            throw new IllegalArgumentException("ERROR: The status array is smaller than the column.");
+        }
+        IntStream indexes = IntStream.range(0, column.size());
+        if (parallel) {
+            indexes = indexes.parallel();
+        }
+        return indexes.map(index -> {
+            final int status = validate(column.get(index), null);
+            statuses[index] = status;
+            return status == VALID ? 0 : 1;
+        }).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "DateValidator{pattern=" + pattern + ", fixed=" + (formatter == null) + "}";
+    }
+
+    private int scan(CharSequence text, int[] values) {
+        int index = 0;
+        for (int i = 0; i < fields.length; ++i) {
+            if (fields[i] == 0) {
+                if (index >= text.length() || text.charAt(index) != literals[i]) {
+                    return index;
+                }
+                ++index;
+                continue;
+            }
+            int digits = 0;
+            while (index + digits < text.length() && isDigit(text.charAt(index + digits))) {
+                ++digits;
+            }
+            if (digits == 0 || digits < widths[i]) {
+                return index;
+            }
+            if (widths[i] > 0) {
+                digits = widths[i];
+            }
+            int value = 0;
+            for (int j = 0; j < digits; ++j) {
+                // More than nine digits are out of the range of every field.
+                value = j < MAX_DIGITS ? value * 10 + (text.charAt(index + j) - '0') : Integer.MAX_VALUE;
+            }
+            values[fields[i]] = value;
+            index += digits;
+        }
+        if (index != text.length()) {
+            return index;
+        }
+        if ((present & (1 << YEAR)) == 0) {
+            values[YEAR] = DEFAULT_YEAR;
+        }
+        if ((present & (1 << MONTH)) == 0) {
+            values[MONTH] = 1;
+        }
+        if ((present & (1 << DAY)) == 0) {
+            values[DAY] = 1;
+        }
+        return -1;
+    }
+
+    private TemporalAccessor resolve(CharSequence text) {
+        try {
+            return formatter.parse(text);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    private static boolean isValid(int[] values) {
+        final int month = values[MONTH];
+        return values[YEAR] >= 1 && values[YEAR] <= MAX_YEAR && month >= 1 && month <= 12
+                && values[DAY] >= 1 && values[DAY] <= FixedDateParser.lengthOfMonth(values[YEAR], month)
+                && values[HOUR] <= 23 && values[MINUTE] <= 59 && values[SECOND] <= 59 && values[MILLI] <= MAX_MILLI;
+    }
+
+    private static boolean isValid(TemporalAccessor parsed) {
+        for (ChronoField field : new ChronoField[]{ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH,
+                ChronoField.HOUR_OF_DAY, ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE,
+                ChronoField.MILLI_OF_SECOND, ChronoField.YEAR, ChronoField.YEAR_OF_ERA}) {
+            if (parsed.isSupported(field) && !field.range().isValidValue(parsed.getLong(field))) {
+                return false;
+            }
+        }
+        if (parsed.isSupported(ChronoField.YEAR) && parsed.getLong(ChronoField.YEAR) < 1) {
+            return false;
+        }
+        if (parsed.isSupported(ChronoField.MONTH_OF_YEAR) && parsed.isSupported(ChronoField.DAY_OF_MONTH)) {
+            final int year = parsed.isSupported(ChronoField.YEAR) ? (int) parsed.getLong(ChronoField.YEAR)
+                    : LEAP_YEAR;
+            return parsed.getLong(ChronoField.DAY_OF_MONTH)
+                    <= FixedDateParser.lengthOfMonth(year, (int) parsed.getLong(ChronoField.MONTH_OF_YEAR));
+        }
+        return true;
+    }
+
+    private static int fixedField(char letter, int count) {
+        switch (letter) {
+            case 'y':
+                // One or two letters read two digit years in a century window.
+                return count > 2 ? YEAR : 0;
+            case 'M':
+                return count <= 2 ? MONTH : 0;
+            case 'd':
+                return DAY;
+            case 'H':
+                return HOUR;
+            case 'm':
+                return MINUTE;
+            case 's':
+                return SECOND;
+            case 'S':
+                return MILLI;
+            default:
+                return 0;
+        }
+    }
+
+    private static void appendToken(StringBuilder literals, StringBuilder fields, StringBuilder widths, char literal,
+                                    int field, int width) {
+        literals.append(literal);
+        fields.append((char) field);
+        widths.append((char) width);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static void setErrorIndex(ParsePosition position, int errorIndex) {
+        if (position != null) {
+            position.setErrorIndex(errorIndex);
+        }
+    }
+
+    /**
+     * <p>
+     *     Key of the validator cache.
+     * </p>
+     */
+    private static final class Key {
+
+        private final String pattern;
+        private final Locale locale;
+
+        Key(String pattern, Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return pattern.equals(other.pattern) && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * pattern.hashCode() + locale.hashCode();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Static facade of the instance methods of {@link DataUtil}, callable without {@link DataUtil#getInstance()}.
+ * </p>
+ * <p>
+ *     {@link DataUtil} has no state: each method creates its own {@link java.util.Calendar}, so the methods are
+ *     safe to call from any number of threads, without locks.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Dates {
+
+    private static final DataUtil DATA_UTIL = DataUtil.getInstance();
+
+    /**
+     * <p>
+     *     End date is greater than start date.
+     * </p>
+     *
+     * @param initialDate Initial Date
+     * @param endDate End Date
+     * @return Boolean
+     * @see DataUtil#isEndDateHigher(Date, Date)
+     */
+    public static boolean isEndDateHigher(Date initialDate, Date endDate) {
+        return DATA_UTIL.isEndDateHigher(initialDate, endDate);
+    }
+
+    /**
+     * <p>
+     *     End date is greater than or equals to start date.
+     * </p>
+     *
+     * @param initialDate Initial Date
+     * @param endDate End Date
+     * @return Boolean
+     * @see DataUtil#isEndDateHigherOrEquals(Date, Date)
+     */
+    public static boolean isEndDateHigherOrEquals(Date initialDate, Date endDate) {
+        return DATA_UTIL.isEndDateHigherOrEquals(initialDate, endDate);
+    }
+
+    /**
+     * <p>
+     *     End date is greater than start date considering seconds.
+     * </p>
+     *
+     * @param initialDate Initial Date
+     * @param endDate End Date
+     * @return Boolean
+     * @see DataUtil#isEndDateHigherInSeconds(Date, Date)
+     */
+    public static boolean isEndDateHigherInSeconds(Date initialDate, Date endDate) {
+        return DATA_UTIL.isEndDateHigherInSeconds(initialDate, endDate);
+    }
+
+    /**
+     * <p>
+     *     End date is greater than or equals to start date considering seconds.
+     * </p>
+     *
+     * @param initialDate Initial Date
+     * @param endDate End Date
+     * @return Boolean
+     * @see DataUtil#isEndDateHigherOrEqualsInSeconds(Date, Date)
+     */
+    public static boolean isEndDateHigherOrEqualsInSeconds(Date initialDate, Date endDate) {
+        return DATA_UTIL.isEndDateHigherOrEqualsInSeconds(initialDate, endDate);
+    }
+
+    /**
+     * <p>
+     *     Moves the date as the years change, into the future or past.
+     * </p>
+     *
+     * @param referenceDate Reference date
+     * @param numberMinimumYears Number of minimum years
+     * @param inThePast In the Past
+     * @return New date in future or past
+     * @see DataUtil#dateInYear(Date, long, boolean)
+     */
+    public static Date dateInYear(Date referenceDate, long numberMinimumYears, boolean inThePast) {
+        return DATA_UTIL.dateInYear(referenceDate, numberMinimumYears, inThePast);
+    }
+
+    /**
+     * <p>
+     *     Moves the date as the years change, into the future or past.
+     * </p>
+     *
+     * @param referenceDate Reference date
+     * @param numberMinimumYears Number of minimum years
+     * @param inThePast In the Past
+     * @param zone Timezone object
+     * @param locale Locale object
+     * @return New date in future or past
+     * @see DataUtil#dateInYear(Date, long, boolean, TimeZone, Locale)
+     */
+    public static Date dateInYear(Date referenceDate, long numberMinimumYears, boolean inThePast, TimeZone zone,
+                                  Locale locale) {
+        return DATA_UTIL.dateInYear(referenceDate, numberMinimumYears, inThePast, zone, locale);
+    }
+
+    /**
+     * <p>
+     *     Get the last day in month on Brazilian Calendar.
+     * </p>
+     *
+     * @param date Reference date
+     * @return Date object in the last day
+     * @see DataUtil#getLastDayInMonth(Date)
+     */
+    public static Date getLastDayInMonth(Date date) {
+        return DATA_UTIL.getLastDayInMonth(date);
+    }
+
+    /**
+     * <p>
+     *     Get the last day in month.
+     * </p>
+     *
+     * @param date Reference date
+     * @param tz Timezone object
+     * @param locale Locale
+     * @return Date object in the last day
+     * @see DataUtil#getLastDayInMonth(Date, TimeZone, Locale)
+     */
+    public static Date getLastDayInMonth(Date date, TimeZone tz, Locale locale) {
+        return DATA_UTIL.getLastDayInMonth(date, tz, locale);
+    }
+
+    /**
+     * <p>
+     *     Get month name of Date.
+     * </p>
+     *
+     * @param data Date
+     * @param locale Locale
+     * @return Month name
+     * @see DataUtil#getMonthName(Date, Locale)
+     */
+    public static String getMonthName(Date data, Locale locale) {
+        return DATA_UTIL.getMonthName(data, locale);
+    }
+
+    /**
+     * <p>
+     *     Get month name of Date in Brazilian Locale.
+     * </p>
+     *
+     * @param data Date
+     * @return Month name
+     * @see DataUtil#getMonthName(Date)
+     */
+    public static String getMonthName(Date data) {
+        return DATA_UTIL.getMonthName(data);
+    }
+
+    /**
+     * <p>
+     *     Obtain a list with dates between two dates.
+     * </p>
+     *
+     * @param initialDate Initial Date
+     * @param endDate End Date
+     * @return List of Date between two dates
+     * @see DataUtil#getDatesInInterval(Date, Date)
+     */
+    public static List<Date> getDatesInInterval(Date initialDate, Date endDate) {
+        return DATA_UTIL.getDatesInInterval(initialDate, endDate);
+    }
+
+    /**
+     * <p>
+     *     Obtain a list with dates between two dates.
+     * </p>
+     *
+     * @param initialDate Initial Date
+     * @param endDate End Date
+     * @param zone TimeZone
+     * @param locale Locale
+     * @return List of Date between two dates
+     * @see DataUtil#getDatesInInterval(Date, Date, TimeZone, Locale)
+     */
+    public static List<Date> getDatesInInterval(Date initialDate, Date endDate, TimeZone zone, Locale locale) {
+        return DATA_UTIL.getDatesInInterval(initialDate, endDate, zone, locale);
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Date arithmetic over primitive epoch milliseconds, the counterpart of the {@link DataUtil} methods
+ *     {@code sumDate}, {@code subtractDate}, {@code addMinutes}, {@code setHour}, {@code setMinutes},
+ *     {@code floorHours} and {@code ceilHour} without the {@link java.util.Calendar} round-trip.
+ * </p>
+ * <p>
+ *     The methods without zone use {@link #BRAZIL_OFFSET} (-03:00), the same offset of {@link DataUtil#ZONE_PT_BR}.
+ *     America/Sao_Paulo has no daylight saving time since 2019, so the fixed offset gives the same results as the
+ *     zone rules for current dates. When the zone is a {@link ZoneOffset}, or has fixed rules, the calculation is
+ *     plain arithmetic and allocates nothing; other zones are resolved by their {@link ZoneRules}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EpochDateUtil {
+
+    /**
+     * Brazilian offset (Brasilia time).
+     */
+    public static final ZoneOffset BRAZIL_OFFSET = ZoneOffset.ofHours(-3);
+    /**
+     * Milliseconds in one second.
+     */
+    public static final long MILLIS_PER_SECOND = DataUtil.FATOR_SEGUNDO;
+    /**
+     * Milliseconds in one minute.
+     */
+    public static final long MILLIS_PER_MINUTE = DataUtil.FATOR_MINUTO;
+    /**
+     * Milliseconds in one hour.
+     */
+    public static final long MILLIS_PER_HOUR = DataUtil.HOUR_FACTOR;
+    /**
+     * Milliseconds in one day.
+     */
+    public static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    /**
+     * <p>
+     *     Sum days to the date and set the hour of day, minutes and seconds, in Brazilian offset.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param days Days to sum
+     * @param hour Hour of day
+     * @param minute Minute
+     * @param second Second
+     * @return Epoch milliseconds
+     */
+    public static long sumDate(long epochMillis, int days, int hour, int minute, int second) {
+        return sumDate(epochMillis, days, hour, minute, second, BRAZIL_OFFSET);
+    }
+
+    /**
+     * <p>
+     *     Sum days to the date and set the hour of day, minutes and seconds. The milliseconds are kept.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param days Days to sum
+     * @param hour Hour of day
+     * @param minute Minute
+     * @param second Second
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long sumDate(long epochMillis, int days, int hour, int minute, int second, ZoneId zone) {
+        final long local = toLocal(epochMillis, zone);
+        final long day = Math.floorDiv(local, MILLIS_PER_DAY) + days;
+        final long time = hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND
+                + Math.floorMod(local, MILLIS_PER_SECOND);
+        return fromLocal(day * MILLIS_PER_DAY + time, zone, local - epochMillis);
+    }
+
+    /**
+     * <p>
+     *     Subtract days from the date and set the hour of day, minutes and seconds, in Brazilian offset.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param days Days to subtract
+     * @param hour Hour of day
+     * @param minute Minute
+     * @param second Second
+     * @return Epoch milliseconds
+     */
+    public static long subtractDate(long epochMillis, int days, int hour, int minute, int second) {
+        return sumDate(epochMillis, -days, hour, minute, second, BRAZIL_OFFSET);
+    }
+
+    /**
+     * <p>
+     *     Subtract days from the date and set the hour of day, minutes and seconds.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param days Days to subtract
+     * @param hour Hour of day
+     * @param minute Minute
+     * @param second Second
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long subtractDate(long epochMillis, int days, int hour, int minute, int second, ZoneId zone) {
+        return sumDate(epochMillis, -days, hour, minute, second, zone);
+    }
+
+    /**
+     * <p>
+     *     Sum calendar days, keeping the local time of day.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param days Days to sum
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long plusDays(long epochMillis, int days, ZoneId zone) {
+        final long local = toLocal(epochMillis, zone);
+        return fromLocal(local + days * MILLIS_PER_DAY, zone, local - epochMillis);
+    }
+
+    /**
+     * <p>
+     *     Add minutes to the date. Minutes are an exact duration, so no zone is needed.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param minutes Minutes to add
+     * @return Epoch milliseconds
+     */
+    public static long addMinutes(long epochMillis, int minutes) {
+        return epochMillis + minutes * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * <p>
+     *     Set the hour of day in Brazilian offset. Values out of 0..23 return the date unchanged.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param hour Hour of day
+     * @return Epoch milliseconds
+     */
+    public static long setHour(long epochMillis, int hour) {
+        return setHour(epochMillis, hour, BRAZIL_OFFSET);
+    }
+
+    /**
+     * <p>
+     *     Set the hour of day. Values out of 0..23 return the date unchanged.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param hour Hour of day
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long setHour(long epochMillis, int hour, ZoneId zone) {
+        if (hour < 0 || hour >= HOURS_PER_DAY) {
+            return epochMillis;
+        }
+        final long local = toLocal(epochMillis, zone);
+        final long current = Math.floorMod(local, MILLIS_PER_DAY) / MILLIS_PER_HOUR;
+        return fromLocal(local + (hour - current) * MILLIS_PER_HOUR, zone, local - epochMillis);
+    }
+
+    /**
+     * <p>
+     *     Set the minutes in Brazilian offset. Values out of 0..59 return the date unchanged.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param minutes Minutes
+     * @return Epoch milliseconds
+     */
+    public static long setMinutes(long epochMillis, int minutes) {
+        return setMinutes(epochMillis, minutes, BRAZIL_OFFSET);
+    }
+
+    /**
+     * <p>
+     *     Set the minutes. Values out of 0..59 return the date unchanged.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param minutes Minutes
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long setMinutes(long epochMillis, int minutes, ZoneId zone) {
+        if (minutes < 0 || minutes >= MINUTES_PER_HOUR) {
+            return epochMillis;
+        }
+        final long local = toLocal(epochMillis, zone);
+        final long current = Math.floorMod(local, MILLIS_PER_HOUR) / MILLIS_PER_MINUTE;
+        return fromLocal(local + (minutes - current) * MILLIS_PER_MINUTE, zone, local - epochMillis);
+    }
+
+    /**
+     * <p>
+     *     Set the seconds. Values out of 0..59 return the date unchanged. Offsets are whole minutes, so no zone is
+     *     needed.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param seconds Seconds
+     * @return Epoch milliseconds
+     */
+    public static long setSeconds(long epochMillis, int seconds) {
+        if (seconds < 0 || seconds >= SECONDS_PER_MINUTE) {
+            return epochMillis;
+        }
+        final long current = Math.floorMod(epochMillis, MILLIS_PER_MINUTE) / MILLIS_PER_SECOND;
+        return epochMillis + (seconds - current) * MILLIS_PER_SECOND;
+    }
+
+    /**
+     * <p>
+     *     Start of the day (00:00:00.000) in Brazilian offset.
+     * </p>
+     * <br>
+     * <p>
+     *     Example: 09/01/1989 05:30:10:500 to 09/01/1989 00:00:00:000
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Epoch milliseconds
+     */
+    public static long floorHours(long epochMillis) {
+        return floorHours(epochMillis, BRAZIL_OFFSET);
+    }
+
+    /**
+     * <p>
+     *     Start of the day (00:00:00.000) in the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long floorHours(long epochMillis, ZoneId zone) {
+        return truncate(epochMillis, MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * <p>
+     *     Start of the day of an {@link Instant} in the zone.
+     * </p>
+     *
+     * @param instant Instant
+     * @param zone Zone
+     * @return Instant at start of day
+     */
+    public static Instant floorHours(Instant instant, ZoneId zone) {
+        return Instant.ofEpochMilli(floorHours(instant.toEpochMilli(), zone));
+    }
+
+    /**
+     * <p>
+     *     End of the day (23:59:59.999) in Brazilian offset.
+     * </p>
+     * <br>
+     * <p>
+     *     Example: 09/01/1989 05:30:10:500 to 09/01/1989 23:59:59:999
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Epoch milliseconds
+     */
+    public static long ceilHour(long epochMillis) {
+        return ceilHour(epochMillis, BRAZIL_OFFSET);
+    }
+
+    /**
+     * <p>
+     *     End of the day (23:59:59.999) in the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long ceilHour(long epochMillis, ZoneId zone) {
+        final long local = toLocal(epochMillis, zone);
+        final long endOfDay = local - Math.floorMod(local, MILLIS_PER_DAY) + MILLIS_PER_DAY - 1;
+        return fromLocal(endOfDay, zone, local - epochMillis);
+    }
+
+    /**
+     * <p>
+     *     End of the day of an {@link Instant} in the zone.
+     * </p>
+     *
+     * @param instant Instant
+     * @param zone Zone
+     * @return Instant at end of day
+     */
+    public static Instant ceilHour(Instant instant, ZoneId zone) {
+        return Instant.ofEpochMilli(ceilHour(instant.toEpochMilli(), zone));
+    }
+
+    /**
+     * <p>
+     *     Truncate the local time to a multiple of the unit, like 15 minutes or 1 hour. Units up to one day are
+     *     aligned to the local midnight.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param unitMillis Unit in milliseconds, a divisor of one day
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long truncate(long epochMillis, long unitMillis, ZoneId zone) {
+        if (unitMillis <= 0) {
+            throw new IllegalArgumentException("ERROR: Unit must be greater than zero: " + unitMillis);
+        }
+        final long local = toLocal(epochMillis, zone);
+        return fromLocal(local - Math.floorMod(local, unitMillis), zone, local - epochMillis);
+    }
+
+    /**
+     * <p>
+     *     Round the local time to the nearest multiple of the unit; halves are rounded up.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param unitMillis Unit in milliseconds, a divisor of one day
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long round(long epochMillis, long unitMillis, ZoneId zone) {
+        if (unitMillis <= 0) {
+            throw new IllegalArgumentException("ERROR: Unit must be greater than zero: " + unitMillis);
+        }
+        final long local = toLocal(epochMillis, zone);
+        final long remainder = Math.floorMod(local, unitMillis);
+        final long floor = local - remainder;
+        return fromLocal(remainder * 2 >= unitMillis ? floor + unitMillis : floor, zone, local - epochMillis);
+    }
+
+    /**
+     * <p>
+     *     Epoch milliseconds shifted to the local time of the zone, as if the local date and time were UTC.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param zone Zone
+     * @return Local milliseconds
+     */
+    public static long toLocal(long epochMillis, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return epochMillis + ((ZoneOffset) zone).getTotalSeconds() * MILLIS_PER_SECOND;
+        }
+        final ZoneRules rules = zone.getRules();
+        final Instant instant = rules.isFixedOffset() ? Instant.EPOCH : Instant.ofEpochMilli(epochMillis);
+        return epochMillis + rules.getOffset(instant).getTotalSeconds() * MILLIS_PER_SECOND;
+    }
+
+    /**
+     * <p>
+     *     Inverse of {@link #toLocal(long, ZoneId)}. In a gap of the zone rules the local time is moved forward by
+     *     the length of the gap, the same as {@link java.time.ZonedDateTime}.
+     * </p>
+     *
+     * @param localMillis Local milliseconds
+     * @param zone Zone
+     * @return Epoch milliseconds
+     */
+    public static long fromLocal(long localMillis, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return localMillis - ((ZoneOffset) zone).getTotalSeconds() * MILLIS_PER_SECOND;
+        }
+        final ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return localMillis - rules.getOffset(Instant.EPOCH).getTotalSeconds() * MILLIS_PER_SECOND;
+        }
+        final long before = rules.getOffset(Instant.ofEpochMilli(localMillis - MILLIS_PER_DAY)).getTotalSeconds()
+                * MILLIS_PER_SECOND;
+        final long after = rules.getOffset(Instant.ofEpochMilli(localMillis + MILLIS_PER_DAY)).getTotalSeconds()
+                * MILLIS_PER_SECOND;
+        final long candidate = localMillis - before;
+        if (before == after) {
+            final long offset = rules.getOffset(Instant.ofEpochMilli(candidate)).getTotalSeconds()
+                    * MILLIS_PER_SECOND;
+            return localMillis - offset;
+        }
+        if (toLocal(candidate, zone) == localMillis) {
+            return candidate;
+        }
+        final long later = localMillis - after;
+        return toLocal(later, zone) == localMillis ? later : candidate;
+    }
+
+    private static long fromLocal(long localMillis, ZoneId zone, long offsetMillis) {
+        if (zone instanceof ZoneOffset) {
+            return localMillis - offsetMillis;
+        }
+        final long candidate = localMillis - offsetMillis;
+        return toLocal(candidate, zone) == localMillis ? candidate : fromLocal(localMillis, zone);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Parser of the fixed date patterns defined in {@code config.properties}, reading the digits by position.
+ * </p>
+ * <p>
+ *     Accepted layouts, with optional leading and trailing blank spaces:
+ * </p>
+ * <pre>
+ *     dd/MM/yyyy            yyyy-MM-dd
+ *     dd/MM/yyyy HH:mm      yyyy-MM-dd HH:mm
+ *     dd/MM/yyyy HH:mm:ss   yyyy-MM-dd HH:mm:ss
+ * </pre>
+ * <p>
+ *     The separator between date and time may also be {@code 'T'} (the XML patterns) and the seconds may be
+ *     followed by a fraction of up to 9 digits, truncated to milliseconds. Ranges are validated against the
+ *     calendar, including leap years. No intermediate String or Calendar is created: invalid texts return
+ *     {@link #INVALID} (or null) instead of throwing exceptions.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FixedDateParser {
+
+    /**
+     * Returned when the text does not match one of the layouts or has an invalid date.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int DATE_LENGTH = 10;
+    private static final int MINUTES_LENGTH = 16;
+    private static final int SECONDS_LENGTH = 19;
+    private static final int MAX_FRACTION = 9;
+    private static final long SECONDS_PER_DAY = 86400;
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int YEARS_PER_ERA = 400;
+
+    /**
+     * <p>
+     *     Parse the text to epoch milliseconds in the informed zone.
+     * </p>
+     *
+     * @param text Text
+     * @param zone Zone of the local date and time
+     * @return Epoch milliseconds or {@link #INVALID}
+     */
+    public static long parseEpochMillis(CharSequence text, ZoneId zone) {
+        return text == null ? INVALID : parseEpochMillis(text, 0, text.length(), zone);
+    }
+
+    /**
+     * <p>
+     *     Parse a region of the text to epoch milliseconds in the informed zone.
+     * </p>
+     *
+     * @param text Text
+     * @param begin Begin index, inclusive
+     * @param end End index, exclusive
+     * @param zone Zone of the local date and time
+     * @return Epoch milliseconds or {@link #INVALID}
+     */
+    public static long parseEpochMillis(CharSequence text, int begin, int end, ZoneId zone) {
+        final long localMillis = parseLocalMillis(text, begin, end);
+        return localMillis == INVALID ? INVALID : toEpochMillis(localMillis, zone);
+    }
+
+    /**
+     * <p>
+     *     Parse the text to the milliseconds of the local date and time since 1970-01-01T00:00, without zone.
+     * </p>
+     *
+     * @param text Text
+     * @param begin Begin index, inclusive
+     * @param end End index, exclusive
+     * @return Local epoch milliseconds or {@link #INVALID}
+     */
+    public static long parseLocalMillis(CharSequence text, int begin, int end) {
+        while (begin < end && Character.isWhitespace(text.charAt(begin))) {
+            ++begin;
+        }
+        while (end > begin && Character.isWhitespace(text.charAt(end - 1))) {
+            --end;
+        }
+        final int length = end - begin;
+        if (length < DATE_LENGTH) {
+            return INVALID;
+        }
+        final int year;
+        final int month;
+        final int day;
+        if (text.charAt(begin + 2) == '/' && text.charAt(begin + 5) == '/') {
+            day = twoDigits(text, begin);
+            month = twoDigits(text, begin + 3);
+            year = fourDigits(text, begin + 6);
+        } else if (text.charAt(begin + 4) == '-' && text.charAt(begin + 7) == '-') {
+            year = fourDigits(text, begin);
+            month = twoDigits(text, begin + 5);
+            day = twoDigits(text, begin + 8);
+        } else {
+            return INVALID;
+        }
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        long millis = epochDay(year, month, day) * SECONDS_PER_DAY * MILLIS_PER_SECOND;
+        if (length == DATE_LENGTH) {
+            return millis;
+        }
+        final char separator = text.charAt(begin + DATE_LENGTH);
+        if (length < MINUTES_LENGTH || separator != ' ' && separator != 'T'
+                || text.charAt(begin + 13) != ':') {
+            return INVALID;
+        }
+        final int hour = twoDigits(text, begin + 11);
+        final int minute = twoDigits(text, begin + 14);
+        int second = 0;
+        int millisOfSecond = 0;
+        if (length > MINUTES_LENGTH) {
+            if (length < SECONDS_LENGTH || text.charAt(begin + MINUTES_LENGTH) != ':') {
+                return INVALID;
+            }
+            second = twoDigits(text, begin + 17);
+            if (length > SECONDS_LENGTH) {
+                millisOfSecond = fraction(text, begin + SECONDS_LENGTH, end);
+            }
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+                || millisOfSecond < 0) {
+            return INVALID;
+        }
+        millis += (hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second) * MILLIS_PER_SECOND;
+        return millis + millisOfSecond;
+    }
+
+    /**
+     * <p>
+     *     Parse the text to a {@link LocalDateTime}.
+     * </p>
+     *
+     * @param text Text
+     * @return LocalDateTime or null when the text is invalid
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        final long localMillis = parseLocalMillis(text, 0, text.length());
+        if (localMillis == INVALID) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, MILLIS_PER_SECOND),
+                (int) Math.floorMod(localMillis, MILLIS_PER_SECOND) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * <p>
+     *     Days since 1970-01-01 of a date in the proleptic Gregorian calendar.
+     * </p>
+     *
+     * @param year Year
+     * @param month Month, from 1 to 12
+     * @param day Day of month
+     * @return Epoch day
+     */
+    public static long epochDay(int year, int month, int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = Math.floorDiv(y, YEARS_PER_ERA);
+        final int yearOfEra = y - era * YEARS_PER_ERA;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * <p>
+     *     Number of days in the month.
+     * </p>
+     *
+     * @param year Year
+     * @param month Month, from 1 to 12
+     * @return Days in month
+     */
+    public static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static long toEpochMillis(long localMillis, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return localMillis - ((ZoneOffset) zone).getTotalSeconds() * MILLIS_PER_SECOND;
+        }
+        final ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return localMillis - rules.getOffset(Instant.EPOCH).getTotalSeconds() * MILLIS_PER_SECOND;
+        }
+        final long localSecond = Math.floorDiv(localMillis, MILLIS_PER_SECOND);
+        return LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond()
+                * MILLIS_PER_SECOND + Math.floorMod(localMillis, MILLIS_PER_SECOND);
+    }
+
+    private static int fraction(CharSequence text, int begin, int end) {
+        final int digits = end - begin - 1;
+        if (text.charAt(begin) != '.' || digits < 1 || digits > MAX_FRACTION) {
+            return -1;
+        }
+        int millis = 0;
+        for (int i = 1; i <= 3; ++i) {
+            final int digit = i <= digits ? digit(text.charAt(begin + i)) : 0;
+            if (digit < 0) {
+                return -1;
+            }
+            millis = millis * 10 + digit;
+        }
+        for (int i = 4; i <= digits; ++i) {
+            if (digit(text.charAt(begin + i)) < 0) {
+                return -1;
+            }
+        }
+        return millis;
+    }
+
+    private static int twoDigits(CharSequence text, int index) {
+        final int tens = digit(text.charAt(index));
+        final int units = digit(text.charAt(index + 1));
+        return tens < 0 || units < 0 ? -1 : tens * 10 + units;
+    }
+
+    private static int fourDigits(CharSequence text, int index) {
+        final int high = twoDigits(text, index);
+        final int low = twoDigits(text, index + 2);
+        return high < 0 || low < 0 ? -1 : high * 100 + low;
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+}
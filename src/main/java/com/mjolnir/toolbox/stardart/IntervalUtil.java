@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.ZoneId;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Intervals between epoch milliseconds as primitive {@code long} values, the counterpart of
+ *     {@link DataUtil#getDaysBetweenDates}, {@link DataUtil#getSecondsBetweenDates} and
+ *     {@link DataUtil#getHoursBetweenDates} without {@code Float}, {@code double} or {@link java.math.BigDecimal}.
+ * </p>
+ * <p>
+ *     The results are the same of {@link java.time.temporal.ChronoUnit#between}: the interval is truncated to
+ *     complete units and is negative when the end is before the start. Seconds, minutes, hours and
+ *     {@link #elapsedDays(long, long)} are exact durations. Days, months and years with a zone are calendar units
+ *     of the local date and time, so a day with a daylight saving transition still counts as one day.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntervalUtil {
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int DAY_BITS = 5;
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_ERA = 146_097;
+    private static final int DAYS_PER_YEAR = 365;
+
+    /**
+     * <p>
+     *     Milliseconds between the instants.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @return Milliseconds
+     */
+    public static long millisBetween(long start, long end) {
+        return Math.subtractExact(end, start);
+    }
+
+    /**
+     * <p>
+     *     Complete seconds between the instants.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @return Seconds
+     */
+    public static long secondsBetween(long start, long end) {
+        return millisBetween(start, end) / EpochDateUtil.MILLIS_PER_SECOND;
+    }
+
+    /**
+     * <p>
+     *     Complete minutes between the instants.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @return Minutes
+     */
+    public static long minutesBetween(long start, long end) {
+        return millisBetween(start, end) / EpochDateUtil.MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * <p>
+     *     Complete hours between the instants.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @return Hours
+     */
+    public static long hoursBetween(long start, long end) {
+        return millisBetween(start, end) / EpochDateUtil.MILLIS_PER_HOUR;
+    }
+
+    /**
+     * <p>
+     *     Complete periods of 24 hours between the instants, without zone.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @return Periods of 24 hours
+     */
+    public static long elapsedDays(long start, long end) {
+        return millisBetween(start, end) / EpochDateUtil.MILLIS_PER_DAY;
+    }
+
+    /**
+     * <p>
+     *     Complete calendar days between the instants in the zone.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @param zone Zone
+     * @return Days
+     */
+    public static long daysBetween(long start, long end, ZoneId zone) {
+        final long localStart = EpochDateUtil.toLocal(start, zone);
+        final long localEnd = EpochDateUtil.toLocal(end, zone);
+        final long days = Math.floorDiv(localEnd, EpochDateUtil.MILLIS_PER_DAY)
+                - Math.floorDiv(localStart, EpochDateUtil.MILLIS_PER_DAY);
+        final long time = Math.floorMod(localEnd, EpochDateUtil.MILLIS_PER_DAY)
+                - Math.floorMod(localStart, EpochDateUtil.MILLIS_PER_DAY);
+        if (days > 0 && time < 0) {
+            return days - 1;
+        }
+        if (days < 0 && time > 0) {
+            return days + 1;
+        }
+        return days;
+    }
+
+    /**
+     * <p>
+     *     Complete months between the instants in the zone.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @param zone Zone
+     * @return Months
+     */
+    public static long monthsBetween(long start, long end, ZoneId zone) {
+        final long localStart = EpochDateUtil.toLocal(start, zone);
+        final long localEnd = EpochDateUtil.toLocal(end, zone);
+        final long startDay = Math.floorDiv(localStart, EpochDateUtil.MILLIS_PER_DAY);
+        long endDay = Math.floorDiv(localEnd, EpochDateUtil.MILLIS_PER_DAY);
+        final long time = Math.floorMod(localEnd, EpochDateUtil.MILLIS_PER_DAY)
+                - Math.floorMod(localStart, EpochDateUtil.MILLIS_PER_DAY);
+        if (endDay > startDay && time < 0) {
+            --endDay;
+        } else if (endDay < startDay && time > 0) {
+            ++endDay;
+        }
+        return monthsBetweenDays(startDay, endDay);
+    }
+
+    /**
+     * <p>
+     *     Complete years between the instants in the zone.
+     * </p>
+     *
+     * @param start Start epoch milliseconds
+     * @param end End epoch milliseconds
+     * @param zone Zone
+     * @return Years
+     */
+    public static long yearsBetween(long start, long end, ZoneId zone) {
+        return monthsBetween(start, end, zone) / MONTHS_PER_YEAR;
+    }
+
+    /**
+     * <p>
+     *     Complete months between two epoch days, the same as {@link java.time.LocalDate#until}: a month is complete
+     *     when the end day of month reaches the start day of month, so from January 31 it is only complete on
+     *     March 31.
+     * </p>
+     *
+     * @param startEpochDay Start epoch day
+     * @param endEpochDay End epoch day
+     * @return Months
+     */
+    public static long monthsBetweenDays(long startEpochDay, long endEpochDay) {
+        return (packedMonthDay(endEpochDay) - packedMonthDay(startEpochDay)) / (1 << DAY_BITS);
+    }
+
+    /**
+     * <p>
+     *     Complete years between two epoch days.
+     * </p>
+     *
+     * @param startEpochDay Start epoch day
+     * @param endEpochDay End epoch day
+     * @return Years
+     */
+    public static long yearsBetweenDays(long startEpochDay, long endEpochDay) {
+        return monthsBetweenDays(startEpochDay, endEpochDay) / MONTHS_PER_YEAR;
+    }
+
+    /**
+     * <p>
+     *     Age in complete years on a date. Who was born on February 29 completes the year on March 1 of common
+     *     years.
+     * </p>
+     *
+     * @param birthEpochDay Epoch day of the birth
+     * @param todayEpochDay Epoch day of the reference date
+     * @return Age
+     */
+    public static int age(long birthEpochDay, long todayEpochDay) {
+        return Math.toIntExact(yearsBetweenDays(birthEpochDay, todayEpochDay));
+    }
+
+    /**
+     * <p>
+     *     Months since year zero of the epoch day ({@code year * 12 + month - 1}).
+     * </p>
+     *
+     * @param epochDay Epoch day
+     * @return Proleptic month
+     */
+    static long prolepticMonth(long epochDay) {
+        return packedMonthDay(epochDay) >> DAY_BITS;
+    }
+
+    /**
+     * <p>
+     *     Proleptic month of the epoch day shifted left, plus the day of month, for month differences.
+     * </p>
+     *
+     * @param epochDay Epoch day
+     * @return Packed month and day
+     */
+    private static long packedMonthDay(long epochDay) {
+        final long shifted = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        final long dayOfEra = shifted - era * DAYS_PER_ERA;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / DAYS_PER_YEAR;
+        final long dayOfYear = dayOfEra - (DAYS_PER_YEAR * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long monthIndex = (5 * dayOfYear + 2) / 153;
+        final long day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        final long month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return ((year * MONTHS_PER_YEAR + month - 1) << DAY_BITS) + day;
+    }
+}
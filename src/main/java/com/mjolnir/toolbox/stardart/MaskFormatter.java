@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ *     Precompiled text mask, like {@code ###.###.###-##}.
+ * </p>
+ * <p>
+ *     The mask is compiled once in a template with the literal characters and a table with the positions of
+ *     the value slots. Formatting copies the template and fills the slots in a single pass, so the output buffer
+ *     is allocated with its exact size. Instances are immutable and thread-safe, keep them in constants.
+ * </p>
+ * <p>
+ *     Dynamic masks can be taken from {@link #cached(String, String)}, a bounded cache of the masks compiled by
+ *     {@link #compile(String, String)}; when it reaches {@link #MAX_CACHE_SIZE} entries, arbitrary entries are
+ *     evicted before a new mask is stored.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     MaskFormatter cpf = MaskFormatter.compile("###.###.###-##");
+ *     cpf.format("11111111111"); // 111.111.111-11
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class MaskFormatter {
+
+    /**
+     * Default slot character of masks.
+     */
+    public static final char DEFAULT_SLOT = '#';
+    /**
+     * Maximum number of masks kept by {@link #cached(String, String)}.
+     */
+    public static final int MAX_CACHE_SIZE = 256;
+
+    private static final ConcurrentMap<Key, MaskFormatter> CACHE = new ConcurrentHashMap<>();
+
+    private final String mask;
+    private final char[] template;
+    private final int[] slotPositions;
+
+    private MaskFormatter(String mask, char[] template, int[] slotPositions) {
+        this.mask = mask;
+        this.template = template;
+        this.slotPositions = slotPositions;
+    }
+
+    /**
+     * <p>
+     *     Compile a mask where the {@link #DEFAULT_SLOT} character marks the value positions.
+     * </p>
+     *
+     * @param mask Mask
+     * @return Compiled mask
+     */
+    public static MaskFormatter compile(String mask) {
+        if (mask == null) {
+            throw new IllegalArgumentException("ERROR: Mask cannot be null.");
+        }
+        final char[] template = mask.toCharArray();
+        int slots = 0;
+        for (char c : template) {
+            if (c == DEFAULT_SLOT) {
+                ++slots;
+            }
+        }
+        final int[] slotPositions = new int[slots];
+        for (int i = 0, s = 0; i < template.length; ++i) {
+            if (template[i] == DEFAULT_SLOT) {
+                slotPositions[s++] = i;
+            }
+        }
+        return new MaskFormatter(mask, template, slotPositions);
+    }
+
+    /**
+     * <p>
+     *     Compile a mask where the characters in {@code controlCharacterMask} are literals and every other
+     *     character is a value position, as in {@link StringUtil#applyMaskInText(String, String, String)}.
+     * </p>
+     *
+     * @param mask Mask
+     * @param controlCharacterMask Literal characters of mask
+     * @return Compiled mask
+     */
+    public static MaskFormatter compile(String mask, String controlCharacterMask) {
+        if (mask == null || controlCharacterMask == null) {
+            throw new IllegalArgumentException("ERROR: Mask cannot be null.");
+        }
+        final char[] template = mask.toCharArray();
+        int slots = 0;
+        for (char c : template) {
+            if (controlCharacterMask.indexOf(c) < 0) {
+                ++slots;
+            }
+        }
+        final int[] slotPositions = new int[slots];
+        for (int i = 0, s = 0; i < template.length; ++i) {
+            if (controlCharacterMask.indexOf(template[i]) < 0) {
+                slotPositions[s++] = i;
+            }
+        }
+        return new MaskFormatter(mask, template, slotPositions);
+    }
+
+    /**
+     * <p>
+     *     Get the mask compiled by {@link #compile(String, String)} from the cache, compiling it on the first use.
+     * </p>
+     *
+     * @param mask Mask
+     * @param controlCharacterMask Literal characters of mask
+     * @return Compiled mask
+     */
+    public static MaskFormatter cached(String mask, String controlCharacterMask) {
+        if (mask == null || controlCharacterMask == null) {
+            throw new IllegalArgumentException("ERROR: Mask cannot be null.");
+        }
+        final Key key = new Key(mask, controlCharacterMask);
+        final MaskFormatter cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            final Iterator<Key> keys = CACHE.keySet().iterator();
+            while (CACHE.size() >= MAX_CACHE_SIZE && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        return CACHE.computeIfAbsent(key, k -> compile(k.mask, k.controlCharacterMask));
+    }
+
+    /**
+     * <p>
+     *     Get the source mask.
+     * </p>
+     *
+     * @return Mask
+     */
+    public String getMask() {
+        return mask;
+    }
+
+    /**
+     * <p>
+     *     Number of value positions in mask.
+     * </p>
+     *
+     * @return Number of slots
+     */
+    public int getSlots() {
+        return slotPositions.length;
+    }
+
+    /**
+     * <p>
+     *     Length of a fully formatted value.
+     * </p>
+     *
+     * @return Formatted length
+     */
+    public int getLength() {
+        return template.length;
+    }
+
+    /**
+     * <p>
+     *     Length of the formatted output for a value with {@code valueLength} characters. A value shorter
+     *     than the mask ends before the next value position, a longer value is truncated.
+     * </p>
+     *
+     * @param valueLength Length of the value
+     * @return Formatted length
+     */
+    public int formattedLength(int valueLength) {
+        return valueLength >= slotPositions.length ? template.length : slotPositions[valueLength];
+    }
+
+    /**
+     * <p>
+     *     Apply the mask in value.
+     * </p>
+     *
+     * @param value Value to format
+     * @return Formatted value, or empty String if value is null or empty
+     */
+    public String format(CharSequence value) {
+        if (value == null || value.length() == 0) {
+            return "";
+        }
+        final char[] out = new char[formattedLength(value.length())];
+        formatTo(value, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * <p>
+     *     Apply the mask in value, filling the missing positions on the left with {@code pad}.
+     * </p>
+     *
+     * @param value Value to format
+     * @param pad Pad character
+     * @return Formatted value
+     */
+    public String formatLeftPadded(CharSequence value, char pad) {
+        if (value == null) {
+            return null;
+        }
+        final char[] out = new char[template.length];
+        formatLeftPaddedTo(value, pad, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * <p>
+     *     Apply the mask in value writing in the buffer.
+     * </p>
+     *
+     * @param value Value to format
+     * @param destination Buffer with at least {@link #formattedLength(int)} free positions
+     * @param offset Initial position in buffer
+     * @return Number of characters written
+     */
+    public int formatTo(CharSequence value, char[] destination, int offset) {
+        final int length = formattedLength(value.length());
+        System.arraycopy(template, 0, destination, offset, length);
+        final int slots = Math.min(value.length(), slotPositions.length);
+        for (int i = 0; i < slots; ++i) {
+            destination[offset + slotPositions[i]] = value.charAt(i);
+        }
+        return length;
+    }
+
+    /**
+     * <p>
+     *     Apply the mask in value writing in the buffer, filling the missing positions on the left with
+     *     {@code pad}.
+     * </p>
+     *
+     * @param value Value to format
+     * @param pad Pad character
+     * @param destination Buffer with at least {@link #getLength()} free positions
+     * @param offset Initial position in buffer
+     * @return Number of characters written
+     */
+    public int formatLeftPaddedTo(CharSequence value, char pad, char[] destination, int offset) {
+        System.arraycopy(template, 0, destination, offset, template.length);
+        final int padding = Math.max(0, slotPositions.length - value.length());
+        for (int i = 0; i < padding; ++i) {
+            destination[offset + slotPositions[i]] = pad;
+        }
+        for (int i = padding; i < slotPositions.length; ++i) {
+            destination[offset + slotPositions[i]] = value.charAt(i - padding);
+        }
+        return template.length;
+    }
+
+    /**
+     * <p>
+     *     Apply the mask in value appending on the {@link StringBuilder}.
+     * </p>
+     *
+     * @param value Value to format
+     * @param destination StringBuilder
+     * @return The same StringBuilder
+     */
+    public StringBuilder formatTo(CharSequence value, StringBuilder destination) {
+        final int length = formattedLength(value.length());
+        for (int i = 0, s = 0; i < length; ++i) {
+            if (s < slotPositions.length && slotPositions[s] == i) {
+                destination.append(value.charAt(s++));
+            } else {
+                destination.append(template[i]);
+            }
+        }
+        return destination;
+    }
+
+    @Override
+    public String toString() {
+        return mask;
+    }
+
+    /**
+     * <p>
+     *     Key of the cache: mask and literal characters.
+     * </p>
+     */
+    private static final class Key {
+
+        private final String mask;
+        private final String controlCharacterMask;
+
+        Key(String mask, String controlCharacterMask) {
+            this.mask = mask;
+            this.controlCharacterMask = controlCharacterMask;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return mask.equals(other.mask) && controlCharacterMask.equals(other.controlCharacterMask);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * mask.hashCode() + controlCharacterMask.hashCode();
+        }
+    }
+}
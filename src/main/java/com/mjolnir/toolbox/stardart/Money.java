@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * <p>
+ *     Immutable monetary value with two decimal places, kept as a {@code long} of cents.
+ * </p>
+ * <p>
+ *     Sums, subtractions and multiplications by integers are exact and throw {@link ArithmeticException} on
+ *     overflow, like {@link Math#addExact(long, long)}. Divisions and multiplications by rates are rounded with a
+ *     {@link RoundingMode}; the methods without mode use {@link #DEFAULT_ROUNDING}, the same mode of the
+ *     {@link NumberUtil} conversions ({@link RoundingMode#FLOOR}). The operations use only {@code long} arithmetic
+ *     ({@link NumberUtil#divideRounding} and {@link NumberUtil#multiplyRounding}), without {@link BigDecimal}.
+ * </p>
+ * <p>
+ *     {@link #format()} and {@link #parse(CharSequence)} use the Brazilian format ({@code 1.234,56}) directly,
+ *     without {@link java.text.NumberFormat}.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     Money total = Money.ofCents(10_000).multiply(3).plus(Money.parse("R$ 12,34"));
+ *     total.formatCurrency(); // R$ 312,34
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Decimal places.
+     */
+    public static final int SCALE = 2;
+    /**
+     * Cents in one unit.
+     */
+    public static final long CENTS_PER_UNIT = 100;
+    /**
+     * Rounding mode of the methods without mode.
+     */
+    public static final RoundingMode DEFAULT_ROUNDING = NumberUtil.ROUNDING_MODE;
+    /**
+     * Zero.
+     */
+    public static final Money ZERO = new Money(0);
+
+    private static final String CURRENCY_SYMBOL = "R$ ";
+    private static final int GROUP_SIZE = 3;
+    private static final int TEN = 10;
+    private static final int MAX_DIGITS = 17;
+    private static final int DECIMAL_DIGITS = 3;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * <p>
+     *     Value in cents.
+     * </p>
+     *
+     * @param cents Cents
+     * @return Money
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * <p>
+     *     Value in whole units (reais).
+     * </p>
+     *
+     * @param units Units
+     * @return Money
+     */
+    public static Money ofUnits(long units) {
+        return ofCents(Math.multiplyExact(units, CENTS_PER_UNIT));
+    }
+
+    /**
+     * <p>
+     *     Convert a BigDecimal, rounding with {@link #DEFAULT_ROUNDING} when it has more than two decimals.
+     * </p>
+     *
+     * @param value Value
+     * @return Money
+     */
+    public static Money of(BigDecimal value) {
+        return of(value, DEFAULT_ROUNDING);
+    }
+
+    /**
+     * <p>
+     *     Convert a BigDecimal, rounding with the mode when it has more than two decimals.
+     * </p>
+     *
+     * @param value Value
+     * @param mode Rounding mode
+     * @return Money
+     */
+    public static Money of(BigDecimal value, RoundingMode mode) {
+        if (value == null) {
+            throw new IllegalArgumentException("ERROR: Value cannot be null.");
+        }
+        return ofCents(value.setScale(SCALE, mode).unscaledValue().longValueExact());
+    }
+
+    /**
+     * <p>
+     *     Parse a value in Brazilian format, like {@code 1.234,56}, {@code -10,5}, {@code 1234} or
+     *     {@code R$ 1.234,56}. Decimals beyond the second are rounded with {@link #DEFAULT_ROUNDING}. Thousands
+     *     separators are optional, but when present every group after the first must have three digits
+     *     ({@code 1.2.3} is rejected).
+     * </p>
+     *
+     * @param text Text
+     * @return Money
+     * @throws IllegalArgumentException If the text is not a monetary value or is out of the range of cents
+     */
+    public static Money parse(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("ERROR: Value cannot be null.");
+        }
+        int begin = 0;
+        int end = text.length();
+        while (begin < end && Character.isWhitespace(text.charAt(begin))) {
+            ++begin;
+        }
+        while (end > begin && Character.isWhitespace(text.charAt(end - 1))) {
+            --end;
+        }
+        boolean negative = false;
+        if (begin < end && (text.charAt(begin) == '-' || text.charAt(begin) == '+')) {
+            negative = text.charAt(begin) == '-';
+            ++begin;
+        }
+        if (end - begin >= 2 && text.charAt(begin) == 'R' && text.charAt(begin + 1) == '$') {
+            begin += 2;
+            while (begin < end && Character.isWhitespace(text.charAt(begin))) {
+                ++begin;
+            }
+        }
+        long units = 0;
+        int unitDigits = 0;
+        int groupDigits = 0;
+        boolean grouped = false;
+        // Only the first three decimals and whether any other is not zero are kept: enough to round to cents.
+        long decimals = 0;
+        int decimalDigits = 0;
+        boolean sticky = false;
+        boolean inDecimals = false;
+        for (int i = begin; i < end; ++i) {
+            final char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (inDecimals) {
+                    if (decimalDigits < DECIMAL_DIGITS) {
+                        decimals = decimals * TEN + (c - '0');
+                        ++decimalDigits;
+                    } else {
+                        sticky |= c != '0';
+                    }
+                    continue;
+                }
+                if ((units != 0 || c != '0') && ++unitDigits > MAX_DIGITS) {
+                    throw new IllegalArgumentException("ERROR: Value out of range: " + text);
+                }
+                units = units * TEN + (c - '0');
+                ++groupDigits;
+            } else if (c == ',' && !inDecimals && isGroupEnd(groupDigits, grouped)) {
+                inDecimals = true;
+            } else if (c == '.' && !inDecimals && groupDigits > 0 && groupDigits <= GROUP_SIZE
+                    && isGroupEnd(groupDigits, grouped)) {
+                grouped = true;
+                groupDigits = 0;
+            } else {
+                throw new IllegalArgumentException("ERROR: Invalid monetary value: " + text);
+            }
+        }
+        if (groupDigits + decimalDigits == 0 || !isGroupEnd(groupDigits, grouped)) {
+            throw new IllegalArgumentException("ERROR: Invalid monetary value: " + text);
+        }
+        long decimalsScale = 1;
+        for (int i = 0; i < decimalDigits; ++i) {
+            decimalsScale *= TEN;
+        }
+        if (sticky) {
+            decimals = decimals * TEN + 1;
+            decimalsScale *= TEN;
+        }
+        final long signum = negative ? -1 : 1;
+        final long fraction = NumberUtil.multiplyRounding(signum * decimals, CENTS_PER_UNIT, decimalsScale,
+                DEFAULT_ROUNDING);
+        try {
+            return ofCents(Math.addExact(Math.multiplyExact(signum * units, CENTS_PER_UNIT), fraction));
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("ERROR: Value out of range: " + text, ex);
+        }
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * <p>
+     *     Value as BigDecimal with two decimals.
+     * </p>
+     *
+     * @return BigDecimal
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * <p>
+     *     Sum.
+     * </p>
+     *
+     * @param other Value to sum
+     * @return Sum
+     */
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * <p>
+     *     Subtraction.
+     * </p>
+     *
+     * @param other Value to subtract
+     * @return Difference
+     */
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * <p>
+     *     Multiplication by an integer.
+     * </p>
+     *
+     * @param factor Factor
+     * @return Product
+     */
+    public Money multiply(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * <p>
+     *     Multiplication by the fraction {@code numerator / denominator}, like a rate of 1,99% as
+     *     {@code multiply(199, 10_000, mode)}.
+     * </p>
+     *
+     * @param numerator Numerator
+     * @param denominator Denominator, greater than zero
+     * @param mode Rounding mode
+     * @return Rounded product
+     */
+    public Money multiply(long numerator, long denominator, RoundingMode mode) {
+        return ofCents(NumberUtil.multiplyRounding(cents, numerator, checkDivisor(denominator), mode));
+    }
+
+    /**
+     * <p>
+     *     Multiplication by the fraction {@code numerator / denominator} rounded with {@link #DEFAULT_ROUNDING}.
+     * </p>
+     *
+     * @param numerator Numerator
+     * @param denominator Denominator, greater than zero
+     * @return Rounded product
+     */
+    public Money multiply(long numerator, long denominator) {
+        return multiply(numerator, denominator, DEFAULT_ROUNDING);
+    }
+
+    /**
+     * <p>
+     *     Division by an integer.
+     * </p>
+     *
+     * @param divisor Divisor, greater than zero
+     * @param mode Rounding mode
+     * @return Rounded quotient
+     */
+    public Money divide(long divisor, RoundingMode mode) {
+        return ofCents(NumberUtil.divideRounding(cents, checkDivisor(divisor), mode));
+    }
+
+    /**
+     * <p>
+     *     Division by an integer rounded with {@link #DEFAULT_ROUNDING}.
+     * </p>
+     *
+     * @param divisor Divisor, greater than zero
+     * @return Rounded quotient
+     */
+    public Money divide(long divisor) {
+        return divide(divisor, DEFAULT_ROUNDING);
+    }
+
+    /**
+     * <p>
+     *     Split in parts: every part has the value divided by the number of parts, truncated to cents, and the
+     *     remaining cents are spread one by one over the first parts. The sum of the parts is exactly this value,
+     *     the parts differ by one cent at most and none has a sign opposite to this value
+     *     ({@code ofCents(100).split(3)} is 0,34, 0,33 and 0,33).
+     * </p>
+     *
+     * @param parts Number of parts, greater than zero
+     * @return Parts
+     */
+    public Money[] split(int parts) {
+        final long divisor = checkDivisor(parts);
+        // Division and remainder truncate toward zero, so both have the sign of this value.
+        final Money base = ofCents(cents / divisor);
+        final int remainder = (int) Math.abs(cents % divisor);
+        final Money larger = ofCents(base.cents + Long.signum(cents));
+        final Money[] result = new Money[parts];
+        for (int i = 0; i < parts; ++i) {
+            result[i] = i < remainder ? larger : base;
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     *     Negation.
+     * </p>
+     *
+     * @return Negated value
+     */
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    /**
+     * <p>
+     *     Absolute value.
+     * </p>
+     *
+     * @return Absolute value
+     */
+    public Money abs() {
+        return cents < 0 ? negate() : this;
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    /**
+     * <p>
+     *     Format in Brazilian format, like {@code 1.234,56}.
+     * </p>
+     *
+     * @return Formatted value
+     */
+    public String format() {
+        return appendTo(new StringBuilder(), false).toString();
+    }
+
+    /**
+     * <p>
+     *     Format in Brazilian currency format, like {@code R$ 1.234,56}.
+     * </p>
+     *
+     * @return Formatted value
+     */
+    public String formatCurrency() {
+        return appendTo(new StringBuilder(), true).toString();
+    }
+
+    /**
+     * <p>
+     *     Append the value in Brazilian format, with grouping of thousands and two decimals.
+     * </p>
+     *
+     * @param sb Destination
+     * @param currency Prefix with {@code R$ }
+     * @return The destination
+     */
+    public StringBuilder appendTo(StringBuilder sb, boolean currency) {
+        if (cents < 0) {
+            sb.append('-');
+        }
+        if (currency) {
+            sb.append(CURRENCY_SYMBOL);
+        }
+        // Negative remainders avoid the overflow of Long.MIN_VALUE.
+        final long negativeCents = cents < 0 ? cents : -cents;
+        final long units = -(negativeCents / CENTS_PER_UNIT);
+        final int fraction = (int) -(negativeCents % CENTS_PER_UNIT);
+        final String digits = Long.toString(units);
+        final int firstGroup = digits.length() % GROUP_SIZE == 0 ? GROUP_SIZE : digits.length() % GROUP_SIZE;
+        sb.append(digits, 0, firstGroup);
+        for (int i = firstGroup; i < digits.length(); i += GROUP_SIZE) {
+            sb.append('.').append(digits, i, i + GROUP_SIZE);
+        }
+        sb.append(',');
+        if (fraction < TEN) {
+            sb.append('0');
+        }
+        return sb.append(fraction);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Money && ((Money) o).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return "Money{value=" + toBigDecimal().toPlainString() + "}";
+    }
+
+    /**
+     * <p>
+     *     True if the digits read can end a group: any number before the first separator, exactly three after it.
+     * </p>
+     */
+    private static boolean isGroupEnd(int groupDigits, boolean grouped) {
+        return !grouped || groupDigits == GROUP_SIZE;
+    }
+
+    private static long checkDivisor(long divisor) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("ERROR: Divisor must be greater than zero: " + divisor);
+        }
+        return divisor;
+    }
+}
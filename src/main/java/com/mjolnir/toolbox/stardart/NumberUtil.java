@@ -22,7 +22,10 @@ import lombok.extern.slf4j.Slf4j;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class NumberUtil {
 
-    private static final RoundingMode ROUNDING_MODE = RoundingMode.valueOf(3);
+    /**
+     * Rounding mode of the conversions ({@link RoundingMode#FLOOR}).
+     */
+    static final RoundingMode ROUNDING_MODE = RoundingMode.valueOf(3);
 
     /**
      * <p>
@@ -519,6 +522,72 @@ public class NumberUtil {
         return value == null || value == 0;
     }
 
+    /**
+     * <p>
+     *     Divide two long numbers rounding the quotient with the rounding mode, without BigDecimal.
+     * </p>
+     * @param dividend Dividend
+     * @param divisor Divisor, greater than zero
+     * @param mode Rounding mode
+     * @return Rounded quotient
+     */
+    public static long divideRounding(long dividend, long divisor, RoundingMode mode) {
+        final long quotient = dividend / divisor;
+        final long remainder = Math.abs(dividend % divisor);
+        if (remainder == 0) {
+            return quotient;
+        }
+        final int signum = dividend < 0 ? -1 : 1;
+        final boolean increment;
+        switch (mode) {
+            case UP:
+                increment = true;
+                break;
+            case DOWN:
+                increment = false;
+                break;
+            case CEILING:
+                increment = signum > 0;
+                break;
+            case FLOOR:
+                increment = signum < 0;
+                break;
+            case HALF_UP:
+                increment = remainder >= divisor - remainder;
+                break;
+            case HALF_DOWN:
+                increment = remainder > divisor - remainder;
+                break;
+            case HALF_EVEN:
+                increment = remainder > divisor - remainder
+                        || remainder == divisor - remainder && (quotient & 1) != 0;
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return increment ? quotient + signum : quotient;
+    }
+
+    /**
+     * <p>
+     *     Calculate {@code value * factor / divisor} rounding with the rounding mode. Uses BigDecimal only when
+     *     the product overflows a long.
+     * </p>
+     * @param value Value
+     * @param factor Factor
+     * @param divisor Divisor, greater than zero
+     * @param mode Rounding mode
+     * @return Rounded result
+     */
+    public static long multiplyRounding(long value, long factor, long divisor, RoundingMode mode) {
+        final long product = value * factor;
+        if (Math.multiplyHigh(value, factor) == (product >> (Long.SIZE - 1))) {
+            return divideRounding(product, divisor, mode);
+        }
+        return BigDecimal.valueOf(value).multiply(BigDecimal.valueOf(factor))
+                .divide(BigDecimal.valueOf(divisor), 0, mode).longValueExact();
+    }
+
     /**
      * <p>
      *     Null safe Big Decimal verification.
@@ -223,32 +223,7 @@ public class StringUtil {
             // retorna vazio
             return "";
         }
-        int nCount = 0;
-        String valorFormatado = "";
-        // realiza interação em todas as posições da mascara
-        for (int i = 0; i <= mask.length() - 1; i++) {
-            try {
-                char caracter = ' ';
-                // captura caracter da mascara no indice informado
-                caracter = mask.charAt(i);
-                // verifica se caracter capturado é igual aos caracteres de controle
-                boolean bolMask = controlCharacterMask.contains(caracter + "");
-                // se for igual a caracter de controle
-                if (bolMask) {
-                    // adiciona caracter de controle
-                    valorFormatado += caracter + "";
-                } else {
-                    // senão irá adicionar o valor capturado a partir do indice informado
-                    valorFormatado += yourText.charAt(nCount);
-                    nCount++;
-                }
-            } catch (StringIndexOutOfBoundsException e) {
-//                LOGGER.error("ERRO: Não foi possivel formatar a String com a"
-//                        + " mascara proposta.", e);
-                // quando a formatação for concluída lança exception
-                return valorFormatado;
-            }
-        }
-        return valorFormatado;
+        // recupera a mascara compilada e preenche as posições que não são caracteres de controle com o texto
+        return MaskFormatter.cached(mask, controlCharacterMask).format(yourText);
     }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * <p>
+ *     Time bucket of a fixed duration (1 second, 5 minutes, 1 hour, 1 day...), of ISO weeks (monday to sunday) or
+ *     of calendar months, in the local time of a zone. The general form of {@link DataUtil#floorHours} and
+ *     {@link DataUtil#ceilHour}, over epoch milliseconds and without {@link java.util.Calendar}.
+ * </p>
+ * <p>
+ *     Each bucket has a {@code long} key: fixed durations count units of local time since 1970-01-01T00:00 (so
+ *     buckets that divide one day are aligned to the local midnight), weeks count ISO weeks since 1969-12-29 and
+ *     months count months since year zero. The keys are contiguous, so they can be used as indexes of arrays or
+ *     as keys of {@link BucketCounter}. A bucket starting in a gap of the zone rules starts at the end of the gap.
+ * </p>
+ * <p>
+ *     When the zone is a {@link java.time.ZoneOffset} the calculation is plain arithmetic. Instances are immutable
+ *     and thread-safe.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     TimeBucket fiveMinutes = TimeBucket.of(Duration.ofMinutes(5), EpochDateUtil.BRAZIL_OFFSET);
+ *     long start = fiveMinutes.floor(System.currentTimeMillis());
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class TimeBucket {
+
+    /**
+     * Kind of bucket.
+     */
+    private enum Kind {
+        FIXED, WEEK, MONTH
+    }
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MONDAY_BEFORE_EPOCH = 3;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private final Kind kind;
+    private final long unitMillis;
+    private final ZoneId zone;
+
+    private TimeBucket(Kind kind, long unitMillis, ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("ERROR: Zone cannot be null.");
+        }
+        this.kind = kind;
+        this.unitMillis = unitMillis;
+        this.zone = zone;
+    }
+
+    /**
+     * <p>
+     *     Buckets of a fixed duration of local time.
+     * </p>
+     *
+     * @param duration Duration, of at least one millisecond
+     * @param zone Zone
+     * @return Time bucket
+     */
+    public static TimeBucket of(Duration duration, ZoneId zone) {
+        final long millis = duration.toMillis();
+        if (millis <= 0) {
+            throw new IllegalArgumentException("ERROR: Duration must be at least one millisecond: " + duration);
+        }
+        return new TimeBucket(Kind.FIXED, millis, zone);
+    }
+
+    /**
+     * <p>
+     *     Buckets of one local day.
+     * </p>
+     *
+     * @param zone Zone
+     * @return Time bucket
+     */
+    public static TimeBucket days(ZoneId zone) {
+        return new TimeBucket(Kind.FIXED, EpochDateUtil.MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * <p>
+     *     Buckets of one ISO week, from monday to sunday.
+     * </p>
+     *
+     * @param zone Zone
+     * @return Time bucket
+     */
+    public static TimeBucket weeks(ZoneId zone) {
+        return new TimeBucket(Kind.WEEK, DAYS_PER_WEEK * EpochDateUtil.MILLIS_PER_DAY, zone);
+    }
+
+    /**
+     * <p>
+     *     Buckets of one calendar month.
+     * </p>
+     *
+     * @param zone Zone
+     * @return Time bucket
+     */
+    public static TimeBucket months(ZoneId zone) {
+        return new TimeBucket(Kind.MONTH, 0, zone);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * <p>
+     *     Verify if the buckets have a fixed duration of local time (not weeks or months).
+     * </p>
+     *
+     * @return True for fixed durations
+     */
+    public boolean isFixed() {
+        return kind == Kind.FIXED;
+    }
+
+    /**
+     * <p>
+     *     Duration of the buckets in local time; zero for months.
+     * </p>
+     *
+     * @return Milliseconds
+     */
+    public long getUnitMillis() {
+        return unitMillis;
+    }
+
+    /**
+     * <p>
+     *     Key of the bucket of the instant.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Bucket key
+     */
+    public long key(long epochMillis) {
+        final long local = EpochDateUtil.toLocal(epochMillis, zone);
+        switch (kind) {
+            case FIXED:
+                return Math.floorDiv(local, unitMillis);
+            case WEEK:
+                return Math.floorDiv(Math.floorDiv(local, EpochDateUtil.MILLIS_PER_DAY) + MONDAY_BEFORE_EPOCH,
+                        DAYS_PER_WEEK);
+            default:
+                return IntervalUtil.prolepticMonth(Math.floorDiv(local, EpochDateUtil.MILLIS_PER_DAY));
+        }
+    }
+
+    /**
+     * <p>
+     *     First instant of the bucket.
+     * </p>
+     *
+     * @param key Bucket key
+     * @return Epoch milliseconds
+     */
+    public long start(long key) {
+        return EpochDateUtil.fromLocal(localStart(key), zone);
+    }
+
+    /**
+     * <p>
+     *     First instant after the bucket, the start of the next one.
+     * </p>
+     *
+     * @param key Bucket key
+     * @return Epoch milliseconds
+     */
+    public long end(long key) {
+        return start(key + 1);
+    }
+
+    /**
+     * <p>
+     *     Start of the bucket of the instant.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Epoch milliseconds
+     */
+    public long floor(long epochMillis) {
+        if (kind == Kind.FIXED) {
+            // Keeps the offset of the instant when the start is in an overlap, like ZonedDateTime#truncatedTo.
+            return EpochDateUtil.truncate(epochMillis, unitMillis, zone);
+        }
+        return start(key(epochMillis));
+    }
+
+    /**
+     * <p>
+     *     The instant itself when it is the start of a bucket, otherwise the start of the next bucket.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Epoch milliseconds
+     */
+    public long ceil(long epochMillis) {
+        final long floor = floor(epochMillis);
+        return floor == epochMillis ? floor : end(key(epochMillis));
+    }
+
+    @Override
+    public String toString() {
+        return "TimeBucket{kind=" + kind + ", unitMillis=" + unitMillis + ", zone=" + zone + "}";
+    }
+
+    private long localStart(long key) {
+        switch (kind) {
+            case FIXED:
+                return key * unitMillis;
+            case WEEK:
+                return (key * DAYS_PER_WEEK - MONDAY_BEFORE_EPOCH) * EpochDateUtil.MILLIS_PER_DAY;
+            default:
+                final int year = Math.toIntExact(Math.floorDiv(key, MONTHS_PER_YEAR));
+                final int month = Math.floorMod(key, MONTHS_PER_YEAR) + 1;
+                return FixedDateParser.epochDay(year, month, 1) * EpochDateUtil.MILLIS_PER_DAY;
+        }
+    }
+}
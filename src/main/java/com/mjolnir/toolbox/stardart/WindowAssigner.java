@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * <p>
+ *     Assign instants to tumbling or sliding windows, identified by the key of their first {@link TimeBucket}.
+ * </p>
+ * <p>
+ *     Tumbling windows are the buckets themselves: every instant is in exactly one window. Sliding windows have a
+ *     size and start every slide (both in local time), so an instant is in up to {@link #getMaxWindows()}
+ *     windows. The keys are written to a caller array, so nothing is allocated per event.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     WindowAssigner lastHour = WindowAssigner.sliding(Duration.ofHours(1), Duration.ofMinutes(5), zone);
+ *     long[] windows = new long[lastHour.getMaxWindows()];
+ *     int count = lastHour.assign(eventMillis, windows);
+ *     for (int i = 0; i &lt; count; ++i) {
+ *         counter.increment(windows[i]);
+ *     }
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class WindowAssigner {
+
+    private final TimeBucket slide;
+    private final long sizeMillis;
+    private final int maxWindows;
+
+    private WindowAssigner(TimeBucket slide, long sizeMillis, int maxWindows) {
+        this.slide = slide;
+        this.sizeMillis = sizeMillis;
+        this.maxWindows = maxWindows;
+    }
+
+    /**
+     * <p>
+     *     Tumbling windows of the buckets.
+     * </p>
+     *
+     * @param bucket Time bucket
+     * @return Window assigner
+     */
+    public static WindowAssigner tumbling(TimeBucket bucket) {
+        if (bucket == null) {
+            throw new IllegalArgumentException("ERROR: Bucket cannot be null.");
+        }
+        return new WindowAssigner(bucket, 0, 1);
+    }
+
+    /**
+     * <p>
+     *     Sliding windows of the size, starting every slide.
+     * </p>
+     *
+     * @param size Size of the windows
+     * @param slide Interval between the starts of the windows
+     * @param zone Zone
+     * @return Window assigner
+     */
+    public static WindowAssigner sliding(Duration size, Duration slide, ZoneId zone) {
+        final TimeBucket bucket = TimeBucket.of(slide, zone);
+        final long sizeMillis = size.toMillis();
+        if (sizeMillis <= 0) {
+            throw new IllegalArgumentException("ERROR: Size must be at least one millisecond: " + size);
+        }
+        final long slideMillis = bucket.getUnitMillis();
+        return new WindowAssigner(bucket, sizeMillis, Math.toIntExact((sizeMillis + slideMillis - 1) / slideMillis));
+    }
+
+    /**
+     * <p>
+     *     Maximum number of windows of one instant; the size of the array of {@link #assign(long, long[])}.
+     * </p>
+     *
+     * @return Maximum windows
+     */
+    public int getMaxWindows() {
+        return maxWindows;
+    }
+
+    /**
+     * <p>
+     *     Write the keys of the windows of the instant, in ascending order.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param windows Destination, with at least {@link #getMaxWindows()} elements
+     * @return Number of windows written
+     */
+    public int assign(long epochMillis, long[] windows) {
+        final long last = slide.key(epochMillis);
+        if (sizeMillis == 0) {
+            windows[0] = last;
+            return 1;
+        }
+        final long local = EpochDateUtil.toLocal(epochMillis, slide.getZone());
+        final long first = Math.floorDiv(local - sizeMillis, slide.getUnitMillis()) + 1;
+        int count = 0;
+        for (long key = first; key <= last; ++key) {
+            windows[count++] = key;
+        }
+        return count;
+    }
+
+    /**
+     * <p>
+     *     First instant of the window.
+     * </p>
+     *
+     * @param key Window key
+     * @return Epoch milliseconds
+     */
+    public long start(long key) {
+        return slide.start(key);
+    }
+
+    /**
+     * <p>
+     *     First instant after the window.
+     * </p>
+     *
+     * @param key Window key
+     * @return Epoch milliseconds
+     */
+    public long end(long key) {
+        if (sizeMillis == 0) {
+            return slide.end(key);
+        }
+        return EpochDateUtil.fromLocal(key * slide.getUnitMillis() + sizeMillis, slide.getZone());
+    }
+
+    @Override
+    public String toString() {
+        return "WindowAssigner{slide=" + slide + ", sizeMillis=" + sizeMillis + "}";
+    }
+}
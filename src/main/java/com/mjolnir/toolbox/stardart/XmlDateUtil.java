@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ *     Conversion of dates to and from the XML Schema {@code dateTime} lexical form
+ *     ({@code 2020-01-09T10:15:30-03:00}), used by NF-e and other JAXB documents.
+ * </p>
+ * <p>
+ *     The lexical form is written and read by position, without {@link java.util.GregorianCalendar} or
+ *     {@link java.time.format.DateTimeFormatter}. The {@link DatatypeFactory} is looked up once, on first use,
+ *     instead of running the service loader of {@link DatatypeFactory#newInstance()} on every conversion.
+ *     The precision of the conversions is milliseconds.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class XmlDateUtil {
+
+    private static final int LOCAL_LENGTH = 19;
+    private static final int OFFSET_LENGTH = 6;
+    private static final int MILLIS_LENGTH = 4;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MILLIS_PER_NANO = 1_000_000;
+
+    /**
+     * Lazy holder of the DatatypeFactory.
+     */
+    private static final class FactoryHolder {
+        private static final DatatypeFactory FACTORY = newFactory();
+
+        private static DatatypeFactory newFactory() {
+            try {
+                return DatatypeFactory.newInstance();
+            } catch (DatatypeConfigurationException e) {
+                throw new IllegalStateException("Error to create the DatatypeFactory", e);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Shared {@link DatatypeFactory}.
+     * </p>
+     *
+     * @return DatatypeFactory
+     */
+    public static DatatypeFactory getDatatypeFactory() {
+        return FactoryHolder.FACTORY;
+    }
+
+    /**
+     * <p>
+     *     Format to the XML lexical form. Milliseconds are written only when not zero and the UTC offset is written
+     *     as {@code Z}.
+     * </p>
+     *
+     * @param dateTime Date and time
+     * @return Lexical form
+     */
+    public static String toXmlString(OffsetDateTime dateTime) {
+        final long epochMillis = dateTime.toInstant().toEpochMilli();
+        return toXmlString(epochMillis, dateTime.getOffset());
+    }
+
+    /**
+     * <p>
+     *     Format epoch milliseconds to the XML lexical form in the offset.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param offset Offset
+     * @return Lexical form
+     */
+    public static String toXmlString(long epochMillis, ZoneOffset offset) {
+        return appendXml(epochMillis, offset, new StringBuilder(LOCAL_LENGTH + MILLIS_LENGTH + OFFSET_LENGTH))
+                .toString();
+    }
+
+    /**
+     * <p>
+     *     Append the XML lexical form of epoch milliseconds in the offset.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param offset Offset
+     * @param destination StringBuilder
+     * @return The same StringBuilder
+     */
+    public static StringBuilder appendXml(long epochMillis, ZoneOffset offset, StringBuilder destination) {
+        final int offsetSeconds = offset.getTotalSeconds();
+        final long local = epochMillis + offsetSeconds * EpochDateUtil.MILLIS_PER_SECOND;
+        final long epochDay = Math.floorDiv(local, EpochDateUtil.MILLIS_PER_DAY);
+        final int millisOfDay = (int) Math.floorMod(local, EpochDateUtil.MILLIS_PER_DAY);
+        final LocalDate date = LocalDate.ofEpochDay(epochDay);
+        appendDigits(destination, date.getYear(), 4).append('-');
+        appendDigits(destination, date.getMonthValue(), 2).append('-');
+        appendDigits(destination, date.getDayOfMonth(), 2).append('T');
+        appendDigits(destination, (int) (millisOfDay / EpochDateUtil.MILLIS_PER_HOUR), 2).append(':');
+        appendDigits(destination, (int) (millisOfDay / EpochDateUtil.MILLIS_PER_MINUTE % MINUTES_PER_HOUR), 2)
+                .append(':');
+        appendDigits(destination, (int) (millisOfDay / EpochDateUtil.MILLIS_PER_SECOND % SECONDS_PER_MINUTE), 2);
+        final int millis = (int) (millisOfDay % EpochDateUtil.MILLIS_PER_SECOND);
+        if (millis != 0) {
+            appendDigits(destination.append('.'), millis, 3);
+        }
+        if (offsetSeconds == 0) {
+            return destination.append('Z');
+        }
+        final int offsetMinutes = Math.abs(offsetSeconds) / SECONDS_PER_MINUTE;
+        destination.append(offsetSeconds < 0 ? '-' : '+');
+        appendDigits(destination, offsetMinutes / MINUTES_PER_HOUR, 2).append(':');
+        return appendDigits(destination, offsetMinutes % MINUTES_PER_HOUR, 2);
+    }
+
+    /**
+     * <p>
+     *     Parse the XML lexical form to an {@link OffsetDateTime}.
+     * </p>
+     *
+     * @param text Lexical form
+     * @param defaultOffset Offset used when the text has no offset
+     * @return OffsetDateTime
+     */
+    public static OffsetDateTime parseXml(CharSequence text, ZoneOffset defaultOffset) {
+        final int end = offsetStart(text);
+        final ZoneOffset offset = end == text.length() ? defaultOffset : parseOffset(text, end);
+        final long local = FixedDateParser.parseLocalMillis(text, 0, end);
+        if (local == FixedDateParser.INVALID || end < LOCAL_LENGTH) {
+            throw new IllegalArgumentException("ERROR: Invalid XML dateTime: " + text);
+        }
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(Math.floorDiv(local, EpochDateUtil.MILLIS_PER_SECOND),
+                (int) Math.floorMod(local, EpochDateUtil.MILLIS_PER_SECOND) * MILLIS_PER_NANO, ZoneOffset.UTC),
+                offset);
+    }
+
+    /**
+     * <p>
+     *     Parse the XML lexical form to epoch milliseconds.
+     * </p>
+     *
+     * @param text Lexical form
+     * @param defaultOffset Offset used when the text has no offset
+     * @return Epoch milliseconds or {@link FixedDateParser#INVALID}
+     */
+    public static long parseXmlEpochMillis(CharSequence text, ZoneOffset defaultOffset) {
+        final int end = offsetStart(text);
+        final long local = end < LOCAL_LENGTH ? FixedDateParser.INVALID
+                : FixedDateParser.parseLocalMillis(text, 0, end);
+        if (local == FixedDateParser.INVALID) {
+            return FixedDateParser.INVALID;
+        }
+        final int offsetSeconds;
+        if (end == text.length()) {
+            offsetSeconds = defaultOffset.getTotalSeconds();
+        } else {
+            offsetSeconds = text.charAt(end) == 'Z' ? 0 : offsetSeconds(text, end);
+            if (offsetSeconds == Integer.MIN_VALUE) {
+                return FixedDateParser.INVALID;
+            }
+        }
+        return local - offsetSeconds * EpochDateUtil.MILLIS_PER_SECOND;
+    }
+
+    /**
+     * <p>
+     *     Create a {@link XMLGregorianCalendar} without {@link java.util.GregorianCalendar}.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param offset Offset of the calendar
+     * @return XMLGregorianCalendar
+     */
+    public static XMLGregorianCalendar toXMLGregorianCalendar(long epochMillis, ZoneOffset offset) {
+        final LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis,
+                EpochDateUtil.MILLIS_PER_SECOND), 0, offset);
+        return getDatatypeFactory().newXMLGregorianCalendar(local.getYear(), local.getMonthValue(),
+                local.getDayOfMonth(), local.getHour(), local.getMinute(), local.getSecond(),
+                (int) Math.floorMod(epochMillis, EpochDateUtil.MILLIS_PER_SECOND),
+                offset.getTotalSeconds() / SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * <p>
+     *     Create a {@link XMLGregorianCalendar} from an {@link OffsetDateTime}.
+     * </p>
+     *
+     * @param dateTime Date and time
+     * @return XMLGregorianCalendar
+     */
+    public static XMLGregorianCalendar toXMLGregorianCalendar(OffsetDateTime dateTime) {
+        return toXMLGregorianCalendar(dateTime.toInstant().toEpochMilli(), dateTime.getOffset());
+    }
+
+    /**
+     * <p>
+     *     Convert a {@link XMLGregorianCalendar} in {@link OffsetDateTime}. Undefined time fields are zero.
+     * </p>
+     *
+     * @param calendar XMLGregorianCalendar
+     * @param defaultOffset Offset used when the calendar has no timezone
+     * @return OffsetDateTime
+     */
+    public static OffsetDateTime toOffsetDateTime(XMLGregorianCalendar calendar, ZoneOffset defaultOffset) {
+        final int timezone = calendar.getTimezone();
+        final ZoneOffset offset = timezone == DatatypeConstants.FIELD_UNDEFINED ? defaultOffset
+                : ZoneOffset.ofTotalSeconds(timezone * SECONDS_PER_MINUTE);
+        final BigDecimal fraction = calendar.getFractionalSecond();
+        return OffsetDateTime.of(calendar.getYear(), calendar.getMonth(), calendar.getDay(),
+                defined(calendar.getHour()), defined(calendar.getMinute()), defined(calendar.getSecond()),
+                fraction == null ? 0 : fraction.movePointRight(9).intValue(), offset);
+    }
+
+    /**
+     * <p>
+     *     Convert a batch of epoch milliseconds in {@link XMLGregorianCalendar}s.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param offset Offset of the calendars
+     * @param destination Destination, with at least the same length
+     */
+    public static void toXMLGregorianCalendar(long[] epochMillis, ZoneOffset offset,
+                                              XMLGregorianCalendar[] destination) {
+        for (int i = 0; i < epochMillis.length; ++i) {
+            destination[i] = toXMLGregorianCalendar(epochMillis[i], offset);
+        }
+    }
+
+    /**
+     * <p>
+     *     Format a batch of epoch milliseconds to the XML lexical form, reusing one buffer.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param offset Offset
+     * @param destination Destination, with at least the same length
+     */
+    public static void toXmlString(long[] epochMillis, ZoneOffset offset, String[] destination) {
+        final StringBuilder sb = new StringBuilder(LOCAL_LENGTH + MILLIS_LENGTH + OFFSET_LENGTH);
+        for (int i = 0; i < epochMillis.length; ++i) {
+            sb.setLength(0);
+            destination[i] = appendXml(epochMillis[i], offset, sb).toString();
+        }
+    }
+
+    /**
+     * <p>
+     *     Parse a batch of XML lexical forms to epoch milliseconds.
+     * </p>
+     *
+     * @param texts Lexical forms
+     * @param defaultOffset Offset used when the text has no offset
+     * @param destination Destination, with at least the same length; invalid texts receive
+     *                    {@link FixedDateParser#INVALID}
+     * @return Number of invalid texts
+     */
+    public static int parseXmlEpochMillis(CharSequence[] texts, ZoneOffset defaultOffset, long[] destination) {
+        int invalid = 0;
+        for (int i = 0; i < texts.length; ++i) {
+            destination[i] = texts[i] == null ? FixedDateParser.INVALID
+                    : parseXmlEpochMillis(texts[i], defaultOffset);
+            if (destination[i] == FixedDateParser.INVALID) {
+                ++invalid;
+            }
+        }
+        return invalid;
+    }
+
+    private static int offsetStart(CharSequence text) {
+        final int length = text.length();
+        if (length > 0 && text.charAt(length - 1) == 'Z') {
+            return length - 1;
+        }
+        if (length > LOCAL_LENGTH + 1 && text.charAt(length - 3) == ':') {
+            final char signal = text.charAt(length - OFFSET_LENGTH);
+            if (signal == '+' || signal == '-') {
+                return length - OFFSET_LENGTH;
+            }
+        }
+        return length;
+    }
+
+    private static ZoneOffset parseOffset(CharSequence text, int start) {
+        if (text.charAt(start) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        final int seconds = offsetSeconds(text, start);
+        if (seconds == Integer.MIN_VALUE) {
+            throw new IllegalArgumentException("ERROR: Invalid XML dateTime offset: " + text);
+        }
+        return ZoneOffset.ofTotalSeconds(seconds);
+    }
+
+    private static int offsetSeconds(CharSequence text, int start) {
+        final int hours = twoDigits(text, start + 1);
+        final int minutes = twoDigits(text, start + 4);
+        if (hours < 0 || hours > 14 || minutes < 0 || minutes >= MINUTES_PER_HOUR) {
+            return Integer.MIN_VALUE;
+        }
+        final int seconds = (hours * MINUTES_PER_HOUR + minutes) * SECONDS_PER_MINUTE;
+        return text.charAt(start) == '-' ? -seconds : seconds;
+    }
+
+    private static int twoDigits(CharSequence text, int index) {
+        final char tens = text.charAt(index);
+        final char units = text.charAt(index + 1);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + units - '0';
+    }
+
+    private static int defined(int field) {
+        return field == DatatypeConstants.FIELD_UNDEFINED ? 0 : field;
+    }
+
+    private static StringBuilder appendDigits(StringBuilder sb, int value, int width) {
+        for (int divisor = width == 4 ? 1000 : width == 3 ? 100 : 10; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + value / divisor % 10));
+        }
+        return sb;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.ResolverStyle;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ *     Date and time utility bound to an explicit {@link ZoneId}, built on {@code java.time}.
+ * </p>
+ * <p>
+ *     {@link DataUtil} mixes the fixed {@link DataUtil#ZONE_PT_BR} with {@link ZoneId#systemDefault()}, so the
+ *     same input may give different results on hosts with different default zones. The instances of this class
+ *     never use the default zone: every conversion is done in the zone informed on {@link #of(ZoneId)}. The
+ *     {@link ZoneRules} are looked up once per zone, and fixed offset zones skip the rules entirely.
+ * </p>
+ * <p>
+ *     The {@link Date} methods are thin adapters for legacy code. Instances are immutable, thread-safe and cached
+ *     by zone.
+ * </p>
+ * <p>Example:</p>
+ * <pre>
+ *     ZonedDataUtil saoPaulo = ZonedDataUtil.of(ZoneId.of("America/Sao_Paulo"));
+ *     Date startOfDay = saoPaulo.toDate(LocalDate.of(2020, 1, 9));
+ * </pre>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public final class ZonedDataUtil {
+
+    private static final ConcurrentMap<ZoneId, ZonedDataUtil> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * America/Sao_Paulo.
+     */
+    public static final ZonedDataUtil SAO_PAULO = of(ZoneId.of("America/Sao_Paulo"));
+    /**
+     * UTC.
+     */
+    public static final ZonedDataUtil UTC = of(ZoneOffset.UTC);
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final ZoneOffset fixedOffset;
+
+    private ZonedDataUtil(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+    }
+
+    /**
+     * <p>
+     *     Get the instance of the zone.
+     * </p>
+     *
+     * @param zone Zone
+     * @return Instance bound to the zone
+     */
+    public static ZonedDataUtil of(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("ERROR: Zone cannot be null.");
+        }
+        return INSTANCES.computeIfAbsent(zone, ZonedDataUtil::new);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public ZoneRules getRules() {
+        return rules;
+    }
+
+    /**
+     * <p>
+     *     Offset of the zone at the instant.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Offset
+     */
+    public ZoneOffset getOffset(long epochMillis) {
+        return fixedOffset != null ? fixedOffset : rules.getOffset(Instant.ofEpochMilli(epochMillis));
+    }
+
+    /**
+     * <p>
+     *     Current date and time in the zone.
+     * </p>
+     *
+     * @param clock Clock
+     * @return ZonedDateTime
+     */
+    public ZonedDateTime now(Clock clock) {
+        return toZonedDateTime(clock.millis());
+    }
+
+    /**
+     * <p>
+     *     Current date in the zone.
+     * </p>
+     *
+     * @param clock Clock
+     * @return LocalDate
+     */
+    public LocalDate today(Clock clock) {
+        return toLocalDate(clock.millis());
+    }
+
+    /**
+     * <p>
+     *     Convert epoch milliseconds in {@link ZonedDateTime}.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return ZonedDateTime
+     */
+    public ZonedDateTime toZonedDateTime(long epochMillis) {
+        return ZonedDateTime.ofInstant(toLocalDateTime(epochMillis), getOffset(epochMillis), zone);
+    }
+
+    /**
+     * <p>
+     *     Convert epoch milliseconds in {@link LocalDateTime} of the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return LocalDateTime
+     */
+    public LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, EpochDateUtil.MILLIS_PER_SECOND),
+                (int) Math.floorMod(epochMillis, EpochDateUtil.MILLIS_PER_SECOND) * 1_000_000,
+                getOffset(epochMillis));
+    }
+
+    /**
+     * <p>
+     *     Convert epoch milliseconds in {@link LocalDate} of the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return LocalDate
+     */
+    public LocalDate toLocalDate(long epochMillis) {
+        return LocalDate.ofEpochDay(toEpochDay(epochMillis));
+    }
+
+    /**
+     * <p>
+     *     Day of the instant in the zone, in days since 1970-01-01.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Epoch day
+     */
+    public long toEpochDay(long epochMillis) {
+        final long local = epochMillis + getOffset(epochMillis).getTotalSeconds() * EpochDateUtil.MILLIS_PER_SECOND;
+        return Math.floorDiv(local, EpochDateUtil.MILLIS_PER_DAY);
+    }
+
+    /**
+     * <p>
+     *     Convert a local date and time of the zone in epoch milliseconds. In a gap of the zone rules the time is
+     *     moved forward by the length of the gap and in an overlap the earlier offset is used, the same as
+     *     {@link ZonedDateTime#of(LocalDateTime, ZoneId)}.
+     * </p>
+     *
+     * @param dateTime Local date and time
+     * @return Epoch milliseconds
+     */
+    public long toEpochMillis(LocalDateTime dateTime) {
+        final long localSeconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+        final long millis = dateTime.getNano() / 1_000_000;
+        if (fixedOffset != null) {
+            return (localSeconds - fixedOffset.getTotalSeconds()) * EpochDateUtil.MILLIS_PER_SECOND + millis;
+        }
+        final List<ZoneOffset> offsets = rules.getValidOffsets(dateTime);
+        final long epochSeconds;
+        if (offsets.isEmpty()) {
+            final ZoneOffsetTransition gap = rules.getTransition(dateTime);
+            epochSeconds = localSeconds - gap.getOffsetBefore().getTotalSeconds();
+        } else {
+            epochSeconds = localSeconds - offsets.get(0).getTotalSeconds();
+        }
+        return epochSeconds * EpochDateUtil.MILLIS_PER_SECOND + millis;
+    }
+
+    /**
+     * <p>
+     *     Start of the day in the zone, in epoch milliseconds.
+     * </p>
+     *
+     * @param date Date
+     * @return Epoch milliseconds
+     */
+    public long startOfDay(LocalDate date) {
+        return toEpochMillis(date.atStartOfDay());
+    }
+
+    /**
+     * <p>
+     *     Last millisecond of the day in the zone (23:59:59.999).
+     * </p>
+     *
+     * @param date Date
+     * @return Epoch milliseconds
+     */
+    public long endOfDay(LocalDate date) {
+        return toEpochMillis(LocalDateTime.of(date, LocalTime.MAX));
+    }
+
+    /**
+     * <p>
+     *     Parse one of the fixed patterns of {@link FixedDateParser} as a local date and time of the zone.
+     * </p>
+     *
+     * @param text Text
+     * @return Epoch milliseconds or {@link FixedDateParser#INVALID}
+     */
+    public long parse(CharSequence text) {
+        return FixedDateParser.parseEpochMillis(text, zone);
+    }
+
+    /**
+     * <p>
+     *     Format epoch milliseconds with a {@link java.time.format.DateTimeFormatter} pattern in the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param pattern DateTimeFormatter pattern
+     * @param locale Locale
+     * @return Formatted date
+     */
+    public String format(long epochMillis, String pattern, Locale locale) {
+        return DateTimeFormatterCache.get(pattern, locale, zone, ResolverStyle.SMART)
+                .format(Instant.ofEpochMilli(epochMillis));
+    }
+
+    /**
+     * <p>
+     *     Sum days keeping the local time of day in the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @param days Days to sum
+     * @return Epoch milliseconds
+     */
+    public long plusDays(long epochMillis, int days) {
+        return EpochDateUtil.plusDays(epochMillis, days, fixedOffset != null ? fixedOffset : zone);
+    }
+
+    /**
+     * <p>
+     *     Start of the day of the instant in the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Epoch milliseconds
+     */
+    public long floorDay(long epochMillis) {
+        return EpochDateUtil.floorHours(epochMillis, fixedOffset != null ? fixedOffset : zone);
+    }
+
+    /**
+     * <p>
+     *     Last millisecond of the day of the instant in the zone.
+     * </p>
+     *
+     * @param epochMillis Epoch milliseconds
+     * @return Epoch milliseconds
+     */
+    public long ceilDay(long epochMillis) {
+        return EpochDateUtil.ceilHour(epochMillis, fixedOffset != null ? fixedOffset : zone);
+    }
+
+    /**
+     * <p>
+     *     Legacy adapter: convert a Date in {@link LocalDateTime} of the zone.
+     * </p>
+     *
+     * @param date Date
+     * @return LocalDateTime or null
+     */
+    public LocalDateTime toLocalDateTime(Date date) {
+        return date == null ? null : toLocalDateTime(date.getTime());
+    }
+
+    /**
+     * <p>
+     *     Legacy adapter: convert a Date in {@link LocalDate} of the zone.
+     * </p>
+     *
+     * @param date Date
+     * @return LocalDate or null
+     */
+    public LocalDate toLocalDate(Date date) {
+        return date == null ? null : toLocalDate(date.getTime());
+    }
+
+    /**
+     * <p>
+     *     Legacy adapter: convert a local date and time of the zone in Date.
+     * </p>
+     *
+     * @param dateTime Local date and time
+     * @return Date or null
+     */
+    public Date toDate(LocalDateTime dateTime) {
+        return dateTime == null ? null : new Date(toEpochMillis(dateTime));
+    }
+
+    /**
+     * <p>
+     *     Legacy adapter: start of the day in the zone as Date.
+     * </p>
+     *
+     * @param date Local date
+     * @return Date or null
+     */
+    public Date toDate(LocalDate date) {
+        return date == null ? null : new Date(startOfDay(date));
+    }
+
+    /**
+     * <p>
+     *     Legacy adapter: the same as {@link DataUtil#floorHours(Date)}, in the zone.
+     * </p>
+     *
+     * @param date Date
+     * @return Date
+     */
+    public Date floorHours(Date date) {
+        return new Date(floorDay(date.getTime()));
+    }
+
+    /**
+     * <p>
+     *     Legacy adapter: the same as {@link DataUtil#ceilHour(Date)}, in the zone.
+     * </p>
+     *
+     * @param date Date
+     * @return Date
+     */
+    public Date ceilHour(Date date) {
+        return new Date(ceilDay(date.getTime()));
+    }
+
+    /**
+     * <p>
+     *     Legacy adapter: format a Date with a legacy {@link java.text.SimpleDateFormat} pattern in the zone.
+     * </p>
+     *
+     * @param date Date
+     * @param pattern SimpleDateFormat pattern
+     * @return Formatted date, or empty when the date is null
+     */
+    public String format(Date date, String pattern) {
+        return date == null ? "" : DateTimeFormatterCache.format(date, pattern, DataUtil.LOCALE_PT_BR, zone);
+    }
+
+    @Override
+    public String toString() {
+        return "ZonedDataUtil{zone=" + zone + "}";
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Testes de {@link BRCodeUtil} e {@link BRCodeLeitor} com o exemplo do manual do BR Code do Banco Central, o
+ *     vetor de referência do CRC16-CCITT e payloads sem campos obrigatórios ou com TLV malformado.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class BRCodeUtilTest {
+
+    private static final String EXEMPLO_BCB = "00020126580014br.gov.bcb.pix0136123e4567-e12b-12d1-a456-42665544000052"
+            + "04000053039865802BR5913Fulano de Tal6008BRASILIA62070503***63041D3D";
+    private static final String SEM_CRC = EXEMPLO_BCB.substring(0, EXEMPLO_BCB.length() - 8);
+
+    @Test
+    public void crc16VetorDeReferencia() {
+        final String texto = "123456789";
+        assertEquals(0x29B1, BRCodeUtil.crc16(texto, 0, texto.length()));
+        assertEquals(0x29B1, BRCodeUtil.crc16(("xx" + texto).toCharArray(), 2, texto.length()));
+        assertEquals(0x29B1, BRCodeUtil.crc16(texto.getBytes(StandardCharsets.US_ASCII), 0, texto.length()));
+        assertEquals(0xFFFF, BRCodeUtil.crc16("", 0, 0));
+        assertEquals(0x1D3D, BRCodeUtil.crc16(EXEMPLO_BCB, 0, EXEMPLO_BCB.length() - 4));
+    }
+
+    @Test
+    public void validarExemploDoManual() {
+        assertTrue(BRCodeUtil.isCrcValido(EXEMPLO_BCB));
+        assertTrue(BRCodeUtil.validar(EXEMPLO_BCB));
+        assertTrue(BRCodeUtil.isCrcValido(EXEMPLO_BCB.replace("1D3D", "1d3d")));
+        assertFalse(BRCodeUtil.isCrcValido(EXEMPLO_BCB.replace("1D3D", "1D3E")));
+        assertFalse(BRCodeUtil.validar(EXEMPLO_BCB.replace("Fulano", "Fulana")));
+        assertFalse(BRCodeUtil.isCrcValido(null));
+        assertFalse(BRCodeUtil.isCrcValido("6304"));
+    }
+
+    @Test
+    public void gerarExemploDoManual() {
+        assertEquals(EXEMPLO_BCB, BRCodeUtil.gerarPix("123e4567-e12b-12d1-a456-426655440000", "Fulano de Tal",
+                "BRASILIA", 0, null, null));
+        final String comValor = BRCodeUtil.gerarPix("fulano@example.com", "Fulano de Tal", "BRASILIA", 1050,
+                "TX123", "Pedido 1");
+        assertTrue(comValor, BRCodeUtil.validar(comValor));
+        assertTrue(comValor.contains("540510.50"));
+    }
+
+    @Test
+    public void recusarCamposObrigatoriosAusentesOuInvalidos() {
+        final String[] payloads = {
+            SEM_CRC.replace("52040000", ""),
+            SEM_CRC.replace("52040000", "5203000"),
+            SEM_CRC.replace("52040000", "520400A0"),
+            SEM_CRC.replace("5303986", ""),
+            SEM_CRC.replace("5303986", "5303840"),
+            SEM_CRC.replace("5802BR", ""),
+            SEM_CRC.replace("5802BR", "5802US"),
+            SEM_CRC.replace("5913Fulano de Tal", ""),
+            SEM_CRC.replace("5913Fulano de Tal", "5900"),
+            SEM_CRC.replace("5913Fulano de Tal", "5926Fulano de Tal da Silva Souza"),
+            SEM_CRC.replace("6008BRASILIA", ""),
+            SEM_CRC.replace("6008BRASILIA", "6016BRASILIA CAPITAL"),
+            SEM_CRC.replace("5802BR", "5802BR5802BR"),
+            SEM_CRC.replace("000201", ""),
+            SEM_CRC.replace("000201", "5802BR000201").replace("5802BR5913", "5913"),
+            SEM_CRC.replace("br.gov.bcb.pix", "br.gov.bcb.pax"),
+            SEM_CRC.replace("6008BRASILIA", "6099BRASILIA"),
+            SEM_CRC.replace("6008BRASILIA", "6X08BRASILIA")
+        };
+        for (String payload : payloads) {
+            final String comCrc = comCrc(payload);
+            assertTrue(comCrc, BRCodeUtil.isCrcValido(comCrc));
+            assertFalse(comCrc, BRCodeUtil.validar(comCrc));
+        }
+        assertTrue(BRCodeUtil.validar(comCrc(SEM_CRC)));
+    }
+
+    @Test
+    public void leitorInformaTlvMalformadoNoRetorno() {
+        final BRCodeLeitor leitor = new BRCodeLeitor("000201" + "5999Fulano");
+        assertTrue(leitor.proximo());
+        assertEquals(BRCodeUtil.ID_FORMATO, leitor.getId());
+        assertFalse(leitor.proximo());
+        assertTrue(leitor.isMalformado());
+        assertEquals(6, leitor.getPosicaoErro());
+        assertFalse(leitor.proximo());
+
+        leitor.reiniciar("0002010X");
+        assertTrue(leitor.proximo());
+        assertFalse(leitor.proximo());
+        assertEquals(6, leitor.getPosicaoErro());
+
+        leitor.reiniciar("000201");
+        assertTrue(leitor.proximo());
+        assertFalse(leitor.proximo());
+        assertFalse(leitor.isMalformado());
+        assertEquals(-1, leitor.getPosicaoErro());
+    }
+
+    @Test
+    public void leitorPercorreTemplates() {
+        final BRCodeLeitor leitor = new BRCodeLeitor(EXEMPLO_BCB);
+        String chave = null;
+        String txid = null;
+        int campos = 0;
+        while (leitor.proximo()) {
+            ++campos;
+            if (leitor.getId() == BRCodeUtil.ID_CONTA_PIX || leitor.getId() == BRCodeUtil.ID_DADOS_ADICIONAIS) {
+                leitor.entrar();
+                while (leitor.proximo()) {
+                    if (leitor.getId() == BRCodeUtil.ID_PIX_CHAVE) {
+                        chave = leitor.getValor();
+                    } else if (leitor.getId() == BRCodeUtil.ID_TXID) {
+                        txid = leitor.getValor();
+                    }
+                }
+                leitor.sair();
+            }
+        }
+        assertFalse(leitor.isMalformado());
+        assertEquals(9, campos);
+        assertEquals("123e4567-e12b-12d1-a456-426655440000", chave);
+        assertEquals("***", txid);
+    }
+
+    private static String comCrc(String semCrc) {
+        final String comIdCrc = semCrc + "6304";
+        return comIdCrc + String.format("%04X", BRCodeUtil.crc16(comIdCrc, 0, comIdCrc.length()));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.mjolnir.commons.enumerators.EnumTipoBoleto;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Testes de {@link BoletoUtil} com linhas digitáveis de boletos emitidos, DVs modulo 10 e 11 e o reinicio do
+ *     fator de vencimento em 22/02/2025.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class BoletoUtilTest {
+
+    private static final long REFERENCIA = LocalDate.of(2020, 10, 17).toEpochDay();
+
+    private static final String LINHA_ITAU = "34191.79001 01043.510047 91020.150008 4 84810000002690";
+    private static final String CODIGO_ITAU = "34194848100000026901790001043510049102015000";
+    private static final String LINHA_BB = "00190000090114971860168524522114675860000102656";
+    private static final String LINHA_BRADESCO = "23793381286000782713695000063305975520000370000";
+    private static final String LINHA_ARRECADACAO = "84670000001-7 43590024020-9 02405000243-5 84221010811-9";
+
+    @Test
+    public void lerBoletosBancarios() {
+        final Boleto boleto = new Boleto();
+        assertTrue(BoletoUtil.ler(LINHA_ITAU, REFERENCIA, boleto));
+        assertEquals(EnumTipoBoleto.BANCARIO, boleto.getTipo());
+        assertEquals(341, boleto.getCodigoBanco());
+        assertEquals(CODIGO_ITAU, boleto.getCodigoBarras());
+        assertEquals(8481, boleto.getFatorVencimento());
+        assertEquals(LocalDate.of(2020, 12, 26), boleto.getVencimento());
+        assertEquals(2690, boleto.getValorCentavos());
+
+        assertTrue(BoletoUtil.ler(CODIGO_ITAU, REFERENCIA, boleto));
+        assertEquals(LocalDate.of(2020, 12, 26), boleto.getVencimento());
+
+        assertTrue(BoletoUtil.ler(LINHA_BB, REFERENCIA, boleto));
+        assertEquals(1, boleto.getCodigoBanco());
+        assertEquals(LocalDate.of(2018, 7, 15), boleto.getVencimento());
+        assertEquals(102_656, boleto.getValorCentavos());
+
+        assertTrue(BoletoUtil.ler(LINHA_BRADESCO, REFERENCIA, boleto));
+        assertEquals(237, boleto.getCodigoBanco());
+        assertEquals(LocalDate.of(2018, 6, 11), boleto.getVencimento());
+        assertEquals(370_000, boleto.getValorCentavos());
+    }
+
+    @Test
+    public void lerBoletoDeArrecadacao() {
+        final Boleto boleto = new Boleto();
+        assertTrue(BoletoUtil.ler(LINHA_ARRECADACAO, REFERENCIA, boleto));
+        assertEquals(EnumTipoBoleto.ARRECADACAO, boleto.getTipo());
+        assertEquals(4, boleto.getSegmento());
+        assertEquals("84670000001435900240200240500024384221010811", boleto.getCodigoBarras());
+        assertEquals(14_359, boleto.getValorCentavos());
+        assertEquals(Boleto.SEM_VENCIMENTO, boleto.getVencimentoEpochDay());
+    }
+
+    @Test
+    public void recusarDigitoAlteradoNosCamposModulo10() {
+        final Boleto boleto = new Boleto();
+        for (String linha : new String[]{LINHA_ITAU, LINHA_BB, LINHA_BRADESCO}) {
+            final char[] digitos = linha.replaceAll("\\D", "").toCharArray();
+            // Campos 1 a 3 e seus DVs modulo 10.
+            for (int i = 0; i < 32; ++i) {
+                assertFalse(linha + " / " + i, BoletoUtil.ler(alterar(digitos, i), REFERENCIA, boleto));
+            }
+        }
+        final char[] arrecadacao = LINHA_ARRECADACAO.replaceAll("\\D", "").toCharArray();
+        for (int i = 0; i < arrecadacao.length; ++i) {
+            if (i != 2) {
+                assertFalse(LINHA_ARRECADACAO + " / " + i, BoletoUtil.ler(alterar(arrecadacao, i), REFERENCIA,
+                        boleto));
+            }
+        }
+    }
+
+    @Test
+    public void recusarDigitoVerificadorGeralAlterado() {
+        final char[] codigo = CODIGO_ITAU.toCharArray();
+        for (int digito = 0; digito < 10; ++digito) {
+            codigo[4] = (char) ('0' + digito);
+            assertEquals(String.valueOf(digito), digito == 4, BoletoUtil.isValido(new String(codigo)));
+        }
+        assertFalse(BoletoUtil.isValido(CODIGO_ITAU.substring(1)));
+        assertFalse(BoletoUtil.isValido(CODIGO_ITAU + "0"));
+        assertFalse(BoletoUtil.isValido(CODIGO_ITAU.replace('9', 'A')));
+        assertFalse(BoletoUtil.isValido(null));
+    }
+
+    @Test
+    public void calcularModulo10() {
+        final char[] linha = LINHA_BB.toCharArray();
+        assertEquals(linha[9] - '0', BoletoUtil.calcularModulo10(linha, 0, 9));
+        assertEquals(linha[20] - '0', BoletoUtil.calcularModulo10(linha, 10, 10));
+        assertEquals(linha[31] - '0', BoletoUtil.calcularModulo10(linha, 21, 10));
+        assertEquals(0, BoletoUtil.calcularModulo10("0000".toCharArray(), 0, 4));
+        assertEquals(4, BoletoUtil.calcularModulo10("261533".toCharArray(), 0, 6));
+    }
+
+    @Test
+    public void fatorDeVencimentoNoReinicio() {
+        assertEquals(1000, BoletoUtil.calcularFatorVencimento(LocalDate.of(2000, 7, 3)));
+        assertEquals(9999, BoletoUtil.calcularFatorVencimento(LocalDate.of(2025, 2, 21)));
+        assertEquals(1000, BoletoUtil.calcularFatorVencimento(LocalDate.of(2025, 2, 22)));
+        assertEquals(1001, BoletoUtil.calcularFatorVencimento(LocalDate.of(2025, 2, 23)));
+
+        final long fevereiro2025 = LocalDate.of(2025, 2, 1).toEpochDay();
+        final long marco2025 = LocalDate.of(2025, 3, 1).toEpochDay();
+        assertEquals(LocalDate.of(2025, 2, 21).toEpochDay(), BoletoUtil.calcularVencimento(9999, fevereiro2025));
+        assertEquals(LocalDate.of(2025, 2, 21).toEpochDay(), BoletoUtil.calcularVencimento(9999, marco2025));
+        assertEquals(LocalDate.of(2025, 2, 22).toEpochDay(), BoletoUtil.calcularVencimento(1000, fevereiro2025));
+        assertEquals(LocalDate.of(2000, 7, 3).toEpochDay(),
+                BoletoUtil.calcularVencimento(1000, LocalDate.of(2000, 7, 1).toEpochDay()));
+        assertEquals(Boleto.SEM_VENCIMENTO, BoletoUtil.calcularVencimento(0, marco2025));
+
+        for (LocalDate data = LocalDate.of(2024, 1, 1); data.isBefore(LocalDate.of(2027, 1, 1));
+                data = data.plusDays(1)) {
+            assertEquals(data.toString(), data.toEpochDay(),
+                    BoletoUtil.calcularVencimento(BoletoUtil.calcularFatorVencimento(data), data.toEpochDay()));
+        }
+    }
+
+    @Test
+    public void recusarFatorInvalido() {
+        for (int fator : new int[]{-1, 999, 10_000}) {
+            try {
+                BoletoUtil.calcularVencimento(fator, REFERENCIA);
+                fail("Aceitou fator " + fator);
+            } catch (IllegalArgumentException expected) {
+                // esperado
+            }
+        }
+        try {
+            BoletoUtil.calcularFatorVencimento(LocalDate.of(2000, 7, 2));
+            fail("Aceitou vencimento anterior ao fator 1000");
+        } catch (IllegalArgumentException expected) {
+            // esperado
+        }
+    }
+
+    @Test
+    public void lerLote() {
+        final CharSequence[] codigos = {LINHA_ITAU, "123", LINHA_ARRECADACAO};
+        final long[] valores = new long[codigos.length];
+        final long[] vencimentos = new long[codigos.length];
+        assertEquals(2, BoletoUtil.ler(codigos, REFERENCIA, valores, vencimentos));
+        assertArrayEquals(new long[] {2690, -1, 14_359}, valores);
+        assertArrayEquals(new long[] {LocalDate.of(2020, 12, 26).toEpochDay(), Boleto.SEM_VENCIMENTO,
+            Boleto.SEM_VENCIMENTO}, vencimentos);
+    }
+
+    private static String alterar(char[] digitos, int posicao) {
+        final char[] alterado = digitos.clone();
+        alterado[posicao] = (char) ('0' + (digitos[posicao] - '0' + 1) % 10);
+        return new String(alterado);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.mjolnir.commons.enumerators.EnumUF;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Testes de {@link CepUtil} com o índice distribuído e de {@link CepTabelaGerador} com um extrato no formato do
+ *     e-DNE.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class CepUtilTest {
+
+    @Test
+    public void indiceDistribuidoCorrespondeAoCsv() throws IOException {
+        final ByteArrayOutputStream compilado = new ByteArrayOutputStream();
+        try (InputStream csv = recurso("brazil/faixas-cep.csv")) {
+            CepUtil.compilar(csv, compilado);
+        }
+        try (InputStream bin = recurso("brazil/faixas-cep.bin")) {
+            assertArrayEquals(compilado.toByteArray(), bin.readAllBytes());
+        }
+    }
+
+    @Test
+    public void resolverCepsConhecidos() {
+        assertEquals(EnumUF.SP, CepUtil.resolverUF("01001-000"));
+        assertEquals(3550308, CepUtil.resolverMunicipio(1_001_000));
+        assertEquals(EnumUF.RJ, CepUtil.resolverUF("20.040-002"));
+        assertEquals(3304557, CepUtil.resolverMunicipio(20_040_002));
+        assertEquals(EnumUF.DF, CepUtil.resolverUF("70040010"));
+        assertEquals(EnumUF.GO, CepUtil.resolverUF("72800000"));
+        assertEquals(EnumUF.RR, CepUtil.resolverUF("69301000"));
+        assertEquals(EnumUF.RS, CepUtil.resolverUF("99999999"));
+        assertEquals(0, CepUtil.resolverMunicipio(30_140_071));
+        assertTrue(CepUtil.isCepValido("30140-071"));
+    }
+
+    @Test
+    public void recusarCepsInvalidos() {
+        for (String cep : new String[]{"00999-999", "00000000", "0100100", "010010000", "01001 000", "0100A000", "",
+            null}) {
+            assertFalse(String.valueOf(cep), CepUtil.isCepValido(cep));
+            assertNull(String.valueOf(cep), CepUtil.resolverUF(cep));
+        }
+        assertNull(CepUtil.resolverUF(-1));
+        assertEquals(0, CepUtil.resolverMunicipio(-1));
+    }
+
+    @Test
+    public void gerarIndiceDoDne() throws IOException {
+        final String localidades = "9668@SP@São Paulo@@1@M@@S PAULO@3550308\n"
+                + "9669@SP@Osasco@@1@M@@OSASCO@3534401\n"
+                + "9700@SP@Distrito de Exemplo@06999000@0@D@9669@D EXEMPLO@\n";
+        final String faixasLocalidade = "9668@01000000@01999999@C\n"
+                + "9668@01000000@05999999@T\n"
+                + "9668@08000000@08499999@T\n"
+                + "9669@06000000@06299999@T\n"
+                + "9700@06999000@06999999@T\n";
+        final String faixasUF = "SP@01000000@19999999\n";
+        final ByteArrayOutputStream destino = new ByteArrayOutputStream();
+        final int quantidade = CepTabelaGerador.gerarDne(new StringReader(localidades),
+                new StringReader(faixasLocalidade), new StringReader(faixasUF), destino);
+
+        final int[][] esperadas = {
+            {1_000_000, 5_999_999, 3550308},
+            {6_000_000, 6_299_999, 3534401},
+            {6_300_000, 6_998_999, 35},
+            {6_999_000, 6_999_999, 3534401},
+            {7_000_000, 7_999_999, 35},
+            {8_000_000, 8_499_999, 3550308},
+            {8_500_000, 19_999_999, 35}
+        };
+        assertEquals(esperadas.length, quantidade);
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(destino.toByteArray()));
+        assertEquals(CepUtil.ASSINATURA, in.readInt());
+        assertEquals(esperadas.length, in.readInt());
+        for (int[] esperada : esperadas) {
+            assertArrayEquals(esperada, new int[] {in.readInt(), in.readInt(), in.readInt()});
+        }
+    }
+
+    @Test
+    public void recusarFaixasSobrepostas() throws IOException {
+        final String csv = "01000000;05999999;SP\n05000000;06999999;SP\n";
+        try {
+            CepUtil.compilar(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayOutputStream());
+            fail("Aceitou faixas sobrepostas");
+        } catch (IllegalArgumentException expected) {
+            // esperado
+        }
+    }
+
+    private static InputStream recurso(String nome) {
+        return CepUtilTest.class.getClassLoader().getResourceAsStream(nome);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.mjolnir.commons.enumerators.EnumDocumentoFiscal;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Testes de {@link ChaveAcessoUtil} com chaves de acesso publicadas nos manuais da NFe.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class ChaveAcessoUtilTest {
+
+    private static final String[] CHAVES_VALIDAS = {
+        "52060433009911002506550120000007800267301615",
+        "35080599999090910270550010000000015180051273"
+    };
+
+    @Test
+    public void digitoVerificadorDeChavesConhecidas() {
+        for (String chave : CHAVES_VALIDAS) {
+            assertEquals(chave, chave.charAt(43) - '0', ChaveAcessoUtil.calcularDigitoVerificador(chave, 0, 43));
+            assertEquals(chave, chave.charAt(43) - '0',
+                    ChaveAcessoUtil.calcularDigitoVerificador(("NFe" + chave).toCharArray(), 3, 43));
+        }
+    }
+
+    @Test
+    public void digitoVerificadorDetectaDigitoAlterado() {
+        for (String chave : CHAVES_VALIDAS) {
+            for (int i = 0; i < 43; ++i) {
+                final char[] alterada = chave.toCharArray();
+                alterada[i] = (char) ('0' + (alterada[i] - '0' + 1) % 10);
+                assertNotEquals(chave + " / " + i, chave.charAt(43) - '0',
+                        ChaveAcessoUtil.calcularDigitoVerificador(alterada, 0, 43));
+            }
+        }
+    }
+
+    @Test
+    public void gerarChaveConhecida() {
+        final String esperada = CHAVES_VALIDAS[1];
+        final char[] destino = new char[50];
+        final int fim = ChaveAcessoUtil.gerarChaveAcesso(destino, 3, 35, LocalDate.of(2008, 5, 20),
+                "99999090910270", EnumDocumentoFiscal.NFE, 1, 1, 5, 18_005_127);
+        assertEquals(3 + ChaveAcessoUtil.TAMANHO_CHAVE, fim);
+        assertEquals(esperada, new String(destino, 3, ChaveAcessoUtil.TAMANHO_CHAVE));
+
+        final StringBuilder sb = new StringBuilder("NFe");
+        ChaveAcessoUtil.gerarChaveAcesso(sb, 35, 2008, 5, "99999090910270", EnumDocumentoFiscal.NFE, 1, 1, 5,
+                18_005_127);
+        assertEquals("NFe" + esperada, sb.toString());
+    }
+
+    @Test
+    public void gerarChaveRejeitaCamposInvalidos() {
+        final char[] destino = new char[ChaveAcessoUtil.TAMANHO_CHAVE];
+        final Object[][] casos = {
+            {9, 5, "99999090910270", 1, 1, 5, 0},
+            {35, 13, "99999090910270", 1, 1, 5, 0},
+            {35, 5, "9999909091027", 1, 1, 5, 0},
+            {35, 5, "9999909091027A", 1, 1, 5, 0},
+            {35, 5, "99999090910270", 1000, 1, 5, 0},
+            {35, 5, "99999090910270", 1, 0, 5, 0},
+            {35, 5, "99999090910270", 1, 1, 0, 0},
+            {35, 5, "99999090910270", 1, 1, 5, 100_000_000}
+        };
+        for (Object[] caso : casos) {
+            try {
+                ChaveAcessoUtil.gerarChaveAcesso(destino, 0, (int) caso[0], 2008, (int) caso[1],
+                        (String) caso[2], EnumDocumentoFiscal.NFE, (int) caso[3], (int) caso[4], (int) caso[5],
+                        (int) caso[6]);
+                fail("Aceitou " + Arrays.toString(caso));
+            } catch (IllegalArgumentException expected) {
+                // esperado
+            }
+        }
+        try {
+            ChaveAcessoUtil.gerarChaveAcesso(new char[43], 0, 35, 2008, 5, "99999090910270",
+                    EnumDocumentoFiscal.NFE, 1, 1, 5, 0);
+            fail("Aceitou buffer insuficiente");
+        } catch (IllegalArgumentException expected) {
+            // esperado
+        }
+    }
+
+    @Test
+    public void gerarCodigoNumericoDiferenteDoNumero() {
+        for (int i = 0; i < 10_000; ++i) {
+            final int cNF = ChaveAcessoUtil.gerarCodigoNumerico(i);
+            assertTrue(cNF >= 0 && cNF <= 99_999_999);
+            assertNotEquals(i, cNF);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.mjolnir.commons.enumerators.EnumUF;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Testes de {@link InscricaoEstadualUtil} com exemplos das rotinas de conferência do SINTEGRA para as 27 UFs,
+ *     inscrições com digito verificador alterado e fora do formato da UF.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class InscricaoEstadualUtilTest {
+
+    private static final String[][] VALIDAS = {
+        {"AC", "01.004.823/001-12"},
+        {"AL", "24000004-8"},
+        {"AP", "03.012.345-9"},
+        {"AM", "99.999.999-0"},
+        {"BA", "123456-63"},
+        {"BA", "612345-57"},
+        {"BA", "1000003-06"},
+        {"CE", "06000001-5"},
+        {"DF", "07.300.001.001-09"},
+        {"ES", "99999999-0"},
+        {"GO", "10.987.654-7"},
+        {"MA", "12000038-5"},
+        {"MT", "0013000001-9"},
+        {"MS", "28312345-1"},
+        {"MG", "062.307.904/0081"},
+        {"PA", "15-999999-5"},
+        {"PB", "06000001-5"},
+        {"PR", "123.45678-50"},
+        {"PE", "0321418-40"},
+        {"PE", "18.1.001.0000004-9"},
+        {"PI", "01234567-9"},
+        {"RJ", "99.999.99-3"},
+        {"RN", "20.040.040-1"},
+        {"RN", "20.0.040.040-0"},
+        {"RS", "224/3658792"},
+        {"RO", "101.62521-3"},
+        {"RO", "0000000062521-3"},
+        {"RR", "24006628-1"},
+        {"SC", "251.040.852"},
+        {"SP", "110.042.490.114"},
+        {"SE", "27123456-3"},
+        {"TO", "29.01.022783-6"},
+        {"TO", "29.022.783-6"}
+    };
+
+    private static final String[][] INVALIDAS = {
+        {"AC", "02.004.823/001-12"},
+        {"AL", "25000004-8"},
+        {"AP", "04.012.345-9"},
+        {"MA", "13000038-5"},
+        {"PA", "16-999999-5"},
+        {"RR", "25006628-1"},
+        {"DF", "07.300.001.001-9"},
+        {"MG", "062.307.904/008"},
+        {"RJ", "99.999.999-3"},
+        {"TO", "29.05.022783-6"},
+        {"SP", "P-01100424.4/002"},
+        {"CE", "P-06000001-5"},
+        {"CE", "0600000A-5"},
+        {"CE", "123456789012345"},
+        {"CE", ""},
+        {"CE", null},
+        {"XX", "06000001-5"},
+        {null, "06000001-5"}
+    };
+
+    @Test
+    public void aceitarExemplosDeTodasAsUFs() {
+        final Set<EnumUF> cobertas = EnumSet.noneOf(EnumUF.class);
+        for (String[] caso : VALIDAS) {
+            assertTrue(caso[0] + " " + caso[1], InscricaoEstadualUtil.validar(caso[0], caso[1]));
+            cobertas.add(EnumUF.porSigla(caso[0]));
+        }
+        assertTrue(InscricaoEstadualUtil.validar(EnumUF.SP, "P-01100424.3/002"));
+        assertEquals(EnumSet.allOf(EnumUF.class), cobertas);
+    }
+
+    @Test
+    public void recusarDigitoVerificadorAlterado() {
+        for (String[] caso : VALIDAS) {
+            final char[] alterada = caso[1].toCharArray();
+            final int ultimo = alterada.length - 1;
+            for (int i = 1; i < 10; ++i) {
+                alterada[ultimo] = (char) ('0' + (caso[1].charAt(ultimo) - '0' + i) % 10);
+                assertFalse(caso[0] + " " + new String(alterada),
+                        InscricaoEstadualUtil.validar(caso[0], new String(alterada)));
+            }
+        }
+    }
+
+    @Test
+    public void recusarInscricoesInvalidas() {
+        for (String[] caso : INVALIDAS) {
+            assertFalse(caso[0] + " " + caso[1], InscricaoEstadualUtil.validar(caso[0], caso[1]));
+        }
+    }
+
+    @Test
+    public void recusarInscricaoDeOutraUF() {
+        assertFalse(InscricaoEstadualUtil.validar(EnumUF.SP, "24000004-8"));
+        assertFalse(InscricaoEstadualUtil.validar(EnumUF.AL, "110.042.490.114"));
+    }
+
+    @Test
+    public void validarLote() {
+        final EnumUF[] ufs = new EnumUF[VALIDAS.length + INVALIDAS.length];
+        final CharSequence[] inscricoes = new CharSequence[ufs.length];
+        final boolean[] esperado = new boolean[ufs.length];
+        for (int i = 0; i < VALIDAS.length; ++i) {
+            ufs[i] = EnumUF.porSigla(VALIDAS[i][0]);
+            inscricoes[i] = VALIDAS[i][1];
+            esperado[i] = true;
+        }
+        for (int i = 0; i < INVALIDAS.length; ++i) {
+            ufs[VALIDAS.length + i] = EnumUF.porSigla(INVALIDAS[i][0]);
+            inscricoes[VALIDAS.length + i] = INVALIDAS[i][1];
+        }
+        final boolean[] sequencial = new boolean[ufs.length];
+        final boolean[] paralelo = new boolean[ufs.length];
+        InscricaoEstadualUtil.validar(ufs, inscricoes, sequencial);
+        InscricaoEstadualUtil.validarParalelo(ufs, inscricoes, paralelo);
+        assertArrayEquals(esperado, sequencial);
+        assertArrayEquals(esperado, paralelo);
+    }
+}
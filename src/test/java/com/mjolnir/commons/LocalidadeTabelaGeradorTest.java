@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Testes de {@link LocalidadeTabelaGerador} e da leitura dos recursos gerados por {@link LocalidadeUtil}, com
+ *     extratos no formato das tabelas oficiais do IBGE e do BACEN.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class LocalidadeTabelaGeradorTest {
+
+    private static final String DTB = "\uFEFFUF;Nome_UF;Mesorregião Geográfica;Nome_Mesorregião;"
+            + "Município;Código Município Completo;Nome_Município\n"
+            + "35;São Paulo;15;Metropolitana de São Paulo;50308;3550308;São Paulo\n"
+            + "33;Rio de Janeiro;06;Metropolitana do Rio de Janeiro;04557;3304557;Rio de Janeiro\n"
+            + "53;Distrito Federal;01;Distrito Federal;00108;5300108;Brasília\n"
+            + ";;;;;;\n"
+            + "Fonte: IBGE;;;;;;\n";
+
+    private static final String PAISES = "Código,Nome\n"
+            + "1058,Brasil\n"
+            + "0639,Argentina\n"
+            + "\"2496\",\"Estados Unidos\"\n";
+
+    @Test
+    public void gerarELerMunicipios() throws IOException {
+        final StringWriter recurso = new StringWriter();
+        assertEquals(3, LocalidadeTabelaGerador.gerarMunicipios(new StringReader(DTB), recurso));
+        assertTrue(recurso.toString().contains("\n3304557;Rio de Janeiro\n3550308;São Paulo\n5300108;Brasília\n"));
+
+        final LocalidadeUtil.TabelaMunicipios tabela =
+                LocalidadeUtil.TabelaMunicipios.ler(new StringReader(recurso.toString()));
+        assertEquals(3, tabela.getQuantidade());
+        assertTrue(tabela.existe(3550308));
+        assertEquals("Brasília", tabela.getNome(5300108));
+        assertFalse(tabela.existe(3550307));
+        assertFalse(tabela.existe(0));
+        assertNull(tabela.getNome(-1));
+    }
+
+    @Test
+    public void gerarELerPaises() throws IOException {
+        final StringWriter recurso = new StringWriter();
+        assertEquals(3, LocalidadeTabelaGerador.gerarPaises(new StringReader(PAISES), recurso));
+        assertTrue(recurso.toString().contains("\n0639;Argentina\n1058;Brasil\n2496;Estados Unidos\n"));
+
+        final LocalidadeUtil.TabelaPaises tabela =
+                LocalidadeUtil.TabelaPaises.ler(new StringReader(recurso.toString()));
+        assertEquals(3, tabela.getQuantidade());
+        assertEquals("Argentina", tabela.getNome(639));
+        assertNull(tabela.getNome(1057));
+        assertNull(tabela.getNome(10_000));
+    }
+
+    @Test
+    public void recusarTabelasInvalidas() throws IOException {
+        final String[] municipios = {
+            "Código Município Completo;Nome_Município\n3550308;São Paulo\n3550308;São Paulo\n",
+            "Código Município Completo;Nome_Município\n9950308;Inexistente\n",
+            "Código Município Completo;Nome_Município\n355030A;São Paulo\n",
+            "Código Município Completo;Nome_Município\n3550308;\n",
+            "Código;Nome\n3550308;São Paulo\n",
+            ""
+        };
+        for (String tabela : municipios) {
+            try {
+                LocalidadeTabelaGerador.gerarMunicipios(new StringReader(tabela), new StringWriter());
+                fail("Aceitou " + tabela);
+            } catch (IllegalArgumentException expected) {
+                // esperado
+            }
+        }
+        try {
+            LocalidadeTabelaGerador.gerarPaises(new StringReader("Código;Nome\n10000;Inexistente\n"),
+                    new StringWriter());
+            fail("Aceitou código BACEN com 5 digitos");
+        } catch (IllegalArgumentException expected) {
+            // esperado
+        }
+    }
+
+    @Test
+    public void consultasSemRecursoLancamExcecao() {
+        if (LocalidadeUtil.isTabelaMunicipiosDisponivel()) {
+            assertTrue(LocalidadeUtil.existeMunicipio(3550308));
+            return;
+        }
+        try {
+            LocalidadeUtil.existeMunicipio(3550308);
+            fail("Respondeu sem a tabela de municipios");
+        } catch (IllegalStateException expected) {
+            // esperado
+        }
+    }
+}
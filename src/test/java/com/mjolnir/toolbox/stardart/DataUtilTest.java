@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Tests of {@link DataUtil}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class DataUtilTest {
+
+    @Test
+    public void convertXmlDateTimeToCalendar() throws ParseException {
+        final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+        format.setLenient(false);
+        for (String text : new String[]{"2020-10-17T10:11:12", "2020-02-29T00:00:00", "2020-10-17T10:11:12.345",
+            "2020-10-17T10:11:12-03:00"}) {
+            final Calendar calendar = DataUtil.convertToCalendar(text);
+            assertEquals(text, format.parse(text), calendar.getTime());
+        }
+    }
+
+    @Test
+    public void rejectNonXmlLayoutsInConvertToCalendar() {
+        for (String text : new String[]{"17/10/2020 10:11:12", "17/10/2020T10:11:12", "2020-10-17 10:11:12",
+            "2020-10-17", "10:11:12"}) {
+            try {
+                DataUtil.convertToCalendar(text);
+                fail("Accepted " + text);
+            } catch (ParseException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void validateDateIntervalsWithTheSameRule() {
+        final TimeZone zone = TimeZone.getTimeZone("America/Sao_Paulo");
+        final String[][] cases = {
+            {"01/02/2020", "29/02/2020", "true"},
+            {"01/02/2020", "01/02/2020", "true"},
+            {"02/03/2020", "01/03/2020", "false"},
+            {"01/02/2020", "31/02/2020", "false"},
+            {"31/02/2020", "31/03/2020", "false"},
+            {"01/02/2019", "29/02/2019", "false"},
+            {"01/02/2020", "", "false"},
+            {null, "01/03/2020", "false"}
+        };
+        for (String[] test : cases) {
+            final boolean expected = Boolean.parseBoolean(test[2]);
+            final String message = test[0] + " - " + test[1];
+            assertEquals(message, expected, DataUtil.isValidDateInterval(test[0], test[1], "dd/MM/yyyy"));
+            assertEquals(message, expected, DataUtil.isValidDateInterval(test[0], test[1], "dd/MM/yyyy", zone));
+        }
+        assertTrue(DataUtil.isValidDateInterval("01/02/2020 23:00", "02/02/2020 01:00", "dd/MM/yyyy HH:mm", zone));
+        assertFalse(DataUtil.isValidDateInterval("01/02/2020 23:00", "01/02/2020 22:00", "dd/MM/yyyy HH:mm", zone));
+    }
+
+    @Test
+    public void cacheDateValidatorsPerPattern() {
+        final DateValidator validator = DateValidator.cached("dd/MM/yyyy");
+        assertSame(validator, DateValidator.cached("dd/MM/yyyy"));
+        assertTrue(validator.isValid("29/02/2020"));
+        assertFalse(validator.isValid("31/02/2020"));
+        assertTrue(DataUtil.isValidDateString("29/02/2020", "dd/MM/yyyy"));
+        assertFalse(DataUtil.isValidDateString("31/02/2020", "dd/MM/yyyy"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Tests of {@link DateNames} against {@link SimpleDateFormat} and the Portuguese long date.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class DateNamesTest {
+
+    private static final Locale[] LOCALES = {DataUtil.LOCALE_PT_BR, Locale.US, new Locale("ru"), new Locale("pl"),
+        new Locale("cs"), new Locale("uk"), Locale.GERMANY};
+
+    @Test
+    public void monthNamesInTheStandaloneForm() {
+        assertEquals("октябрь", DateNames.of(new Locale("ru")).getMonthName(10));
+        assertEquals("październik", DateNames.of(new Locale("pl")).getMonthName(10));
+        assertEquals("outubro", DateNames.PT_BR.getMonthName(10));
+        assertEquals("October", DateNames.of(Locale.US).getMonthName(10));
+
+        final Date date = new Date(LocalDate.of(2026, 10, 17).atStartOfDay(ZoneId.systemDefault()).toInstant()
+                .toEpochMilli());
+        assertEquals("октябрь", Dates.getMonthName(date, new Locale("ru")));
+        assertEquals("outubro", Dates.getMonthName(date));
+    }
+
+    @Test
+    public void sameNamesOfSimpleDateFormat() {
+        for (Locale locale : LOCALES) {
+            final DateNames names = DateNames.of(locale);
+            for (int month = 1; month <= 12; ++month) {
+                final Date date = new Date(LocalDate.of(2026, month, 1).atStartOfDay(ZoneId.systemDefault())
+                        .toInstant().toEpochMilli());
+                final String message = locale + " " + month;
+                assertEquals(message, new SimpleDateFormat("MMMM", locale).format(date), names.getMonthName(month));
+                assertEquals(message, new SimpleDateFormat("MMM", locale).format(date),
+                        names.getShortMonthName(month));
+            }
+        }
+    }
+
+    @Test
+    public void formatPortugueseDate() {
+        final long epochDay = LocalDate.of(2026, 10, 17).toEpochDay();
+        assertEquals("17 de outubro de 2026", DateNames.formatPortugueseDate(epochDay, false));
+        assertEquals("sábado, 17 de outubro de 2026", DateNames.formatPortugueseDate(epochDay, true));
+        assertEquals("1 de janeiro de 0099", DateNames.formatPortugueseDate(LocalDate.of(99, 1, 1).toEpochDay(),
+                false));
+        assertEquals("x29 de fevereiro de 2020", DateNames.appendPortugueseDate(
+                LocalDate.of(2020, 2, 29).toEpochDay(), false, new StringBuilder("x")).toString());
+    }
+}
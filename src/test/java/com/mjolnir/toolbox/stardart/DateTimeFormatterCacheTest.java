@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Differential tests of the legacy patterns of {@link DateTimeFormatterCache} against {@link SimpleDateFormat}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class DateTimeFormatterCacheTest {
+
+    private static final Locale LOCALE = new Locale("pt", "BR");
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private static final String[] PARSE_PATTERNS = {
+        "dd/MM/yyyy", "dd/MM/yy", "d/M/y", "yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy HH:mm:ss.SSS",
+        "yyyyMMdd", "yyyyMMddHHmmss", "yyyy-MM-dd'T'HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ssXXX", "yyyy-MM-dd HH:mm:ss Z",
+        "HH:mm", "hh:mm a", "dd MMM yyyy", "EEEE, d 'de' MMMM 'de' yyyy", "D/yyyy", "'o''clock' HH",
+        "dd/MM/yyyy kk:mm", "KK:mm a"
+    };
+
+    private static final String[] PARSE_TEXTS = {
+        "1/2/2020", "01/02/20", "2020-1-5 1:2:3", "01/02/2020", "1/2/5", "5/1/2020 1:2:3.5", "20200105",
+        "20200105123456", "2020-01-05 01:02:03", "2020-01-05T10:20:30", "2020-01-05T10:20:30-03:00",
+        "2020-01-05 10:20:30 +0100", "01/02/2020 10:20:30.123", "10:20", "10:20 PM", "32/2020", "o'clock 10",
+        "31/02/2020", "29/02/2019", "12/13/2020", "00/01/2020", "1/2/2020xyz", "01/02/1500", "27/03/1884 22:43:35",
+        "2020111", "202011015", "5681101", "2020110112345", "01/02/2020 24:00", "01/02/2020 0:30", "11:30 PM",
+        "0:15 AM", "12:15 AM", "abc"
+    };
+
+    private static final String[] FORMAT_PATTERNS = {
+        "dd/MM/yyyy", "yyyy-MM-dd HH:mm:ss.SSS", ".S", "SSSS", "u", "uu", "yy", "y", "yyyyy", "EEEE", "EEE",
+        "MMMM", "MMM", "M", "d/M/yyyy h:mm a", "D", "w", "W", "YYYY", "G yyyy", "'quote''s' yyyy",
+        "dd/MM/yyyy HH:mm:ss Z", "yyyy-MM-dd'T'HH:mm:ssXXX", "yyyy-MM-dd'T'HH:mm:ssX", "F", "FF", "k", "kk:mm",
+        "K", "KK a", "yyyyMMddkkmm"
+    };
+
+    @Test
+    public void parseReviewedCases() throws ParseException {
+        assertParse("1/2/2020", "dd/MM/yyyy", true);
+        assertParse("1/2/2020", "dd/MM/yyyy", false);
+        assertParse("01/02/20", "dd/MM/yyyy", false);
+        assertParse("2020-1-5 1:2:3", "yyyy-MM-dd HH:mm:ss", false);
+    }
+
+    @Test
+    public void parseStrictLikeSimpleDateFormat() {
+        for (String pattern : PARSE_PATTERNS) {
+            for (String text : PARSE_TEXTS) {
+                assertSameParse(text, pattern, false);
+            }
+        }
+    }
+
+    @Test
+    public void parseLenientLikeSimpleDateFormat() {
+        for (String pattern : PARSE_PATTERNS) {
+            for (String text : PARSE_TEXTS) {
+                // SimpleDateFormat reads signs and extra digits inside abutting fields ("2020-1-5" as yyyyMMdd).
+                if (!pattern.startsWith("yyyyMMdd") || text.length() == pattern.length()) {
+                    assertSameParse(text, pattern, true);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void formatLikeSimpleDateFormat() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 2_000; ++i) {
+            // From about 0195 to 2096, including Julian dates and the local mean time of the zone.
+            final long epochMilli = (long) (random.nextDouble() * 6.0e13 - 5.6e13);
+            final Date date = new Date(epochMilli);
+            for (String pattern : FORMAT_PATTERNS) {
+                assertEquals(pattern, simpleDateFormat(pattern).format(date),
+                        DateTimeFormatterCache.format(date, pattern, LOCALE, ZONE));
+            }
+        }
+    }
+
+    @Test
+    public void formatMillisecondsAndDayOfWeek() {
+        final Date date = new Date(1_577_934_245_123L);
+        assertEquals(".123", DateTimeFormatterCache.format(date, ".S", LOCALE, ZONE));
+        assertEquals("0123", DateTimeFormatterCache.format(date, "SSSS", LOCALE, ZONE));
+        assertEquals("4", DateTimeFormatterCache.format(date, "u", LOCALE, ZONE));
+    }
+
+    @Test
+    public void formatHourAndWeekInMonthLetters() {
+        final Date midnight = new Date(1_580_526_900_000L);
+        assertEquals("24:15", DateTimeFormatterCache.format(midnight, "kk:mm", LOCALE, ZONE));
+        assertEquals("0:15 AM", DateTimeFormatterCache.format(midnight, "K:mm a", Locale.US, ZONE));
+        assertEquals("1", DateTimeFormatterCache.format(midnight, "F", LOCALE, ZONE));
+        assertEquals("2", DateTimeFormatterCache.format(new Date(1_581_131_700_000L), "F", LOCALE, ZONE));
+    }
+
+    @Test
+    public void rejectLettersWithoutEquivalent() {
+        for (String pattern : new String[]{"XXXX", "q", "'unterminated"}) {
+            try {
+                DateTimeFormatterCache.format(new Date(), pattern, LOCALE, ZONE);
+                fail("Accepted pattern " + pattern);
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void localizedDatePatternLikeDateFormat() throws ParseException {
+        final String[] texts = {"5 de janeiro de 2020", "domingo, 5 de janeiro de 2020", "5 de jan. de 2020",
+            "05/01/2020", "5/1/20"};
+        for (int style = DateFormat.FULL; style <= DateFormat.SHORT; ++style) {
+            final String pattern = DateTimeFormatterCache.getLegacyDatePattern(style, LOCALE);
+            final DateFormat expected = DateFormat.getDateInstance(style, LOCALE);
+            expected.setTimeZone(TimeZone.getTimeZone(ZONE));
+            assertEquals(((SimpleDateFormat) expected).toPattern(), pattern);
+            for (String text : texts) {
+                assertSameParse(text, pattern, false);
+            }
+        }
+    }
+
+    private static void assertParse(String text, String pattern, boolean lenient) throws ParseException {
+        final SimpleDateFormat expected = simpleDateFormat(pattern);
+        expected.setLenient(lenient);
+        assertEquals(text + " / " + pattern, expected.parse(text),
+                DateTimeFormatterCache.parse(text, pattern, LOCALE, ZONE, lenient));
+    }
+
+    private static void assertSameParse(String text, String pattern, boolean lenient) {
+        final SimpleDateFormat format = simpleDateFormat(pattern);
+        format.setLenient(lenient);
+        Date expected;
+        try {
+            expected = format.parse(text);
+        } catch (ParseException ex) {
+            expected = null;
+        }
+        Date actual;
+        try {
+            actual = DateTimeFormatterCache.parse(text, pattern, LOCALE, ZONE, lenient);
+        } catch (ParseException ex) {
+            actual = null;
+        }
+        assertEquals(text + " / " + pattern + " / lenient=" + lenient, expected, actual);
+    }
+
+    private static SimpleDateFormat simpleDateFormat(String pattern) {
+        final SimpleDateFormat format = new SimpleDateFormat(pattern, LOCALE);
+        format.setTimeZone(TimeZone.getTimeZone(ZONE));
+        return format;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Differential tests of {@link DateValidator} against strict {@link SimpleDateFormat}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class DateValidatorTest {
+
+    private static final Locale LOCALE = new Locale("pt", "BR");
+
+    private static final String[] PATTERNS = {
+        "dd/MM/yyyy", "d/M/yyyy", "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy HH:mm:ss.SSS", "yyyyMMdd",
+        "yyyyMMddHHmmss", "yyyy-MM-dd'T'HH:mm:ss", "HH:mm", "dd/MM", "dd MMM yyyy", "EEE dd/MM/yyyy"
+    };
+
+    private static final String[] ABUTTING_TEXTS = {
+        "20201101", "2020111", "202011015", "5681101", "11", "123", "1234567", "2020110112345", "202011011234567"
+    };
+
+    @Test
+    public void reviewedCases() {
+        assertTrue(DataUtil.isValidDateInterval("1/2/2020", "3/2/2020", "dd/MM/yyyy"));
+        assertTrue(DataUtil.isValidDateInterval("2020-1-5", "2020-1-9", "yyyy-MM-dd"));
+        assertTrue(DataUtil.isValidDateString("2020-2-3", "yyyy-MM-dd"));
+        assertTrue(DataUtil.isValidDateString("1/2/2020", "dd/MM/yyyy"));
+        assertFalse(DataUtil.isValidDateString("01/02/20", "dd/MM/yyyy"));
+        assertFalse(DataUtil.isValidDateString("01/02/2100", "dd/MM/yyyy"));
+    }
+
+    @Test
+    public void validateAbuttingFieldsLikeSimpleDateFormat() {
+        for (String pattern : new String[]{"yyyyMMdd", "HHmmss", "yyyyMMddHHmmss"}) {
+            for (String text : ABUTTING_TEXTS) {
+                assertSameValidation(text, pattern);
+            }
+        }
+    }
+
+    @Test
+    public void validateLikeSimpleDateFormat() {
+        final Random random = new Random(1);
+        for (String pattern : PATTERNS) {
+            for (int i = 0; i < 5_000; ++i) {
+                assertSameValidation(randomText(random, pattern), pattern);
+            }
+        }
+    }
+
+    private static void assertSameValidation(String text, String pattern) {
+        final SimpleDateFormat format = new SimpleDateFormat(pattern, LOCALE);
+        format.setLenient(false);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        final ParsePosition position = new ParsePosition(0);
+        final Date expected = format.parse(text, position);
+        final boolean valid = expected != null && position.getIndex() == text.length();
+
+        final DateValidator validator = DateValidator.compile(pattern, LOCALE);
+        assertEquals(text + " / " + pattern, valid, validator.isValid(text));
+        if (valid) {
+            assertEquals(text + " / " + pattern, expected.getTime(), validator.parseLocalMillis(text));
+        }
+    }
+
+    /**
+     * <p>
+     *     Text close to the pattern, with fields with or without padding, out of range or with extra characters.
+     *     Years start at 1600, after the Julian dates of SimpleDateFormat.
+     * </p>
+     */
+    private static String randomText(Random random, String pattern) {
+        final StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                final int end = pattern.indexOf('\'', i + 1);
+                sb.append(pattern, i + 1, end);
+                i = end + 1;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                ++count;
+            }
+            i += count;
+            if (c == 'E') {
+                sb.append(random.nextBoolean() ? "seg." : "dom.");
+            } else if (c == 'M' && count >= 3) {
+                sb.append(random.nextBoolean() ? "jan." : "fev.");
+            } else if (Character.isLetter(c)) {
+                final int value = c == 'y' ? 1600 + random.nextInt(500) : random.nextInt(maxValue(c) + 2);
+                final StringBuilder digits = new StringBuilder(Integer.toString(value));
+                while (random.nextInt(3) > 0 && digits.length() < count) {
+                    digits.insert(0, '0');
+                }
+                if (random.nextInt(50) == 0) {
+                    digits.append('x');
+                }
+                sb.append(digits);
+            } else {
+                sb.append(random.nextInt(40) == 0 ? '#' : c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int maxValue(char letter) {
+        switch (letter) {
+            case 'M':
+                return 12;
+            case 'd':
+                return 31;
+            case 'H':
+                return 23;
+            case 'm':
+            case 's':
+                return 59;
+            default:
+                return 999;
+        }
+    }
+}
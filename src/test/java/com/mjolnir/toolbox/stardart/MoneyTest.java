@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020. Fenrir Solucoes em Tecnologia. All rights reserved.
+ *  Fenrir Systems, Odin System and All the Programing Code of this softwares are private.
+ */
+package com.mjolnir.toolbox.stardart;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ *     Tests of {@link Money}.
+ * </p>
+ *
+ * @author Felipe de Andrade Batista
+ */
+public class MoneyTest {
+
+    @Test
+    public void splitReviewedCases() {
+        assertArrayEquals(cents(1, 0, 0), Money.ofCents(1).split(3));
+        assertArrayEquals(cents(34, 33, 33), Money.ofCents(100).split(3));
+        assertArrayEquals(cents(-34, -33, -33), Money.ofCents(-100).split(3));
+    }
+
+    @Test
+    public void splitPartsWithinOneCent() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 100_000; ++i) {
+            final long total = random.nextBoolean() ? random.nextLong() : random.nextInt(20_001) - 10_000;
+            final Money[] parts = Money.ofCents(total).split(1 + random.nextInt(50));
+            long sum = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Money part : parts) {
+                sum += part.getCents();
+                min = Math.min(min, part.getCents());
+                max = Math.max(max, part.getCents());
+                assertTrue(part.signum() * Long.signum(total) >= 0);
+            }
+            assertEquals(total, sum);
+            assertTrue(max - min <= 1);
+        }
+    }
+
+    @Test
+    public void parseReviewedCases() {
+        assertEquals(Money.ofCents(100), Money.parse("1,00000000000000000001"));
+        assertEquals(Money.ofCents(123_456), Money.parse("1.234,56"));
+        assertEquals(Money.ofCents(-123_456_790), Money.parse("-R$ 1.234.567,891"));
+        assertEquals(Money.ofCents(Long.MAX_VALUE), Money.parse("92.233.720.368.547.758,07"));
+        for (String text : new String[]{"1.2.3", "1.23", "1.2345", "1.", ".100", "1,2,3", "", "R$",
+            "92233720368547758,08", "99999999999999999999"}) {
+            try {
+                Money.parse(text);
+                fail("Accepted " + text);
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void parseFormattedValues() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 100_000; ++i) {
+            final Money money = Money.ofCents(random.nextLong());
+            assertEquals(money, Money.parse(money.format()));
+            assertEquals(money, Money.parse(money.formatCurrency()));
+        }
+    }
+
+    private static Money[] cents(long... values) {
+        final Money[] result = new Money[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = Money.ofCents(values[i]);
+        }
+        return result;
+    }
+}